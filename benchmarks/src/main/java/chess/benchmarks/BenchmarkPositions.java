@@ -0,0 +1,83 @@
+package chess.benchmarks;
+
+import chess.engine.board.Board;
+import chess.engine.board.BoardUtils;
+import chess.engine.board.Move;
+import chess.engine.perft.PerftPosition;
+import chess.engine.pieces.King;
+import chess.engine.pieces.Pawn;
+import chess.engine.pieces.Team;
+
+/*****************************************************************************
+ * The positions the benchmarks run on. Kiwipete has most kinds of moves in
+ * one position, the others cover En Passant, promotion and checkmate.
+ * @author Aaron Teague
+ * I was helped by the sites www.stackoverflow.com, www.stackexchange.com,
+ * and chessprogramming.wikispaces.com
+ *****************************************************************************/
+public enum BenchmarkPositions {
+
+	START {
+		@Override
+		public Board createBoard(){
+			return Board.createStandardBoard();
+		}
+	},
+	KIWIPETE {
+		@Override
+		public Board createBoard(){
+			return PerftPosition.KIWIPETE.createBoard();
+		}
+	},
+	EN_PASSANT {
+		@Override
+		public Board createBoard(){
+			return play(Board.createStandardBoard(), "e2", "e4", "a7", "a6", "e4", "e5", "d7", "d5");
+		}
+	},
+	PROMOTION {
+		@Override
+		public Board createBoard(){
+			final Board.Builder builder = new Board.Builder();
+			builder.setPiece(new King(Team.BLACK, 4, false, false));
+			builder.setPiece(new Pawn(Team.WHITE, 8, false));
+			builder.setPiece(new King(Team.WHITE, 60, false, false));
+			builder.setMoveMaker(Team.WHITE);
+			return builder.build();
+		}
+	},
+	FOOLS_MATE {
+		@Override
+		public Board createBoard(){
+			return play(Board.createStandardBoard(), "f2", "f3", "e7", "e5", "g2", "g4", "d8", "h4");
+		}
+	};
+
+	public abstract Board createBoard();
+
+	/**************************************************************
+	 * Finds a legal move of the player to move whose class has
+	 * the simple name passed in, e.g. "PawnJump".
+	 * @param board
+	 * @param moveType
+	 * @return Move
+	 **************************************************************/
+	public static Move findMove(final Board board, final String moveType){
+		for(final Move move : board.currentPlayer().getLegalMoves()){
+			if(move.getClass().getSimpleName().equals(moveType))
+				return move;
+		}
+		throw new RuntimeException("No " + moveType + " on the board!");
+	}
+
+	private static Board play(final Board board, final String... squares){
+		Board current = board;
+		for(int i = 0; i < squares.length; i += 2){
+			final Move move = Move.MoveFactory.createMove(current, BoardUtils.getCoordinateAtPosition(squares[i]),
+					BoardUtils.getCoordinateAtPosition(squares[i + 1]));
+			current = current.currentPlayer().makeMove(move).getToBoard();
+		}
+		return current;
+	}
+
+}
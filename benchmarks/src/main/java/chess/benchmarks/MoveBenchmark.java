@@ -0,0 +1,104 @@
+package chess.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import chess.engine.board.Board;
+import chess.engine.board.Move;
+import chess.engine.player.MoveTransition;
+
+/*******************************************************************************
+ * Times executing each kind of Move, making it through Player.makeMove, and
+ * finding it with MoveFactory.createMove. A Player keeps its legal moves, so
+ * makeMove and createMove get a Board that hasn't been asked before on every
+ * call. Those boards are built before each iteration, which is a batch of one
+ * call per board, so building them isn't timed. The batch is timed as one
+ * shot, its score is divided by the calls in it.
+ * @author Aaron Teague
+ *******************************************************************************/
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class MoveBenchmark {
+
+	static final int BOARDS_PER_ITERATION = 10000;
+
+	@Param({"MajorMove", "MajorAttackMove", "PawnMove", "PawnAttackMove", "PawnJump",
+			"PawnEnPassantAttackMove", "PawnPromotion", "KingSideCastleMove", "QueenSideCastleMove"})
+	public String moveType;
+
+	private Move move;
+	//Boards whose legal moves haven't been calculated yet, makeMove and createMove have to calculate them
+	private final Board[] freshBoards = new Board[BOARDS_PER_ITERATION];
+	private int nextBoard;
+
+	@Setup(Level.Trial)
+	public void setUpMove(){
+		this.move = BenchmarkPositions.findMove(positionOf(this.moveType).createBoard(), this.moveType);
+	}
+
+	@Setup(Level.Iteration)
+	public void setUpFreshBoards(){
+		final BenchmarkPositions position = positionOf(this.moveType);
+		for(int i = 0; i < this.freshBoards.length; i++){
+			this.freshBoards[i] = position.createBoard();
+		}
+		this.nextBoard = 0;
+	}
+
+	private static BenchmarkPositions positionOf(final String moveType){
+		if(moveType.equals("PawnEnPassantAttackMove"))
+			return BenchmarkPositions.EN_PASSANT;
+		if(moveType.equals("PawnPromotion"))
+			return BenchmarkPositions.PROMOTION;
+		return BenchmarkPositions.KIWIPETE;
+	}
+
+	@Benchmark
+	public Board execute(){
+		return this.move.execute();
+	}
+
+	/*************************************************************************
+	 * The move was found on another board of the same position, moves are
+	 * equal by their piece and tiles so it is legal on every fresh board
+	 *************************************************************************/
+	@Benchmark
+	@BenchmarkMode(Mode.SingleShotTime)
+	@Warmup(iterations = 10, batchSize = BOARDS_PER_ITERATION)
+	@Measurement(iterations = 10, batchSize = BOARDS_PER_ITERATION)
+	@OperationsPerInvocation(BOARDS_PER_ITERATION)
+	public MoveTransition makeMove(){
+		return nextBoard().currentPlayer().makeMove(this.move);
+	}
+
+	@Benchmark
+	@BenchmarkMode(Mode.SingleShotTime)
+	@Warmup(iterations = 10, batchSize = BOARDS_PER_ITERATION)
+	@Measurement(iterations = 10, batchSize = BOARDS_PER_ITERATION)
+	@OperationsPerInvocation(BOARDS_PER_ITERATION)
+	public Move createMove(){
+		return Move.MoveFactory.createMove(nextBoard(), this.move.getCurrentCoordinate(), this.move.getDestinationCoordinate());
+	}
+
+	private Board nextBoard(){
+		return this.freshBoards[this.nextBoard++];
+	}
+
+}
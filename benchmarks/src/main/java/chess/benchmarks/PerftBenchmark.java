@@ -0,0 +1,64 @@
+package chess.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import chess.engine.board.Board;
+import chess.engine.board.SearchBoard;
+import chess.engine.perft.Perft;
+import chess.engine.perft.PerftPosition;
+
+/*****************************************************************************
+ * Times a whole perft count, the throughput of move generation and making
+ * @author Aaron Teague
+ *****************************************************************************/
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Thread)
+public class PerftBenchmark {
+
+	@Param({"START", "KIWIPETE"})
+	public PerftPosition position;
+
+	@Param({"3"})
+	public int depth;
+
+	private Board board;
+	private SearchBoard searchBoard;
+
+	@Setup
+	public void setUp(){
+		this.board = this.position.createBoard();
+		this.searchBoard = new SearchBoard(this.board);
+	}
+
+	@Benchmark
+	public long perft(){
+		return Perft.perft(this.board, this.depth);
+	}
+
+	/**************************************************************
+	 * The same count with PackedMoves generated into MoveLists and
+	 * made in place on a SearchBoard
+	 * @return long nodes
+	 **************************************************************/
+	@Benchmark
+	public long perftSearchBoard(){
+		return Perft.perft(this.searchBoard, this.depth);
+	}
+
+}
@@ -0,0 +1,59 @@
+package chess.benchmarks;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import chess.engine.board.Board;
+import chess.engine.pieces.Piece;
+import chess.engine.pieces.Piece.PieceType;
+
+/*****************************************************************************
+ * Times calculateLegalMoves of every piece of one type on Kiwipete
+ * @author Aaron Teague
+ *****************************************************************************/
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class PieceBenchmark {
+
+	@Param({"PAWN", "KNIGHT", "BISHOP", "ROOK", "QUEEN", "KING"})
+	public PieceType pieceType;
+
+	private Board board;
+	private List<Piece> pieces;
+
+	@Setup
+	public void setUp(){
+		this.board = BenchmarkPositions.KIWIPETE.createBoard();
+		this.pieces = new ArrayList<>();
+		for(final Piece piece : this.board.getAllPieces()){
+			if(piece.getPieceType() == this.pieceType)
+				this.pieces.add(piece);
+		}
+	}
+
+	@Benchmark
+	public void calculateLegalMoves(final Blackhole blackhole){
+		for(final Piece piece : this.pieces){
+			blackhole.consume(piece.calculateLegalMoves(this.board));
+		}
+	}
+
+}
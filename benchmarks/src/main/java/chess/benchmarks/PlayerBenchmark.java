@@ -0,0 +1,75 @@
+package chess.benchmarks;
+
+import java.util.Collection;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import chess.engine.board.Board;
+import chess.engine.board.Move;
+
+/*********************************************************************************
+ * Times the Player's questions about a position. A Player keeps its answers, so
+ * every call gets a Board that hasn't been asked before. The boards of an
+ * iteration are built before it starts and each iteration is a batch of one
+ * call per board, so building them isn't timed.
+ * @author Aaron Teague
+ *********************************************************************************/
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 10, batchSize = PlayerBenchmark.BOARDS_PER_ITERATION)
+@Measurement(iterations = 10, batchSize = PlayerBenchmark.BOARDS_PER_ITERATION)
+//A single shot is timed over the whole batch, this makes the score the time of one call
+@OperationsPerInvocation(PlayerBenchmark.BOARDS_PER_ITERATION)
+@Fork(1)
+@State(Scope.Thread)
+public class PlayerBenchmark {
+
+	static final int BOARDS_PER_ITERATION = 10000;
+
+	@Param({"START", "KIWIPETE", "FOOLS_MATE"})
+	public BenchmarkPositions position;
+
+	private final Board[] boards = new Board[BOARDS_PER_ITERATION];
+	private int nextBoard;
+
+	@Setup(Level.Iteration)
+	public void setUpBoards(){
+		for(int i = 0; i < this.boards.length; i++){
+			this.boards[i] = this.position.createBoard();
+		}
+		this.nextBoard = 0;
+	}
+
+	@Benchmark
+	public boolean isInCheckMate(){
+		return nextBoard().currentPlayer().isInCheckMate();
+	}
+
+	@Benchmark
+	public Collection<Move> getLegalMoves(){
+		return nextBoard().currentPlayer().getLegalMoves();
+	}
+
+	@Benchmark
+	public boolean isInCheck(){
+		return nextBoard().currentPlayer().isInCheck();
+	}
+
+	private Board nextBoard(){
+		return this.boards[this.nextBoard++];
+	}
+
+}
@@ -1,11 +1,23 @@
+import java.io.IOException;
+
 import com.chess.gui.Table;
 
 import chess.engine.board.Board;
+import chess.engine.uci.UciEngine;
 
 
 public class Chess {
 	
-	public static void main(String[] args){
+	/*****************************************************************
+	 * Opens the GUI, or with the argument uci runs the engine
+	 * without it over the UCI protocol on stdin and stdout
+	 *****************************************************************/
+	public static void main(String[] args) throws IOException, InterruptedException {
+		
+		if(args.length > 0 && args[0].equalsIgnoreCase("uci")){
+			UciEngine.main(args);
+			return;
+		}
 		
 		Board board = Board.createStandardBoard();
 		
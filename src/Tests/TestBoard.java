@@ -1,6 +1,7 @@
 package Tests;
 
 
+import chess.engine.board.BitBoards;
 import chess.engine.board.Board;
 import chess.engine.board.Board.Builder;
 import chess.engine.board.BoardUtils;
@@ -12,6 +13,7 @@ import chess.engine.pieces.King;
 import chess.engine.pieces.Knight;
 import chess.engine.pieces.Pawn;
 import chess.engine.pieces.Piece;
+import chess.engine.pieces.Piece.PieceType;
 
 
 import chess.engine.pieces.Queen;
@@ -21,6 +23,8 @@ import chess.engine.player.MoveTransition;
 
 import com.google.common.collect.Iterables;
 
+import java.util.Random;
+
 import org.junit.Test;
 
 import static junit.framework.Assert.assertTrue;
@@ -249,6 +253,124 @@ public class TestBoard {
 	    }
 
 
+	    @Test
+	    public void testInitialBitBoards() {
+	        final Board board = Board.createStandardBoard();
+	        assertEquals(BitBoards.count(board.getOccupiedBitBoard()), 32);
+	        assertEquals(BitBoards.count(board.getTeamBitBoard(Team.WHITE)), 16);
+	        assertEquals(BitBoards.count(board.getTeamBitBoard(Team.BLACK)), 16);
+	        assertEquals(board.getPieceBitBoard(Team.WHITE, PieceType.KING), BitBoards.tileMask(60));
+	        assertEquals(board.getPieceBitBoard(Team.BLACK, PieceType.QUEEN), BitBoards.tileMask(3));
+	        assertEquals(board.getPieceBitBoard(Team.WHITE, PieceType.PAWN), 0x00FF000000000000L);
+	        assertEquals(board.getPieceBitBoard(Team.BLACK, PieceType.PAWN), 0x000000000000FF00L);
+	        for (int i = 0; i < BoardUtils.NUM_TILES; i++) {
+	            assertEquals(board.isTileOccupied(i), board.getTile(i).isTileOccupied());
+	        }
+	        assertTrue(board.isTileOccupiedBy(0, Team.BLACK));
+	        assertFalse(board.isTileOccupiedBy(0, Team.WHITE));
+	    }
+
+	    @Test
+	    public void testAttackMaps() {
+	        final Board board = Board.createStandardBoard();
+	        for (int i = 0; i < BoardUtils.NUM_TILES; i++) {
+	            for (final Team team : Team.values()) {
+	                assertEquals(board.isTileAttacked(i, team), BitBoards.isSet(board.getAttackMap(team), i));
+	            }
+	        }
+	        //Third and sixth ranks are covered, fourth and fifth are not
+	        for (int i = 40; i < 48; i++) {
+	            assertTrue(board.isTileAttacked(i, Team.WHITE));
+	            assertFalse(board.isTileAttacked(i - 8, Team.WHITE));
+	        }
+	        for (int i = 16; i < 24; i++) {
+	            assertTrue(board.isTileAttacked(i, Team.BLACK));
+	            assertFalse(board.isTileAttacked(i + 8, Team.BLACK));
+	        }
+
+	        final Board.Builder builder = new Board.Builder();
+	        builder.setPiece(new King(Team.BLACK, 4, false, false));
+	        builder.setPiece(new King(Team.WHITE, 60, false, false));
+	        builder.setPiece(new Rook(Team.WHITE, 56));
+	        builder.setPiece(new Pawn(Team.WHITE, 40));
+	        builder.setPiece(new Knight(Team.WHITE, 63));
+	        builder.setMoveMaker(Team.WHITE);
+	        final Board position = builder.build();
+	        //The Rook is blocked by its own Pawn
+	        assertTrue(position.isTileAttacked(40, Team.WHITE));
+	        assertFalse(position.isTileAttacked(32, Team.WHITE));
+	        //The Knight in the corner doesn't wrap around the board
+	        assertEquals(BitBoards.knightAttacks(BitBoards.tileMask(63)), BitBoards.tileMask(53) | BitBoards.tileMask(46));
+	        assertTrue(position.isTileAttacked(46, Team.WHITE));
+	        assertFalse(position.isTileAttacked(47, Team.WHITE));
+	        //The Pawn attacks diagonally forward only
+	        assertTrue(position.isTileAttacked(33, Team.WHITE));
+	        assertFalse(position.isTileAttacked(31, Team.WHITE));
+	        assertFalse(position.currentPlayer().isInCheck());
+	        assertFalse(position.currentPlayer().getOpponent().isInCheck());
+	    }
+
+	    @Test
+	    public void testSliderAttacks() {
+	        final Random random = new Random(17);
+	        for (int tile = 0; tile < BoardUtils.NUM_TILES; tile++) {
+	            for (int i = 0; i < 200; i++) {
+	                final long occupied = random.nextLong() & random.nextLong();
+	                assertEquals(BitBoards.rookAttacks(tile, occupied), walkAttacks(tile, occupied, ROOK_STEPS));
+	                assertEquals(BitBoards.bishopAttacks(tile, occupied), walkAttacks(tile, occupied, BISHOP_STEPS));
+	                assertEquals(BitBoards.queenAttacks(tile, occupied),
+	                        walkAttacks(tile, occupied, ROOK_STEPS) | walkAttacks(tile, occupied, BISHOP_STEPS));
+	            }
+	        }
+	        //A Rook in the corner of an empty board sees its whole row and column
+	        assertEquals(BitBoards.count(BitBoards.rookAttacks(0, BitBoards.EMPTY)), 14);
+	        assertEquals(BitBoards.count(BitBoards.bishopAttacks(27, BitBoards.EMPTY)), 13);
+	    }
+
+	    @Test
+	    public void testLeaperAttackTables() {
+	        for (int tile = 0; tile < BoardUtils.NUM_TILES; tile++) {
+	            final long mask = BitBoards.tileMask(tile);
+	            assertEquals(BitBoards.knightAttacksFrom(tile), BitBoards.knightAttacks(mask));
+	            assertEquals(BitBoards.kingAttacksFrom(tile), BitBoards.kingAttacks(mask));
+	            assertEquals(BitBoards.knightDestinations(tile).length, BitBoards.count(BitBoards.knightAttacks(mask)));
+	            assertEquals(BitBoards.kingDestinations(tile).length, BitBoards.count(BitBoards.kingAttacks(mask)));
+	            for (final Team team : Team.values()) {
+	                assertEquals(BitBoards.pawnAttacksFrom(team, tile), BitBoards.pawnAttacks(team, mask));
+	                for (final int destination : BitBoards.pawnAttackDestinations(team, tile)) {
+	                    assertTrue(BitBoards.isSet(BitBoards.pawnAttacks(team, mask), destination));
+	                }
+	            }
+	            for (final int destination : BitBoards.knightDestinations(tile)) {
+	                assertTrue(BitBoards.isSet(BitBoards.knightAttacks(mask), destination));
+	            }
+	        }
+	        //A Knight in the corner only has two jumps, a King on the edge five tiles
+	        assertEquals(BitBoards.knightDestinations(0).length, 2);
+	        assertEquals(BitBoards.kingDestinations(32).length, 5);
+	        assertEquals(BitBoards.pawnAttackDestinations(Team.WHITE, 48).length, 1);
+	    }
+
+	    private static final int[][] ROOK_STEPS = {{-1, 0}, {1, 0}, {0, -1}, {0, 1}};
+	    private static final int[][] BISHOP_STEPS = {{-1, -1}, {-1, 1}, {1, -1}, {1, 1}};
+
+	    private static long walkAttacks(final int tile, final long occupied, final int[][] steps) {
+	        long attacks = 0L;
+	        for (final int[] step : steps) {
+	            int row = tile / 8 + step[0];
+	            int column = tile % 8 + step[1];
+	            while (row >= 0 && row < 8 && column >= 0 && column < 8) {
+	                attacks |= 1L << (row * 8 + column);
+	                if ((occupied & (1L << (row * 8 + column))) != 0) {
+	                    break;
+	                }
+	                row += step[0];
+	                column += step[1];
+	            }
+	        }
+	        return attacks;
+	    }
+
 	    private static int calculatedActivesFor(final Board board,
 	                                            final Team Team) {
 	        int count = 0;
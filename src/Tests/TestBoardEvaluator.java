@@ -0,0 +1,156 @@
+package Tests;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import org.junit.Test;
+
+import chess.engine.board.Board;
+import chess.engine.board.Move;
+import chess.engine.board.SearchBoard;
+import chess.engine.evaluation.BoardEvaluator;
+import chess.engine.evaluation.PieceSquareTables;
+import chess.engine.evaluation.StandardBoardEvaluator;
+import chess.engine.perft.PerftPosition;
+import chess.engine.pieces.Bishop;
+import chess.engine.pieces.King;
+import chess.engine.pieces.Knight;
+import chess.engine.pieces.Pawn;
+import chess.engine.pieces.Piece;
+import chess.engine.pieces.Queen;
+import chess.engine.pieces.Rook;
+import chess.engine.pieces.Team;
+import chess.engine.player.MoveTransition;
+
+public class TestBoardEvaluator {
+
+    private final BoardEvaluator evaluator = StandardBoardEvaluator.get();
+
+    @Test
+    public void testStartingPositionIsEven() {
+        assertEquals(this.evaluator.evaluate(Board.createStandardBoard()), 0);
+    }
+
+    @Test
+    public void testMirroredBoardsScoreOpposite() {
+        final Piece[] pieces = {
+                new King(Team.WHITE, 62, false, false), new Queen(Team.WHITE, 59), new Rook(Team.WHITE, 56),
+                new Knight(Team.WHITE, 45), new Pawn(Team.WHITE, 48), new Pawn(Team.WHITE, 49),
+                new Pawn(Team.WHITE, 36), new Pawn(Team.WHITE, 53), new Pawn(Team.WHITE, 54),
+                new Pawn(Team.WHITE, 55), new King(Team.BLACK, 4, false, false), new Rook(Team.BLACK, 7),
+                new Bishop(Team.BLACK, 26), new Pawn(Team.BLACK, 8), new Pawn(Team.BLACK, 19),
+                new Pawn(Team.BLACK, 13), new Pawn(Team.BLACK, 22), new Pawn(Team.BLACK, 31)
+        };
+        final Board.Builder builder = new Board.Builder();
+        final Board.Builder mirrorBuilder = new Board.Builder();
+        for (final Piece piece : pieces) {
+            builder.setPiece(piece);
+            mirrorBuilder.setPiece(mirror(piece));
+        }
+        builder.setMoveMaker(Team.WHITE);
+        mirrorBuilder.setMoveMaker(Team.BLACK);
+        final int score = this.evaluator.evaluate(builder.build());
+        assertTrue(score > 0);
+        assertEquals(this.evaluator.evaluate(mirrorBuilder.build()), -score);
+    }
+
+    @Test
+    public void testPassedPawnIsWorthMoreFurtherUp() {
+        final int farPawn = this.evaluator.evaluate(createPawnEnding(20));
+        final int nearPawn = this.evaluator.evaluate(createPawnEnding(44));
+        assertTrue(farPawn > nearPawn);
+        assertTrue(nearPawn > 0);
+    }
+
+    @Test
+    public void testTaper() {
+        assertEquals(PieceSquareTables.taper(100, 0, PieceSquareTables.TOTAL_PHASE), 100);
+        assertEquals(PieceSquareTables.taper(100, 0, 0), 0);
+        assertEquals(PieceSquareTables.taper(100, 200, PieceSquareTables.TOTAL_PHASE / 2), 150);
+        //More pieces than the starting position still counts as all middlegame
+        assertEquals(PieceSquareTables.taper(100, 0, PieceSquareTables.TOTAL_PHASE + 8), 100);
+    }
+
+    @Test
+    public void testIncrementalScoresMatchFreshScores() {
+        for (final PerftPosition position : PerftPosition.values()) {
+            final Board board = position.createBoard();
+            assertScoresUpdated(board, new SearchBoard(board), 2);
+        }
+        //White can promote by moving or by taking, and take En Passant after c7-c5
+        final Board.Builder builder = new Board.Builder();
+        builder.setPiece(new King(Team.WHITE, 60, false, false));
+        builder.setPiece(new King(Team.BLACK, 4, false, false));
+        builder.setPiece(new Pawn(Team.WHITE, 9, false));
+        builder.setPiece(new Rook(Team.BLACK, 0));
+        builder.setPiece(new Pawn(Team.WHITE, 27, false));
+        builder.setPiece(new Pawn(Team.BLACK, 10));
+        builder.setMoveMaker(Team.BLACK);
+        final Board promotions = builder.build();
+        assertScoresUpdated(promotions, new SearchBoard(promotions), 3);
+    }
+
+    /**
+     * Walks every move to the depth and checks that the scores the moves
+     * updated are the scores of the same pieces added up from scratch, on
+     * the Board and on the SearchBoard, and that unmaking restores them.
+     * The evaluator scores both boards the same.
+     */
+    private static void assertScoresUpdated(final Board board, final SearchBoard searchBoard, final int depth) {
+        final Board.Builder builder = new Board.Builder();
+        for (final Piece piece : board.getAllPieces()) {
+            builder.setPiece(piece);
+        }
+        builder.setMoveMaker(board.currentPlayer().getTeam());
+        final Board freshBoard = builder.build();
+        assertEquals(board.getMiddlegameScore(), freshBoard.getMiddlegameScore());
+        assertEquals(board.getEndgameScore(), freshBoard.getEndgameScore());
+        assertEquals(board.getPhase(), freshBoard.getPhase());
+        assertEquals(searchBoard.getMiddlegameScore(), board.getMiddlegameScore());
+        assertEquals(searchBoard.getEndgameScore(), board.getEndgameScore());
+        assertEquals(searchBoard.getPhase(), board.getPhase());
+        assertEquals(StandardBoardEvaluator.get().evaluate(searchBoard), StandardBoardEvaluator.get().evaluate(board));
+        if (depth == 0) {
+            return;
+        }
+        for (final Move move : board.currentPlayer().getLegalMoves()) {
+            final MoveTransition transition = board.currentPlayer().makeMove(move);
+            if (!transition.getMoveStatus().isDone()) {
+                continue;
+            }
+            searchBoard.makeMove(move);
+            assertScoresUpdated(transition.getToBoard(), searchBoard, depth - 1);
+            searchBoard.unmakeMove();
+            assertEquals(searchBoard.getMiddlegameScore(), board.getMiddlegameScore());
+        }
+    }
+
+    private static Board createPawnEnding(final int pawnTile) {
+        final Board.Builder builder = new Board.Builder();
+        builder.setPiece(new King(Team.WHITE, 62, false, false));
+        builder.setPiece(new King(Team.BLACK, 0, false, false));
+        builder.setPiece(new Pawn(Team.WHITE, pawnTile));
+        builder.setMoveMaker(Team.WHITE);
+        return builder.build();
+    }
+
+    private static Piece mirror(final Piece piece) {
+        final Team team = piece.getPieceTeam().opposite();
+        final int tile = piece.getPiecePosition() ^ 56;
+        switch (piece.getPieceType()) {
+            case PAWN:
+                return new Pawn(team, tile);
+            case KNIGHT:
+                return new Knight(team, tile);
+            case BISHOP:
+                return new Bishop(team, tile);
+            case ROOK:
+                return new Rook(team, tile);
+            case QUEEN:
+                return new Queen(team, tile);
+            default:
+                return new King(team, tile, false, false);
+        }
+    }
+
+}
@@ -0,0 +1,121 @@
+package Tests;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import org.junit.Test;
+
+import chess.engine.board.Board;
+import chess.engine.board.BoardUtils;
+import chess.engine.board.FenUtilities;
+import chess.engine.board.Move;
+import chess.engine.board.SearchBoard;
+import chess.engine.perft.PerftPosition;
+import chess.engine.player.MoveTransition;
+
+public class TestFen {
+
+    @Test
+    public void testStandardBoard() {
+        final Board board = Board.createStandardBoard();
+        assertEquals(FenUtilities.createFen(board), FenUtilities.STANDARD_FEN);
+        assertEquals(FenUtilities.createBoard(FenUtilities.STANDARD_FEN), board);
+    }
+
+    @Test
+    public void testRoundTrip() {
+        final String[] fens = {
+            "r3k2r/p1ppqpb1/bn2pnp1/3PN3/1p2P3/2N2Q1p/PPPBBPPP/R3K2R w KQkq - 0 1",
+            "8/2p5/3p4/KP5r/1R3p1k/8/4P1P1/8 w - - 12 40",
+            "r3k2r/8/8/8/8/8/8/R3K2R b Kq - 3 17",
+            "8/8/8/8/k2Pp2Q/8/8/3K4 b - d3 0 1",
+            "rnbqkbnr/pp1ppppp/8/2pP4/8/8/PPP1PPPP/RNBQKBNR w KQkq c6 0 2"
+        };
+        for (final String fen : fens) {
+            final Board board = FenUtilities.createBoard(fen);
+            assertEquals(FenUtilities.createFen(board), fen);
+            assertEquals(board.getZobristKey(), FenUtilities.createBoard(FenUtilities.createFen(board)).getZobristKey());
+        }
+        for (final PerftPosition position : PerftPosition.values()) {
+            assertEquals(FenUtilities.createFen(position.createBoard()), position.getFen() + " 0 1");
+        }
+    }
+
+    @Test
+    public void testCastlingRights() {
+        final Board board = FenUtilities.createBoard("r3k2r/8/8/8/8/8/8/R3K2R w Qk - 0 1");
+        assertEquals(board.getCastlingRights(), BoardUtils.WHITE_QUEEN_SIDE | BoardUtils.BLACK_KING_SIDE);
+        assertEquals(FenUtilities.createFen(board), "r3k2r/8/8/8/8/8/8/R3K2R w Qk - 0 1");
+    }
+
+    @Test
+    public void testMoveCounters() {
+        Board board = Board.createStandardBoard();
+        board = play(board, "e2", "e4");
+        assertEquals(FenUtilities.createFen(board), "rnbqkbnr/pppppppp/8/8/4P3/8/PPPP1PPP/RNBQKBNR b KQkq e3 0 1");
+        board = play(board, "g8", "f6");
+        assertEquals(FenUtilities.createFen(board), "rnbqkb1r/pppppppp/5n2/8/4P3/8/PPPP1PPP/RNBQKBNR w KQkq - 1 2");
+        board = play(board, "g1", "f3");
+        board = play(board, "f6", "e4");
+        assertEquals(FenUtilities.createFen(board), "rnbqkb1r/pppppppp/8/8/4n3/5N2/PPPP1PPP/RNBQKB1R w KQkq - 0 3");
+
+        //The search board keeps the same counters and hands them back
+        final SearchBoard searchBoard = new SearchBoard(board);
+        final Move move = Move.MoveFactory.createMove(board, BoardUtils.getCoordinateAtPosition("f1"),
+                BoardUtils.getCoordinateAtPosition("e2"));
+        searchBoard.makeMove(move);
+        assertEquals(FenUtilities.createFen(searchBoard.toBoard()), FenUtilities.createFen(board.currentPlayer().makeMove(move).getToBoard()));
+        searchBoard.unmakeMove();
+        assertEquals(FenUtilities.createFen(searchBoard.toBoard()), FenUtilities.createFen(board));
+    }
+
+    @Test
+    public void testMissingCountersDefault() {
+        final Board board = FenUtilities.createBoard("8/8/8/8/k2Pp2Q/8/8/3K4 b - d3");
+        assertEquals(board.getHalfMoveClock(), 0);
+        assertEquals(board.getFullMoveNumber(), 1);
+    }
+
+    @Test
+    public void testWhiteSpace() {
+        final Board board = FenUtilities.createBoard("  r3k2r/8/8/8/8/8/8/R3K2R   b  Kq -\t3 17\r\n");
+        assertEquals(FenUtilities.createFen(board), "r3k2r/8/8/8/8/8/8/R3K2R b Kq - 3 17");
+    }
+
+    @Test
+    public void testInvalidFen() {
+        final String[] fens = {
+            "",
+            "rnbqkbnr/pppppppp/8/8/8/8/PPPPPPPP w KQkq - 0 1",
+            "rnbqkbnr/pppppppp/9/8/8/8/PPPPPPPP/RNBQKBNR w KQkq - 0 1",
+            "rnbqkbnr/ppppxppp/8/8/8/8/PPPPPPPP/RNBQKBNR w KQkq - 0 1",
+            "rnbqkbnr/pppppppp/8/8/8/8/PPPPPPPP/RNBQKBNR x KQkq - 0 1",
+            "rnbqkbnr/pppppppp/8/8/8/8/PPPPPPPP/RNBQKBNR w KQxq - 0 1",
+            "rnbqkbnr/pppppppp/8/8/8/8/PPPPPPPP/RNBQKBNR w QK - 0 1",
+            "rnbqkbnr/pppppppp/8/8/8/8/PPPPPPPP/RNBQKBNR w KKq - 0 1",
+            "rnbqkbnr/pppppppp/8/8/8/8/PPPPPPPP/RNBQKBNR w KQkq - 0",
+            "rnbqkbnr/pppppppp/8/8/8/8/PPPPPPPP/RNBQKBNR w KQkq - 0 1 1",
+            "rnbqkbnr/pppppppp/8/8/8/8/PPPPPPPP/RNBQKBNR w KQkq e3 0 1",
+            "rnbqkbnr/pppppppp/8/8/8/8/PPPPPPPP/RNBQKBNR w KQkq - a 1",
+            "rnbqkbnr/pppppppp/8/8/8/8/PPPPPPPP/RNBQKBNR w KQkq - 0 0"
+        };
+        for (final String fen : fens) {
+            try {
+                FenUtilities.createBoard(fen);
+            } catch (final RuntimeException e) {
+                assertTrue(e.getMessage().startsWith("Invalid FEN"));
+                continue;
+            }
+            throw new AssertionError("Expected an invalid FEN: " + fen);
+        }
+    }
+
+    private static Board play(final Board board, final String from, final String to) {
+        final Move move = Move.MoveFactory.createMove(board, BoardUtils.getCoordinateAtPosition(from),
+                BoardUtils.getCoordinateAtPosition(to));
+        final MoveTransition transition = board.currentPlayer().makeMove(move);
+        assertTrue(transition.getMoveStatus().isDone());
+        return transition.getToBoard();
+    }
+
+}
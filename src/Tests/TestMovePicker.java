@@ -0,0 +1,111 @@
+package Tests;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+
+import org.junit.Test;
+
+import chess.engine.board.FenUtilities;
+import chess.engine.board.MoveGenerator;
+import chess.engine.board.MoveList;
+import chess.engine.board.PackedMove;
+import chess.engine.board.SearchBoard;
+import chess.engine.pieces.Piece.PieceType;
+import chess.engine.pieces.Team;
+import chess.engine.search.MovePicker;
+import chess.engine.search.SearchHistory;
+
+public class TestMovePicker {
+
+    //Nxa4 and Qxa4 win a Rook, exd5 and Nxd5 win or trade for the Knight,
+    //Qxd5 and Qxh5 lose the Queen to a Pawn
+    private static final String FEN = "4k3/8/4p1p1/3n3p/r3P3/2N5/5PPP/3Q2K1 w - - 0 1";
+
+    @Test
+    public void testPickOrder() {
+        final SearchBoard board = new SearchBoard(FenUtilities.createBoard(FEN));
+        final MoveList legalMoves = generate(board);
+        final SearchHistory history = new SearchHistory();
+        //b2-b4 was a killer in another position, there is no Pawn on b2 here
+        history.addKiller(0, PackedMove.create(49, 33, PackedMove.PAWN_JUMP, PieceType.PAWN, null));
+        history.addKiller(0, find(legalMoves, "g2g3"));
+        history.addCutOff(Team.WHITE, find(legalMoves, "h2h3"), 4);
+        history.addCutOff(Team.WHITE, find(legalMoves, "f2f4"), 2);
+
+        final MovePicker picker = new MovePicker(history);
+        picker.reset(board, legalMoves, find(legalMoves, "d1d2"), find(legalMoves, "g1f1"), 0, false);
+        final List<String> picked = pickAll(picker);
+
+        assertEquals(picked.size(), legalMoves.size());
+        assertEquals(new HashSet<>(picked).size(), picked.size());
+        assertFalse(picked.contains("b2b4"));
+        final List<String> expectedStart = Arrays.asList("d1d2", "g1f1",
+                "c3a4", "d1a4", "e4d5", "c3d5",
+                "g2g3",
+                "h2h3", "f2f4");
+        assertEquals(picked.subList(0, expectedStart.size()), expectedStart);
+        assertEquals(picked.subList(picked.size() - 2, picked.size()), Arrays.asList("d1d5", "d1h5"));
+    }
+
+    @Test
+    public void testCapturesOnly() {
+        final SearchBoard board = new SearchBoard(FenUtilities.createBoard(FEN));
+        final MoveList legalMoves = generate(board);
+        final SearchHistory history = new SearchHistory();
+        history.addKiller(0, find(legalMoves, "g2g3"));
+
+        final MovePicker picker = new MovePicker(history);
+        //A quiet principal move is left out as well
+        picker.reset(board, legalMoves, find(legalMoves, "d1d2"), PackedMove.NONE, 0, true);
+        assertEquals(pickAll(picker), Arrays.asList("c3a4", "d1a4", "e4d5", "c3d5"));
+    }
+
+    @Test
+    public void testHistoryAge() {
+        final SearchBoard board = new SearchBoard(FenUtilities.createBoard(FEN));
+        final MoveList legalMoves = generate(board);
+        final int move = find(legalMoves, "h2h3");
+        final int otherMove = find(legalMoves, "f2f4");
+        final SearchHistory history = new SearchHistory();
+        history.addCutOff(Team.WHITE, move, 4);
+        history.addCutOff(Team.WHITE, otherMove, 3);
+        assertEquals(history.getHistory(Team.WHITE, move), 16);
+        assertEquals(history.getHistory(Team.BLACK, move), 0);
+
+        history.age();
+        assertEquals(history.getHistory(Team.WHITE, move), 8);
+        assertEquals(history.getHistory(Team.WHITE, otherMove), 4);
+        history.age();
+        assertEquals(history.getHistory(Team.WHITE, move), 4);
+        assertEquals(history.getHistory(Team.WHITE, otherMove), 2);
+    }
+
+    private static MoveList generate(final SearchBoard board) {
+        final MoveList legalMoves = new MoveList();
+        MoveGenerator.generateLegalMoves(board, legalMoves);
+        return legalMoves;
+    }
+
+    private static int find(final MoveList moves, final String coordinates) {
+        for (int i = 0; i < moves.size(); i++) {
+            if (PackedMove.toString(moves.get(i)).equals(coordinates)) {
+                return moves.get(i);
+            }
+        }
+        throw new AssertionError(coordinates + " isn't legal");
+    }
+
+    private static List<String> pickAll(final MovePicker picker) {
+        final List<String> picked = new ArrayList<>();
+        for (int packedMove = picker.nextMove(); packedMove != PackedMove.NONE; packedMove = picker.nextMove()) {
+            picked.add(PackedMove.toString(packedMove));
+        }
+        return picked;
+    }
+
+}
@@ -0,0 +1,105 @@
+package Tests;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import org.junit.Test;
+
+import chess.engine.board.Board;
+import chess.engine.board.BoardUtils;
+import chess.engine.board.Move;
+import chess.engine.board.PackedMove;
+import chess.engine.perft.PerftPosition;
+import chess.engine.pieces.King;
+import chess.engine.pieces.Pawn;
+import chess.engine.pieces.Piece.PieceType;
+import chess.engine.pieces.Rook;
+import chess.engine.pieces.Team;
+
+public class TestPackedMove {
+
+    @Test
+    public void testEveryLegalMoveRoundTrips() {
+        for (final PerftPosition position : PerftPosition.values()) {
+            final Board board = position.createBoard();
+            for (final Move move : board.currentPlayer().getLegalMoves()) {
+                final int packedMove = PackedMove.encode(move);
+                assertTrue(packedMove != PackedMove.NONE);
+                assertEquals(PackedMove.getFrom(packedMove), move.getCurrentCoordinate());
+                assertEquals(PackedMove.getTo(packedMove), move.getDestinationCoordinate());
+                assertEquals(PackedMove.getMovedPieceType(packedMove), move.getMovedPiece().getPieceType());
+                assertEquals(PackedMove.isCapture(packedMove), move.isAttack());
+                assertEquals(PackedMove.isCastle(packedMove), move.isCastlingMove());
+                assertEquals(PackedMove.toString(packedMove), BoardUtils.getCoordinateNotation(move));
+                assertEquals(PackedMove.decode(board, packedMove), move);
+                assertEquals(PackedMove.decode(board, PackedMove.toShort(packedMove)), move);
+            }
+        }
+    }
+
+    @Test
+    public void testFlags() {
+        final Board kiwipete = PerftPosition.KIWIPETE.createBoard();
+        final int castle = PackedMove.encode(Move.MoveFactory.createMove(kiwipete, 60, 62));
+        assertEquals(PackedMove.getFlags(castle), PackedMove.KING_SIDE_CASTLE);
+        assertTrue(PackedMove.isQuiet(castle));
+        final int queenSideCastle = PackedMove.encode(Move.MoveFactory.createMove(kiwipete, 60, 58));
+        assertEquals(PackedMove.getFlags(queenSideCastle), PackedMove.QUEEN_SIDE_CASTLE);
+        final int jump = PackedMove.encode(Move.MoveFactory.createMove(kiwipete, 48, 32));
+        assertEquals(PackedMove.getFlags(jump), PackedMove.PAWN_JUMP);
+        //Qf3xf6 takes the Knight
+        final int capture = PackedMove.encode(Move.MoveFactory.createMove(kiwipete, 45, 21));
+        assertEquals(PackedMove.getFlags(capture), PackedMove.CAPTURE);
+        assertEquals(PackedMove.getCapturedPieceType(capture), PieceType.KNIGHT);
+        assertEquals(PackedMove.getMovedPieceType(capture), PieceType.QUEEN);
+        assertFalse(PackedMove.isQuiet(capture));
+
+        final Board enPassant = play(Board.createStandardBoard(), "e2", "e4", "a7", "a6", "e4", "e5", "d7", "d5");
+        final int enPassantCapture = PackedMove.encode(Move.MoveFactory.createMove(enPassant, 28, 19));
+        assertTrue(PackedMove.isEnPassant(enPassantCapture));
+        assertTrue(PackedMove.isCapture(enPassantCapture));
+        assertEquals(PackedMove.getCapturedPieceType(enPassantCapture), PieceType.PAWN);
+
+        assertNull(PackedMove.getPromotionType(capture));
+        assertNull(PackedMove.getCapturedPieceType(jump));
+        assertEquals(PackedMove.encode(Move.NULL_MOVE), PackedMove.NONE);
+        assertEquals(PackedMove.decode(kiwipete, PackedMove.NONE), Move.NULL_MOVE);
+    }
+
+    @Test
+    public void testPromotions() {
+        final Board.Builder builder = new Board.Builder();
+        builder.setPiece(new King(Team.BLACK, 4, false, false));
+        builder.setPiece(new Rook(Team.BLACK, 1));
+        builder.setPiece(new Pawn(Team.WHITE, 8));
+        builder.setPiece(new King(Team.WHITE, 60, false, false));
+        builder.setMoveMaker(Team.WHITE);
+        final Board board = builder.build();
+
+        final int promotion = PackedMove.encode(Move.MoveFactory.createMove(board, 8, 0));
+        assertEquals(PackedMove.getFlags(promotion), PackedMove.QUEEN_PROMOTION);
+        assertEquals(PackedMove.getPromotionType(promotion), PieceType.QUEEN);
+        assertFalse(PackedMove.isQuiet(promotion));
+        assertEquals(PackedMove.toString(promotion), "a7a8q");
+
+        final int promotionCapture = PackedMove.encode(Move.MoveFactory.createMove(board, 8, 1));
+        assertEquals(PackedMove.getFlags(promotionCapture), PackedMove.QUEEN_PROMOTION_CAPTURE);
+        assertEquals(PackedMove.getCapturedPieceType(promotionCapture), PieceType.ROOK);
+        assertEquals(PackedMove.decode(board, promotionCapture), Move.MoveFactory.createMove(board, 8, 1));
+        //Only Queens are promoted to, so an under promotion isn't a legal move
+        assertEquals(PackedMove.decode(board, (PackedMove.KNIGHT_PROMOTION << 12) | (8 << 6)), Move.NULL_MOVE);
+    }
+
+    private static Board play(final Board board, final String... squares) {
+        Board current = board;
+        for (int i = 0; i < squares.length; i += 2) {
+            final Move move = Move.MoveFactory.createMove(current, BoardUtils.getCoordinateAtPosition(squares[i]),
+                    BoardUtils.getCoordinateAtPosition(squares[i + 1]));
+            current = current.currentPlayer().makeMove(move).getToBoard();
+        }
+        return current;
+    }
+
+}
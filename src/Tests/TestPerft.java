@@ -0,0 +1,98 @@
+package Tests;
+
+import static org.junit.Assert.assertEquals;
+
+import java.util.Map;
+import java.util.concurrent.ForkJoinPool;
+
+import org.junit.Test;
+
+import chess.engine.board.Board;
+import chess.engine.board.SearchBoard;
+import chess.engine.perft.ParallelPerft;
+import chess.engine.perft.Perft;
+import chess.engine.perft.PerftPosition;
+import chess.engine.perft.PerftResult;
+
+public class TestPerft {
+
+    @Test
+    public void testStartPosition() {
+        assertPerft(PerftPosition.START, 4);
+    }
+
+    @Test
+    public void testKiwipete() {
+        assertPerft(PerftPosition.KIWIPETE, 3);
+    }
+
+    @Test
+    public void testEndgame() {
+        assertPerft(PerftPosition.ENDGAME, 4);
+    }
+
+    @Test
+    public void testCastling() {
+        assertPerft(PerftPosition.CASTLING, 3);
+    }
+
+    @Test
+    public void testIllegalEnPassant() {
+        assertPerft(PerftPosition.EN_PASSANT, 1);
+    }
+
+    @Test
+    public void testDivideAddsUpToPerft() {
+        final Board board = PerftPosition.KIWIPETE.createBoard();
+        final Map<String, Long> divide = Perft.divide(board, 2);
+        assertEquals(divide.size(), 48);
+        assertEquals(divide.get("e1g1").longValue(), 43L);
+        long total = 0;
+        for (final long nodes : divide.values()) {
+            total += nodes;
+        }
+        assertEquals(total, PerftPosition.KIWIPETE.getNodeCount(2));
+    }
+
+    @Test
+    public void testCreateStandardBoardMatchesStartPosition() {
+        assertEquals(Board.createStandardBoard(), PerftPosition.START.createBoard());
+        assertEquals(Perft.perft(Board.createStandardBoard(), 3), PerftPosition.START.getNodeCount(3));
+    }
+
+    @Test
+    public void testParallelPerft() {
+        final ParallelPerft parallelPerft = new ParallelPerft(new ForkJoinPool(4), 2);
+        try {
+            assertEquals(parallelPerft.perft(Board.createStandardBoard(), 4), PerftPosition.START.getNodeCount(4));
+            assertEquals(parallelPerft.perft(PerftPosition.KIWIPETE.createBoard(), 3), PerftPosition.KIWIPETE.getNodeCount(3));
+            assertEquals(parallelPerft.divide(PerftPosition.ENDGAME.createBoard(), 4),
+                    Perft.divide(PerftPosition.ENDGAME.createBoard(), 4));
+        } finally {
+            parallelPerft.shutdown();
+        }
+    }
+
+    @Test
+    public void testSearchBoardPerft() {
+        for (final PerftPosition position : PerftPosition.values()) {
+            final SearchBoard board = new SearchBoard(position.createBoard());
+            final long key = board.getZobristKey();
+            for (int i = 1; i <= Math.min(position.getMaxDepth(), 4); i++) {
+                assertEquals(position + " depth " + i, position.getNodeCount(i), Perft.perft(board, i));
+            }
+            assertEquals(board.getZobristKey(), key);
+            assertEquals(board.getPly(), 0);
+        }
+        assertEquals(Perft.perft(SearchBoard.createStandardBoard(), 5), PerftPosition.START.getNodeCount(5));
+    }
+
+    private static void assertPerft(final PerftPosition position, final int depth) {
+        final Board board = position.createBoard();
+        for (int i = 1; i <= depth; i++) {
+            final PerftResult result = Perft.timedPerft(board, i);
+            assertEquals(position + " depth " + i, position.getNodeCount(i), result.getNodes());
+        }
+    }
+
+}
@@ -0,0 +1,125 @@
+package Tests;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.channels.Channels;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.Test;
+
+import chess.engine.board.FenUtilities;
+import chess.engine.pgn.PgnGame;
+import chess.engine.pgn.PgnImportResult;
+import chess.engine.pgn.PgnImporter;
+import chess.engine.pgn.PgnReader;
+import chess.engine.pgn.PgnSink;
+import chess.engine.player.MoveTransition;
+
+public class TestPgnImporter {
+
+    private static final String SCHOLARS_MATE =
+            "[Event \"Scholar's Mate\"]\n\n1. e4 e5 2. Bc4 Nc6 3. Qh5 Nf6 4. Qxf7# 1-0\n\n";
+    private static final String SCHOLARS_MATE_FEN = "r1bqkb1r/pppp1Qpp/2n2n2/4p3/2B1P3/8/PPPP1PPP/RNB1K1NR b KQkq - 0 4";
+    private static final String ITALIAN =
+            "[Event \"Italian\"]\n\n1. e4 e5 2. Nf3 Nc6 3. Bc4 Bc5 4. O-O Nf6 5. d3 O-O *\n\n";
+    private static final String ITALIAN_FEN = "r1bq1rk1/pppp1ppp/2n2n2/2b1p3/2B1P3/3P1N2/PPP2PPP/RNBQ1RK1 w - - 1 6";
+    private static final String ILLEGAL =
+            "[Event \"Illegal\"]\n\n1. e4 e5 2. Ke3 1-0\n\n";
+
+    @Test
+    public void testImport() throws IOException, InterruptedException {
+        final StringBuilder pgn = new StringBuilder();
+        final int rounds = 200;
+        for (int i = 0; i < rounds; i++) {
+            pgn.append(SCHOLARS_MATE).append(ITALIAN).append(ILLEGAL);
+        }
+        final int batchSize = 4;
+        final int maxPendingBatches = 2;
+        final PgnImporter importer = new PgnImporter(Executors.newFixedThreadPool(4), batchSize, maxPendingBatches);
+        final ConcurrentMap<String, AtomicInteger> finalPositions = new ConcurrentHashMap<>();
+        final AtomicInteger rejected = new AtomicInteger();
+        final AtomicLong mostGamesInMemory = new AtomicLong();
+        final AtomicLong finished = new AtomicLong();
+        final PgnSink sink = new PgnSink() {
+
+            @Override
+            public void accept(final PgnGame game, final List<MoveTransition> transitions) {
+                final String fen = FenUtilities.createFen(transitions.get(transitions.size() - 1).getToBoard());
+                finalPositions.putIfAbsent(fen, new AtomicInteger());
+                finalPositions.get(fen).incrementAndGet();
+                recordGamesInMemory();
+            }
+
+            @Override
+            public void reject(final PgnGame game, final RuntimeException error) {
+                assertEquals(game.getTag("Event"), "Illegal");
+                rejected.incrementAndGet();
+                recordGamesInMemory();
+            }
+
+            private void recordGamesInMemory() {
+                final long inMemory = importer.getGamesRead() - finished.getAndIncrement();
+                long most = mostGamesInMemory.get();
+                while (inMemory > most && !mostGamesInMemory.compareAndSet(most, inMemory)) {
+                    most = mostGamesInMemory.get();
+                }
+            }
+        };
+
+        final PgnImportResult result = importer.importGames(createReader(pgn.toString()), sink);
+        importer.shutdown();
+        assertEquals(result.getGamesImported(), 2 * rounds);
+        assertEquals(result.getGamesRejected(), rounds);
+        assertEquals(result.getMovesPlayed(), rounds * (7 + 10));
+        assertEquals(importer.getGamesRead(), 3 * rounds);
+        assertEquals(rejected.get(), rounds);
+        assertEquals(finalPositions.size(), 2);
+        assertEquals(finalPositions.get(SCHOLARS_MATE_FEN).get(), rounds);
+        assertEquals(finalPositions.get(ITALIAN_FEN).get(), rounds);
+        //The reader never gets further ahead than the pending batches and the one it fills
+        assertTrue(mostGamesInMemory.get() <= batchSize * (maxPendingBatches + 1));
+    }
+
+    @Test
+    public void testSinkErrorStopsImport() throws IOException, InterruptedException {
+        final StringBuilder pgn = new StringBuilder();
+        for (int i = 0; i < 100; i++) {
+            pgn.append(SCHOLARS_MATE);
+        }
+        final PgnImporter importer = new PgnImporter(Executors.newFixedThreadPool(2), 2, 2);
+        final PgnSink sink = new PgnSink() {
+
+            @Override
+            public void accept(final PgnGame game, final List<MoveTransition> transitions) {
+                throw new IllegalStateException("The sink is full");
+            }
+
+            @Override
+            public void reject(final PgnGame game, final RuntimeException error) {
+            }
+        };
+        try {
+            importer.importGames(createReader(pgn.toString()), sink);
+            throw new AssertionError("The sink's exception wasn't thrown");
+        } catch (final IllegalStateException e) {
+            assertEquals(e.getMessage(), "The sink is full");
+        } finally {
+            importer.shutdown();
+        }
+        assertTrue(importer.getGamesRead() < 100);
+    }
+
+    private static PgnReader createReader(final String pgn) {
+        return new PgnReader(Channels.newChannel(new ByteArrayInputStream(pgn.getBytes(StandardCharsets.UTF_8))));
+    }
+
+}
@@ -0,0 +1,184 @@
+package Tests;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.channels.Channels;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.Test;
+
+import chess.engine.board.Board;
+import chess.engine.board.BoardUtils;
+import chess.engine.board.FenUtilities;
+import chess.engine.board.Move;
+import chess.engine.board.SanUtilities;
+import chess.engine.pgn.PgnGame;
+import chess.engine.pgn.PgnReader;
+import chess.engine.player.MoveTransition;
+
+public class TestPgnReader {
+
+    private static final String OPERA_GAME =
+            "[Event \"Paris\"]\n" +
+            "[White \"Paul Morphy\"]\n" +
+            "[Black \"Duke Karl / Count Isouard\"]\n" +
+            "[Result \"1-0\"]\n" +
+            "\n" +
+            "1.e4 e5 2.Nf3 d6 3.d4 Bg4 {This is a weak move already.} 4.dxe5 Bxf3 5.Qxf3 dxe5\n" +
+            "6.Bc4 Nf6 7.Qb3 Qe7 8.Nc3 c6 9.Bg5 b5 $6 10.Nxb5 cxb5 11.Bxb5+ Nbd7\n" +
+            "12.O-O-O Rd8 13.Rxd7 Rxd7 (13...Nxd7 14.Bxd7+ (14.Qb3 {a (nested) comment}) Rxd7) 14.Rd1 Qe6\n" +
+            "; a comment to the end of the line (\n" +
+            "15.Bxd7+ Nxd7 16.Qb8+! Nxb8 17.Rd8# 1-0\n";
+
+    private static final String OPERA_GAME_FEN = "1n1Rkb1r/p4ppp/4q3/4p1B1/4P3/8/PPP2PPP/2K5 b k - 1 17";
+
+    @Test
+    public void testReadGame() throws IOException {
+        try (final PgnReader reader = createReader(OPERA_GAME)) {
+            final PgnGame game = reader.readGame();
+            assertEquals(game.getTag("White"), "Paul Morphy");
+            assertEquals(game.getTag("Black"), "Duke Karl / Count Isouard");
+            assertEquals(game.getResult(), "1-0");
+            assertEquals(game.getMoves().size(), 33);
+            assertEquals(game.getMoves().subList(0, 4), Arrays.asList("e4", "e5", "Nf3", "d6"));
+            assertEquals(game.getMoves().get(25), "Rxd7");
+            assertEquals(game.getMoves().get(32), "Rd8#");
+            assertNull(reader.readGame());
+            assertEquals(reader.getGamesRead(), 1L);
+        }
+    }
+
+    @Test
+    public void testReplay() throws IOException {
+        try (final PgnReader reader = createReader(OPERA_GAME)) {
+            final List<MoveTransition> transitions = reader.readGame().replay();
+            assertEquals(transitions.size(), 33);
+            final Board board = transitions.get(transitions.size() - 1).getToBoard();
+            assertEquals(FenUtilities.createFen(board), OPERA_GAME_FEN);
+            assertTrue(board.currentPlayer().isInCheckMate());
+        }
+    }
+
+    @Test
+    public void testGamesWithoutResultsAndSetUp() throws IOException {
+        final String pgn =
+                "[White \"A\"]\n1. e4 e5 2. Nf3\n\n" +
+                "[White \"B\"]\n[SetUp \"1\"]\n[FEN \"4k3/P7/8/8/8/8/8/4K3 w - - 0 1\"]\n1. a8=Q+ Kd7 *\n\n" +
+                "[White \"C\"]\n1. d4 1/2-1/2\n";
+        try (final PgnReader reader = createReader(pgn)) {
+            final PgnGame first = reader.readGame();
+            assertEquals(first.getTag("White"), "A");
+            assertEquals(first.getMoves(), Arrays.asList("e4", "e5", "Nf3"));
+            assertEquals(first.getResult(), PgnGame.UNKNOWN_RESULT);
+
+            final PgnGame second = reader.readGame();
+            assertEquals(second.getTag("White"), "B");
+            final List<MoveTransition> transitions = second.replay();
+            assertEquals(FenUtilities.createFen(transitions.get(1).getToBoard()), "Q7/3k4/8/8/8/8/8/4K3 w - - 1 2");
+
+            final PgnGame third = reader.readGame();
+            assertEquals(third.getMoves(), Arrays.asList("d4"));
+            assertEquals(third.getResult(), "1/2-1/2");
+            assertNull(reader.readGame());
+        }
+    }
+
+    @Test
+    public void testIllegalMoveNumberFromSetUp() throws IOException {
+        //Black is to move at move 17, the second move is White's 18th
+        final String pgn = "[White \"D\"]\n[SetUp \"1\"]\n[FEN \"4k3/8/8/8/8/8/8/4K3 b - - 0 17\"]\n17... Kd7 18. Ke4 *\n\n";
+        try (final PgnReader reader = createReader(pgn)) {
+            reader.readGame().replay();
+            throw new AssertionError("The illegal move was played");
+        } catch (final RuntimeException e) {
+            assertTrue(e.getMessage(), e.getMessage().startsWith("Can't play move 18. Ke4 "));
+        }
+    }
+
+    @Test
+    public void testGamesWithOnlyTags() throws IOException {
+        //The first game ends at the blank line after its tags, the second at its comment
+        final String pgn =
+                "[White \"A\"]\n[Black \"B\"]\n\n" +
+                "[White \"C\"]\n{No moves were played}\n" +
+                "[White \"E\"]\n\n1. e4 *\n";
+        try (final PgnReader reader = createReader(pgn)) {
+            final PgnGame first = reader.readGame();
+            assertEquals(first.getTag("White"), "A");
+            assertEquals(first.getTag("Black"), "B");
+            assertTrue(first.getMoves().isEmpty());
+            assertEquals(first.getResult(), PgnGame.UNKNOWN_RESULT);
+
+            final PgnGame second = reader.readGame();
+            assertEquals(second.getTag("White"), "C");
+            assertNull(second.getTag("Black"));
+            assertTrue(second.getMoves().isEmpty());
+
+            final PgnGame third = reader.readGame();
+            assertEquals(third.getTag("White"), "E");
+            assertEquals(third.getMoves(), Arrays.asList("e4"));
+            assertNull(reader.readGame());
+        }
+    }
+
+    @Test
+    public void testEscapedLines() throws IOException {
+        //Only a % in the first column escapes its line, also after a Windows line end
+        final String pgn =
+                "% escaped before the tags\n[White \"A\"]\n% escaped between tags 1. d4\n[Black \"B\"]\n\n" +
+                "1. e4 e5\r\n% escaped 2. d4 d5\n2. Nf3 %c3 Nc6 *\n";
+        try (final PgnReader reader = createReader(pgn)) {
+            final PgnGame game = reader.readGame();
+            assertEquals(game.getTag("White"), "A");
+            assertEquals(game.getTag("Black"), "B");
+            //Elsewhere the % is read like any symbol and the line goes on
+            assertEquals(game.getMoves(), Arrays.asList("e4", "e5", "Nf3", "%c3", "Nc6"));
+            assertNull(reader.readGame());
+        }
+    }
+
+    @Test
+    public void testFileLargerThanBuffer() throws IOException {
+        final StringBuilder pgn = new StringBuilder();
+        final int games = 500;
+        for (int i = 0; i < games; i++) {
+            //A character of two bytes in the tags lands on the buffer edges too
+            pgn.append("[Site \"Montr\u00e9al ").append(i).append("\"]\n");
+            pgn.append(OPERA_GAME).append('\n');
+        }
+        try (final PgnReader reader = createReader(pgn.toString())) {
+            int read = 0;
+            for (PgnGame game = reader.readGame(); game != null; game = reader.readGame()) {
+                assertEquals(game.getTag("Site"), "Montr\u00e9al " + read);
+                assertEquals(game.getMoves().size(), 33);
+                read++;
+            }
+            assertEquals(read, games);
+        }
+    }
+
+    @Test
+    public void testSanDisambiguation() {
+        final Board board = FenUtilities.createBoard("3k4/8/8/R6R/8/8/4N1N1/4K3 w - - 0 1");
+        assertEquals(SanUtilities.createMove(board, "Rd5"), Move.NULL_MOVE);
+        assertEquals(SanUtilities.createMove(board, "Rad5").getCurrentCoordinate(), BoardUtils.getCoordinateAtPosition("a5"));
+        assertEquals(SanUtilities.createMove(board, "Rhd5").getCurrentCoordinate(), BoardUtils.getCoordinateAtPosition("h5"));
+        assertEquals(SanUtilities.createMove(board, "Nf4"), Move.NULL_MOVE);
+        assertEquals(SanUtilities.createMove(board, "Nef4").getCurrentCoordinate(), BoardUtils.getCoordinateAtPosition("e2"));
+        assertEquals(SanUtilities.createMove(board, "Ng2f4").getCurrentCoordinate(), BoardUtils.getCoordinateAtPosition("g2"));
+        assertEquals(SanUtilities.createMove(board, "Nc1").getCurrentCoordinate(), BoardUtils.getCoordinateAtPosition("e2"));
+        assertEquals(SanUtilities.createMove(board, "Rd8"), Move.NULL_MOVE);
+        assertEquals(SanUtilities.createMove(board, "Ra8+").getDestinationCoordinate(), BoardUtils.getCoordinateAtPosition("a8"));
+    }
+
+    private static PgnReader createReader(final String pgn) {
+        return new PgnReader(Channels.newChannel(new ByteArrayInputStream(pgn.getBytes(StandardCharsets.UTF_8))));
+    }
+
+}
@@ -43,7 +43,7 @@ public class TestPieces {
         final Collection<Move> whiteLegals = board.getWhitePlayer().getLegalMoves();
         final Collection<Move> blackLegals = board.getBlackPlayer().getLegalMoves();
         assertEquals(whiteLegals.size(), 31);
-        assertEquals(blackLegals.size(), 5);
+        assertEquals(blackLegals.size(), 4);
         assertTrue(whiteLegals.contains(Move.MoveFactory
                 .createMove(board, BoardUtils.getCoordinateAtPosition("e4"), BoardUtils.getCoordinateAtPosition("e8"))));
         assertTrue(whiteLegals.contains(Move.MoveFactory
@@ -364,7 +364,7 @@ public class TestPieces {
         final Collection<Move> whiteLegals = board.getWhitePlayer().getLegalMoves();
         final Collection<Move> blackLegals = board.getBlackPlayer().getLegalMoves();
         assertEquals(whiteLegals.size(), 18);
-        assertEquals(blackLegals.size(), 5);
+        assertEquals(blackLegals.size(), 4);
         assertTrue(whiteLegals.contains(Move.MoveFactory
                 .createMove(board, BoardUtils.getCoordinateAtPosition("e4"), BoardUtils.getCoordinateAtPosition("e8"))));
         assertTrue(whiteLegals.contains(Move.MoveFactory
@@ -413,7 +413,7 @@ public class TestPieces {
         final MoveTransition t2 = t1.getToBoard().currentPlayer().makeMove(m2);
         Assert.assertTrue(t2.getMoveStatus().isDone());
         final Move m3 = Move.MoveFactory.createMove(t2.getToBoard(), BoardUtils.getCoordinateAtPosition("e2"), BoardUtils.getCoordinateAtPosition("d2"));
-        final MoveTransition t3 = board.currentPlayer().makeMove(m3);
+        final MoveTransition t3 = t2.getToBoard().currentPlayer().makeMove(m3);
         Assert.assertTrue(t3.getMoveStatus().isDone());
     }
 
@@ -1,7 +1,12 @@
 package Tests;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
 import org.junit.Test;
 
+import static junit.framework.Assert.assertEquals;
 import static junit.framework.Assert.assertFalse;
 import static junit.framework.Assert.assertTrue;
 import chess.engine.board.Board;
@@ -9,8 +14,11 @@ import chess.engine.board.Board.Builder;
 import chess.engine.board.BoardUtils;
 import chess.engine.board.Move;
 import chess.engine.board.Move.MoveFactory;
+import chess.engine.evaluation.StandardBoardEvaluator;
 import chess.engine.pieces.Bishop;
 import chess.engine.pieces.King;
+import chess.engine.pieces.Knight;
+import chess.engine.pieces.Pawn;
 import chess.engine.pieces.Rook;
 import chess.engine.pieces.Team;
 import chess.engine.player.MoveTransition;
@@ -30,7 +38,7 @@ public class TestPlayer {
                 .makeMove(MoveFactory.createMove(t1.getToBoard(), BoardUtils.getCoordinateAtPosition("e7"),
                         BoardUtils.getCoordinateAtPosition("e5")));
         assertTrue(t2.getMoveStatus().isDone());
-       // assertEquals(StandardBoardEvaluator.get().evaluate(t2.getToBoard(), 0), 0);
+        assertEquals(StandardBoardEvaluator.get().evaluate(t2.getToBoard()), 0);
     }
 
     @SuppressWarnings("deprecation")
@@ -111,4 +119,88 @@ public class TestPlayer {
         assertFalse(t1.getMoveStatus().isDone());
 }
 
+    @SuppressWarnings("deprecation")
+	@Test
+    public void testPinnedPieceStaysOnLine() {
+        final Builder builder = new Builder();
+        builder.setPiece(new King(Team.BLACK, 4, false, false));
+        builder.setPiece(new Rook(Team.BLACK, 32));
+        builder.setPiece(new Rook(Team.WHITE, 35));
+        builder.setPiece(new King(Team.WHITE, 39, false, false));
+        builder.setMoveMaker(Team.WHITE);
+        final Board board = builder.build();
+        //The Rook on d4 is pinned along the row
+        for (final Move move : board.currentPlayer().getLegalMoves()) {
+            if (move.getCurrentCoordinate() == 35) {
+                assertTrue(move.getDestinationCoordinate() / 8 == 4);
+            }
+        }
+        final Move rookUp = MoveFactory.createMove(board, BoardUtils.getCoordinateAtPosition("d4"),
+                BoardUtils.getCoordinateAtPosition("d6"));
+        assertFalse(board.currentPlayer().makeMove(rookUp).getMoveStatus().isDone());
+    }
+
+    @SuppressWarnings("deprecation")
+	@Test
+    public void testEnPassantAlongPinnedRow() {
+        final Builder builder = new Builder();
+        builder.setPiece(new King(Team.BLACK, 4, false, false));
+        builder.setPiece(new Rook(Team.BLACK, 31));
+        builder.setPiece(new Pawn(Team.BLACK, 10));
+        builder.setPiece(new Pawn(Team.WHITE, 27));
+        builder.setPiece(new King(Team.WHITE, 24, false, false));
+        builder.setMoveMaker(Team.BLACK);
+        final Board board = builder.build();
+        final MoveTransition t1 = board.currentPlayer().makeMove(MoveFactory.createMove(board,
+                BoardUtils.getCoordinateAtPosition("c7"), BoardUtils.getCoordinateAtPosition("c5")));
+        assertTrue(t1.getMoveStatus().isDone());
+        //Taking En Passant would take both pawns off the row and leave the King to the Rook
+        assertFalse(t1.getToBoard().currentPlayer().makeMove(MoveFactory.createMove(t1.getToBoard(),
+                BoardUtils.getCoordinateAtPosition("d5"), BoardUtils.getCoordinateAtPosition("c6"))).getMoveStatus().isDone());
+        assertTrue(t1.getToBoard().getEnPassantPawn() != null);
+    }
+
+    @SuppressWarnings("deprecation")
+	@Test
+    public void testDoubleCheckOnlyKingMoves() {
+        final Builder builder = new Builder();
+        builder.setPiece(new King(Team.BLACK, 4, false, false));
+        builder.setPiece(new Rook(Team.BLACK, 0));
+        builder.setPiece(new Rook(Team.WHITE, 12));
+        builder.setPiece(new Knight(Team.WHITE, 19));
+        builder.setPiece(new King(Team.WHITE, 60, false, false));
+        builder.setMoveMaker(Team.BLACK);
+        final Board board = builder.build();
+        assertTrue(board.currentPlayer().isInCheck());
+        for (final Move move : board.currentPlayer().getLegalMoves()) {
+            assertTrue(move.getMovedPiece().getPieceType().isKing());
+        }
+        //The Rook can't block or take, the King has to take the Rook itself or step aside
+        assertTrue(board.currentPlayer().isMoveLegal(MoveFactory.createMove(board,
+                BoardUtils.getCoordinateAtPosition("e8"), BoardUtils.getCoordinateAtPosition("e7"))));
+        assertFalse(board.currentPlayer().isInCheckMate());
+    }
+
+    @Test
+    public void testLegalMovesMatchMakingEveryMove() {
+        final Random random = new Random(7);
+        for (int game = 0; game < 10; game++) {
+            Board board = Board.createStandardBoard();
+            for (int ply = 0; ply < 120; ply++) {
+                final List<Move> legalMoves = new ArrayList<>(board.currentPlayer().getLegalMoves());
+                //Every legal move keeps the King safe
+                for (final Move move : legalMoves) {
+                    final Board after = move.execute();
+                    assertFalse(after.isTileAttacked(after.currentPlayer().getOpponent().getPlayerKing().getPiecePosition(),
+                            after.currentPlayer().getTeam()));
+                }
+                if (legalMoves.isEmpty()) {
+                    assertTrue(board.currentPlayer().isInCheckMate() || board.currentPlayer().isInStaleMate());
+                    break;
+                }
+                board = board.currentPlayer().makeMove(legalMoves.get(random.nextInt(legalMoves.size()))).getToBoard();
+            }
+        }
+    }
+
 }
@@ -0,0 +1,86 @@
+package Tests;
+
+import static org.junit.Assert.assertEquals;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.Test;
+
+import chess.engine.board.Board;
+import chess.engine.board.BoardUtils;
+import chess.engine.board.FenUtilities;
+import chess.engine.board.Move;
+import chess.engine.board.SanUtilities;
+import chess.engine.perft.PerftPosition;
+
+public class TestSanUtilities {
+
+    @Test
+    public void testDisambiguation() {
+        final Board board = FenUtilities.createBoard("3k4/8/8/R6R/8/8/4N1N1/4K3 w - - 0 1");
+        assertEquals(san(board, "a5", "d5"), "Rad5+");
+        assertEquals(san(board, "h5", "d5"), "Rhd5+");
+        assertEquals(san(board, "e2", "f4"), "Nef4");
+        assertEquals(san(board, "g2", "f4"), "Ngf4");
+        assertEquals(san(board, "e2", "c1"), "Nc1");
+        assertEquals(san(board, "a5", "a8"), "Ra8+");
+        //toString stays cheap and leaves the disambiguation to createSan
+        final Move knightMove = Move.MoveFactory.createMove(board, BoardUtils.getCoordinateAtPosition("e2"),
+                BoardUtils.getCoordinateAtPosition("f4"));
+        assertEquals(knightMove.toString(), "Nf4");
+        assertEquals(SanUtilities.createSan(knightMove), "Nef4");
+
+        //Rooks on the same file are told apart by their rank, three Queens need both
+        final Board sameFile = FenUtilities.createBoard("4k3/8/8/R7/8/R7/8/4K3 w - - 0 1");
+        assertEquals(san(sameFile, "a5", "a4"), "R5a4");
+        assertEquals(san(sameFile, "a3", "a4"), "R3a4");
+        final Board threeQueens = FenUtilities.createBoard("7k/8/8/8/Q1Q5/8/Q7/7K w - - 0 1");
+        assertEquals(san(threeQueens, "a4", "b3"), "Qa4b3");
+        assertEquals(san(threeQueens, "c4", "b3"), "Qcb3");
+        assertEquals(san(threeQueens, "a2", "b3"), "Q2b3");
+    }
+
+    @Test
+    public void testPawnsCastlesAndMate() {
+        final Board board = FenUtilities.createBoard("r3k2r/1P6/8/3pP3/8/8/8/R3K2R w KQkq d6 0 1");
+        assertEquals(san(board, "e5", "d6"), "exd6");
+        assertEquals(san(board, "e5", "e6"), "e6");
+        assertEquals(san(board, "b7", "b8"), "b8=Q+");
+        assertEquals(san(board, "b7", "a8"), "bxa8=Q+");
+        assertEquals(san(board, "e1", "g1"), "O-O");
+        assertEquals(san(board, "e1", "c1"), "O-O-O");
+        assertEquals(san(board, "a1", "a8"), "Rxa8+");
+        final Move promotion = Move.MoveFactory.createMove(board, BoardUtils.getCoordinateAtPosition("b7"),
+                BoardUtils.getCoordinateAtPosition("a8"));
+        assertEquals(promotion.toString(), "bxa8=Q");
+
+        final Board mate = FenUtilities.createBoard("6k1/5ppp/8/8/8/8/8/R5K1 w - - 0 1");
+        assertEquals(san(mate, "a1", "a8"), "Ra8#");
+    }
+
+    @Test
+    public void testEveryMoveRoundTrips() {
+        final Random random = new Random(7);
+        for (final PerftPosition position : PerftPosition.values()) {
+            Board board = position.createBoard();
+            for (int ply = 0; ply < 40 && !board.currentPlayer().getLegalMoves().isEmpty(); ply++) {
+                final List<Move> moves = new ArrayList<>(board.currentPlayer().getLegalMoves());
+                for (final Move move : moves) {
+                    final Board toBoard = board.currentPlayer().makeMove(move).getToBoard();
+                    assertEquals(SanUtilities.createMove(board, SanUtilities.createSan(move, toBoard)), move);
+                }
+                final Move move = moves.get(random.nextInt(moves.size()));
+                board = board.currentPlayer().makeMove(move).getToBoard();
+            }
+        }
+    }
+
+    private static String san(final Board board, final String from, final String to) {
+        final Move move = Move.MoveFactory.createMove(board, BoardUtils.getCoordinateAtPosition(from),
+                BoardUtils.getCoordinateAtPosition(to));
+        return SanUtilities.createSan(move, board.currentPlayer().makeMove(move).getToBoard());
+    }
+
+}
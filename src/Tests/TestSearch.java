@@ -0,0 +1,140 @@
+package Tests;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.Test;
+
+import chess.engine.board.Board;
+import chess.engine.board.BoardUtils;
+import chess.engine.board.Move;
+import chess.engine.perft.PerftPosition;
+import chess.engine.pieces.King;
+import chess.engine.pieces.Pawn;
+import chess.engine.pieces.Queen;
+import chess.engine.pieces.Rook;
+import chess.engine.pieces.Team;
+import chess.engine.player.MoveTransition;
+import chess.engine.search.AlphaBetaSearch;
+import chess.engine.search.SearchLimits;
+import chess.engine.search.SearchListener;
+import chess.engine.search.SearchResult;
+
+public class TestSearch {
+
+    @Test
+    public void testFindsMateInOne() {
+        final Board board = play(Board.createStandardBoard(), "f2", "f3", "e7", "e5", "g2", "g4");
+        final SearchResult result = new AlphaBetaSearch().search(board, SearchLimits.depth(3));
+        assertEquals(BoardUtils.getCoordinateNotation(result.getBestMove()), "d8h4");
+        assertTrue(AlphaBetaSearch.isMateScore(result.getScore()));
+        assertEquals(result.getScore(), AlphaBetaSearch.MATE_SCORE - 1);
+    }
+
+    @Test
+    public void testFindsMateInTwo() {
+        //The rook ladder, Ra7 takes the seventh rank and Rb8 mates next move
+        final Board.Builder builder = new Board.Builder();
+        builder.setPiece(new King(Team.BLACK, 6, false, false));
+        builder.setPiece(new Rook(Team.WHITE, 56));
+        builder.setPiece(new Rook(Team.WHITE, 57));
+        builder.setPiece(new King(Team.WHITE, 60, false, false));
+        builder.setMoveMaker(Team.WHITE);
+        final SearchResult result = new AlphaBetaSearch().search(builder.build(), SearchLimits.depth(5));
+        assertTrue(AlphaBetaSearch.isMateScore(result.getScore()));
+        assertTrue(result.getScore() > 0);
+        assertEquals(result.getPrincipalVariation().size(), 3);
+    }
+
+    @Test
+    public void testTakesHangingQueen() {
+        final Board.Builder builder = new Board.Builder();
+        builder.setPiece(new King(Team.BLACK, 4, false, false));
+        builder.setPiece(new Queen(Team.BLACK, 27));
+        builder.setPiece(new Rook(Team.WHITE, 59));
+        builder.setPiece(new King(Team.WHITE, 62, false, false));
+        builder.setMoveMaker(Team.WHITE);
+        final SearchResult result = new AlphaBetaSearch().search(builder.build(), SearchLimits.depth(3));
+        assertEquals(BoardUtils.getCoordinateNotation(result.getBestMove()), "d1d5");
+    }
+
+    @Test
+    public void testQuiescenceSeesTheRecapture() {
+        //Qxd5 wins a Pawn at depth 1, but exd5 takes the Queen back
+        final Board.Builder builder = new Board.Builder();
+        builder.setPiece(new King(Team.BLACK, 6, false, false));
+        builder.setPiece(new Pawn(Team.BLACK, 20));
+        builder.setPiece(new Pawn(Team.BLACK, 27));
+        builder.setPiece(new Queen(Team.WHITE, 59));
+        builder.setPiece(new King(Team.WHITE, 62, false, false));
+        builder.setMoveMaker(Team.WHITE);
+        final AlphaBetaSearch search = new AlphaBetaSearch();
+        final SearchResult result = search.search(builder.build(), SearchLimits.depth(1));
+        assertFalse(BoardUtils.getCoordinateNotation(result.getBestMove()).equals("d1d5"));
+        assertTrue(result.getScore() > 0);
+        assertTrue(result.getQuiescenceNodes() > 0);
+        assertEquals(result.getNodes(), result.getMainNodes() + result.getQuiescenceNodes());
+        assertEquals(search.getQuiescenceNodes(), result.getQuiescenceNodes());
+    }
+
+    @Test
+    public void testPrincipalVariationIsLegal() {
+        final Board board = PerftPosition.KIWIPETE.createBoard();
+        final SearchResult result = new AlphaBetaSearch().search(board, SearchLimits.depth(3));
+        assertEquals(result.getDepth(), 3);
+        Board current = board;
+        for (final Move move : result.getPrincipalVariation()) {
+            final MoveTransition transition = current.currentPlayer().makeMove(move);
+            assertTrue(transition.getMoveStatus().isDone());
+            current = transition.getToBoard();
+        }
+        assertTrue(result.getNodes() > 0);
+    }
+
+    @Test
+    public void testIterationsAreReported() {
+        final List<SearchResult> iterations = new ArrayList<>();
+        final AlphaBetaSearch search = new AlphaBetaSearch();
+        search.addListener(new SearchListener() {
+            @Override
+            public void iterationFinished(final SearchResult result) {
+                iterations.add(result);
+            }
+        });
+        final SearchResult result = search.search(Board.createStandardBoard(), SearchLimits.depth(3));
+        assertEquals(iterations.size(), 3);
+        for (int i = 0; i < iterations.size(); i++) {
+            assertEquals(iterations.get(i).getDepth(), i + 1);
+        }
+        assertEquals(iterations.get(2).getBestMove(), result.getBestMove());
+    }
+
+    @Test
+    public void testNodeAndTimeLimits() {
+        final AlphaBetaSearch search = new AlphaBetaSearch();
+        final SearchResult nodeLimited = search.search(PerftPosition.KIWIPETE.createBoard(),
+                new SearchLimits.Builder().setNodes(2000).build());
+        assertFalse(nodeLimited.getBestMove() == Move.NULL_MOVE);
+        assertTrue(search.getNodes() <= 2000 + 100);
+
+        final long start = System.currentTimeMillis();
+        final SearchResult timeLimited = search.search(PerftPosition.KIWIPETE.createBoard(), SearchLimits.moveTime(200));
+        assertTrue(System.currentTimeMillis() - start < 2000);
+        assertFalse(timeLimited.getBestMove() == Move.NULL_MOVE);
+    }
+
+    private static Board play(final Board board, final String... squares) {
+        Board current = board;
+        for (int i = 0; i < squares.length; i += 2) {
+            final Move move = Move.MoveFactory.createMove(current, BoardUtils.getCoordinateAtPosition(squares[i]),
+                    BoardUtils.getCoordinateAtPosition(squares[i + 1]));
+            current = current.currentPlayer().makeMove(move).getToBoard();
+        }
+        return current;
+    }
+
+}
@@ -0,0 +1,158 @@
+package Tests;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+
+import org.junit.Test;
+
+import chess.engine.board.Board;
+import chess.engine.board.BoardUtils;
+import chess.engine.board.Move;
+import chess.engine.board.MoveGenerator;
+import chess.engine.board.MoveList;
+import chess.engine.board.PackedMove;
+import chess.engine.board.SearchBoard;
+import chess.engine.pieces.King;
+import chess.engine.pieces.Pawn;
+import chess.engine.pieces.Piece.PieceType;
+import chess.engine.pieces.Rook;
+import chess.engine.pieces.Team;
+import chess.engine.player.MoveTransition;
+
+public class TestSearchBoard {
+
+    @Test
+    public void testMakeAndUnmakeRandomGames() {
+        final Random random = new Random(1234);
+        for (int game = 0; game < 20; game++) {
+            final Board start = Board.createStandardBoard();
+            final SearchBoard searchBoard = new SearchBoard(start);
+            final String startText = searchBoard.toString();
+            Board board = start;
+            for (int ply = 0; ply < 120; ply++) {
+                final List<Move> moves = new ArrayList<>(board.currentPlayer().getLegalMoves());
+                MoveTransition transition = null;
+                while (!moves.isEmpty()) {
+                    final Move move = moves.remove(random.nextInt(moves.size()));
+                    transition = board.currentPlayer().makeMove(move);
+                    if (transition.getMoveStatus().isDone()) {
+                        break;
+                    }
+                }
+                if (transition == null || !transition.getMoveStatus().isDone()) {
+                    break;
+                }
+                searchBoard.makeMove(transition.getTransitionMove());
+                board = transition.getToBoard();
+                assertSamePosition(board, searchBoard);
+            }
+            while (searchBoard.getPly() > 0) {
+                searchBoard.unmakeMove();
+            }
+            assertEquals(startText, searchBoard.toString());
+            assertSamePosition(start, searchBoard);
+        }
+    }
+
+    @Test
+    public void testGeneratedMovesMatchLegalMoves() {
+        final Random random = new Random(99);
+        final MoveList moveList = new MoveList();
+        for (int game = 0; game < 20; game++) {
+            Board board = Board.createStandardBoard();
+            final SearchBoard searchBoard = new SearchBoard(board);
+            for (int ply = 0; ply < 100; ply++) {
+                MoveGenerator.generateLegalMoves(searchBoard, moveList);
+                final Set<String> generated = new HashSet<>();
+                for (int i = 0; i < moveList.size(); i++) {
+                    generated.add(PackedMove.toString(moveList.get(i)));
+                }
+                final List<Move> legalMoves = new ArrayList<>(board.currentPlayer().getLegalMoves());
+                final Set<String> expected = new HashSet<>();
+                for (final Move move : legalMoves) {
+                    expected.add(BoardUtils.getCoordinateNotation(move));
+                }
+                assertEquals(generated, expected);
+                assertEquals(moveList.size(), legalMoves.size());
+                assertEquals(searchBoard.isInCheck(), board.currentPlayer().isInCheck());
+                if (moveList.isEmpty())
+                    break;
+
+                final int packedMove = moveList.get(random.nextInt(moveList.size()));
+                assertEquals(PackedMove.encode(PackedMove.decode(board, packedMove)), packedMove);
+                board = board.currentPlayer().makeMove(PackedMove.decode(board, packedMove)).getToBoard();
+                searchBoard.makeMove(packedMove);
+                assertEquals(searchBoard.getZobristKey(), board.getZobristKey());
+            }
+        }
+    }
+
+    @Test
+    public void testCastleEnPassantAndPromotion() {
+        final Board.Builder builder = new Board.Builder();
+        // Black Layout
+        builder.setPiece(new King(Team.BLACK, 4, true, true));
+        builder.setPiece(new Rook(Team.BLACK, 0));
+        builder.setPiece(new Pawn(Team.BLACK, 11));
+        // White Layout
+        builder.setPiece(new Pawn(Team.WHITE, 15));
+        builder.setPiece(new Pawn(Team.WHITE, 28));
+        builder.setPiece(new Rook(Team.WHITE, 63));
+        builder.setPiece(new King(Team.WHITE, 60, true, true));
+        builder.setMoveMaker(Team.WHITE);
+        final Board board = builder.build();
+        final SearchBoard searchBoard = new SearchBoard(board);
+        assertEquals(searchBoard.getCastlingRights(), BoardUtils.WHITE_KING_SIDE | BoardUtils.BLACK_QUEEN_SIDE);
+
+        final Board afterCastle = play(board, searchBoard, "e1", "g1");
+        assertEquals(searchBoard.getCastlingRights(), BoardUtils.BLACK_QUEEN_SIDE);
+        final Board afterJump = play(afterCastle, searchBoard, "d7", "d5");
+        assertEquals(searchBoard.getEnPassantTile(), BoardUtils.getCoordinateAtPosition("d6"));
+        final Board afterEnPassant = play(afterJump, searchBoard, "e5", "d6");
+        assertEquals(searchBoard.getPieceBitBoard(Team.BLACK, PieceType.PAWN), 0L);
+        final Board afterCastle2 = play(afterEnPassant, searchBoard, "e8", "c8");
+        play(afterCastle2, searchBoard, "h7", "h8");
+        assertEquals(searchBoard.getPieceType(BoardUtils.getCoordinateAtPosition("h8")), PieceType.QUEEN);
+
+        for (int i = 0; i < 5; i++) {
+            searchBoard.unmakeMove();
+        }
+        assertSamePosition(board, searchBoard);
+        assertEquals(searchBoard.getCastlingRights(), BoardUtils.WHITE_KING_SIDE | BoardUtils.BLACK_QUEEN_SIDE);
+    }
+
+    private static Board play(final Board board, final SearchBoard searchBoard, final String from, final String to) {
+        final Move move = Move.MoveFactory.createMove(board, BoardUtils.getCoordinateAtPosition(from),
+                BoardUtils.getCoordinateAtPosition(to));
+        final MoveTransition transition = board.currentPlayer().makeMove(move);
+        assertTrue(transition.getMoveStatus().isDone());
+        searchBoard.makeMove(move);
+        assertSamePosition(transition.getToBoard(), searchBoard);
+        return transition.getToBoard();
+    }
+
+    private static void assertSamePosition(final Board board, final SearchBoard searchBoard) {
+        assertEquals(board.toString(), searchBoard.toString());
+        assertEquals(board.currentPlayer().getTeam(), searchBoard.getMoveMaker());
+        assertEquals(board.getOccupiedBitBoard(), searchBoard.getOccupiedBitBoard());
+        assertEquals(board.getCastlingRights(), searchBoard.getCastlingRights());
+        assertEquals(board.getZobristKey(), searchBoard.getZobristKey());
+        for (final Team team : Team.values()) {
+            assertEquals(board.getTeamBitBoard(team), searchBoard.getTeamBitBoard(team));
+            for (final PieceType pieceType : PieceType.values()) {
+                assertEquals(board.getPieceBitBoard(team, pieceType), searchBoard.getPieceBitBoard(team, pieceType));
+            }
+        }
+        final Board snapshot = searchBoard.toBoard();
+        assertEquals(board.toString(), snapshot.toString());
+        assertEquals(board.getEnPassantPawn() == null, snapshot.getEnPassantPawn() == null);
+        assertEquals(board, snapshot);
+    }
+
+}
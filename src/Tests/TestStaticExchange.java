@@ -0,0 +1,110 @@
+package Tests;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import org.junit.Test;
+
+import chess.engine.board.Board;
+import chess.engine.board.Move;
+import chess.engine.board.PackedMove;
+import chess.engine.board.SearchBoard;
+import chess.engine.board.StaticExchange;
+import chess.engine.perft.PerftPosition;
+import chess.engine.pieces.King;
+import chess.engine.pieces.Pawn;
+import chess.engine.pieces.Queen;
+import chess.engine.pieces.Rook;
+import chess.engine.pieces.Team;
+
+public class TestStaticExchange {
+
+    @Test
+    public void testUndefendedAndDefendedCaptures() {
+        final Board.Builder builder = createBuilder();
+        builder.setPiece(new Pawn(Team.BLACK, 20));
+        builder.setPiece(new Pawn(Team.BLACK, 27));
+        builder.setPiece(new Pawn(Team.BLACK, 31));
+        builder.setPiece(new Queen(Team.WHITE, 59));
+        builder.setPiece(new Rook(Team.WHITE, 55));
+        final Board board = builder.build();
+
+        //Rh2xh5 takes a free Pawn
+        final Move freePawn = Move.MoveFactory.createMove(board, 55, 31);
+        assertEquals(StaticExchange.evaluate(board, freePawn), 100);
+        //Qd1xd5 is answered by exd5
+        final Move defendedPawn = Move.MoveFactory.createMove(board, 59, 27);
+        assertEquals(StaticExchange.evaluate(board, defendedPawn), -800);
+        assertFalse(StaticExchange.isWinningOrEqual(board, defendedPawn));
+        //Qd1-d4 puts the Queen where nothing attacks it
+        assertEquals(StaticExchange.evaluate(board, Move.MoveFactory.createMove(board, 59, 35)), 0);
+    }
+
+    @Test
+    public void testXRayAttackers() {
+        //Re2xe5 Rxe5 Rxe5, the Rook on e1 recaptures through the one on e2
+        final Board.Builder builder = createBuilder();
+        builder.setPiece(new Pawn(Team.BLACK, 28));
+        builder.setPiece(new Rook(Team.BLACK, 4));
+        builder.setPiece(new Rook(Team.WHITE, 52));
+        builder.setPiece(new Rook(Team.WHITE, 60));
+        final Board board = builder.build();
+        final Move capture = Move.MoveFactory.createMove(board, 52, 28);
+        assertEquals(StaticExchange.evaluate(board, capture), 100);
+        assertTrue(StaticExchange.isWinningOrEqual(board, capture));
+
+        //Without the Rook behind it the capture loses the exchange
+        final Board.Builder single = createBuilder();
+        single.setPiece(new Pawn(Team.BLACK, 28));
+        single.setPiece(new Rook(Team.BLACK, 4));
+        single.setPiece(new Rook(Team.WHITE, 52));
+        final Board singleBoard = single.build();
+        assertEquals(StaticExchange.evaluate(singleBoard, Move.MoveFactory.createMove(singleBoard, 52, 28)), -400);
+    }
+
+    @Test
+    public void testKingOnlyRecapturesUndefendedPieces() {
+        //Rd2xd7 is defended through the Rook on d1 so the King can't take back
+        final Board.Builder builder = new Board.Builder();
+        builder.setPiece(new King(Team.BLACK, 4, false, false));
+        builder.setPiece(new Pawn(Team.BLACK, 11));
+        builder.setPiece(new Rook(Team.WHITE, 51));
+        builder.setPiece(new Rook(Team.WHITE, 59));
+        builder.setPiece(new King(Team.WHITE, 63, false, false));
+        builder.setMoveMaker(Team.WHITE);
+        final Board board = builder.build();
+        assertEquals(StaticExchange.evaluate(board, Move.MoveFactory.createMove(board, 51, 11)), 100);
+
+        final Board.Builder alone = new Board.Builder();
+        alone.setPiece(new King(Team.BLACK, 4, false, false));
+        alone.setPiece(new Pawn(Team.BLACK, 11));
+        alone.setPiece(new Rook(Team.WHITE, 51));
+        alone.setPiece(new King(Team.WHITE, 63, false, false));
+        alone.setMoveMaker(Team.WHITE);
+        final Board aloneBoard = alone.build();
+        assertEquals(StaticExchange.evaluate(aloneBoard, Move.MoveFactory.createMove(aloneBoard, 51, 11)), -400);
+    }
+
+    @Test
+    public void testPackedMovesMatchMoves() {
+        final int[] gains = new int[StaticExchange.MAX_EXCHANGE];
+        for (final PerftPosition position : PerftPosition.values()) {
+            final Board board = position.createBoard();
+            final SearchBoard searchBoard = new SearchBoard(board);
+            for (final Move move : board.currentPlayer().getLegalMoves()) {
+                assertEquals(StaticExchange.evaluate(searchBoard, PackedMove.encode(move), gains),
+                        StaticExchange.evaluate(board, move));
+            }
+        }
+    }
+
+    private static Board.Builder createBuilder() {
+        final Board.Builder builder = new Board.Builder();
+        builder.setPiece(new King(Team.BLACK, 7, false, false));
+        builder.setPiece(new King(Team.WHITE, 56, false, false));
+        builder.setMoveMaker(Team.WHITE);
+        return builder;
+    }
+
+}
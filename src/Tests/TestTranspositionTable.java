@@ -0,0 +1,120 @@
+package Tests;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.Test;
+
+import chess.engine.board.Board;
+import chess.engine.perft.PerftPosition;
+import chess.engine.search.AlphaBetaSearch;
+import chess.engine.search.SearchLimits;
+import chess.engine.search.SearchResult;
+import chess.engine.search.TranspositionTable;
+
+public class TestTranspositionTable {
+
+    @Test
+    public void testStoreAndProbe() {
+        final TranspositionTable table = new TranspositionTable(1);
+        assertEquals(table.getCapacity(), 65536);
+        final long key = 0x123456789ABCDEFL;
+        assertEquals(table.probe(key), TranspositionTable.NO_ENTRY);
+
+        table.store(key, 12 << 6 | 28, -AlphaBetaSearch.MATE_SCORE + 7, 9, TranspositionTable.LOWER_BOUND);
+        final long entry = table.probe(key);
+        assertEquals(TranspositionTable.getMove(entry), 12 << 6 | 28);
+        assertEquals(TranspositionTable.getScore(entry), -AlphaBetaSearch.MATE_SCORE + 7);
+        assertEquals(TranspositionTable.getDepth(entry), 9);
+        assertEquals(TranspositionTable.getBound(entry), TranspositionTable.LOWER_BOUND);
+
+        //Same slot, different key
+        assertEquals(table.probe(key ^ (1L << 40)), TranspositionTable.NO_ENTRY);
+        table.clear();
+        assertEquals(table.probe(key), TranspositionTable.NO_ENTRY);
+    }
+
+    @Test
+    public void testCapacity() {
+        assertEquals(TranspositionTable.getCapacity(1), 65536);
+        assertEquals(TranspositionTable.getCapacity(TranspositionTable.DEFAULT_SIZE_MB), 16 * 65536);
+        //Not a power of two in megabytes, rounded down
+        assertEquals(TranspositionTable.getCapacity(3), 2 * 65536);
+        //The largest table is too big to create in a test, its size is checked without it
+        final int maxCapacity = TranspositionTable.getCapacity(TranspositionTable.MAX_SIZE_MB);
+        assertEquals(Integer.bitCount(maxCapacity), 1);
+        assertEquals(maxCapacity, 1 << 29);
+        assertTrue(2L * maxCapacity < Integer.MAX_VALUE);
+    }
+
+    @Test
+    public void testReplacement() {
+        final TranspositionTable table = new TranspositionTable(1);
+        final long deep = 5L;
+        final long shallow = 5L + ((long)table.getCapacity() << 3);
+
+        table.store(deep, 1, 10, 8, TranspositionTable.EXACT);
+        table.store(shallow, 2, 20, 3, TranspositionTable.EXACT);
+        assertEquals(TranspositionTable.getScore(table.probe(deep)), 10);
+        assertEquals(table.probe(shallow), TranspositionTable.NO_ENTRY);
+
+        //The same position is always replaced and keeps its move if the new store has none
+        table.store(deep, TranspositionTable.NO_MOVE, 30, 2, TranspositionTable.UPPER_BOUND);
+        assertEquals(TranspositionTable.getScore(table.probe(deep)), 30);
+        assertEquals(TranspositionTable.getMove(table.probe(deep)), 1);
+
+        //Entries of an older search are replaced
+        table.store(deep, 1, 10, 8, TranspositionTable.EXACT);
+        table.newSearch();
+        table.store(shallow, 2, 20, 3, TranspositionTable.EXACT);
+        assertEquals(TranspositionTable.getScore(table.probe(shallow)), 20);
+        assertEquals(table.probe(deep), TranspositionTable.NO_ENTRY);
+    }
+
+    @Test
+    public void testConcurrentStoresNeverReturnTornEntries() throws InterruptedException {
+        final TranspositionTable table = new TranspositionTable(1);
+        final AtomicInteger errors = new AtomicInteger();
+        final List<Thread> threads = new ArrayList<>();
+        for (int t = 0; t < 4; t++) {
+            final int seed = t;
+            threads.add(new Thread(new Runnable() {
+                @Override
+                public void run() {
+                    for (int i = 0; i < 200000; i++) {
+                        //Few slots so the threads keep writing over each other
+                        final long key = ((long)(i * 31 + seed) * 0x9E3779B97F4A7C15L) & ~0xFFF0L;
+                        final int score = (int)(key >>> 40);
+                        table.store(key, 1, score, i & 63, TranspositionTable.EXACT);
+                        final long entry = table.probe(key);
+                        if (entry != TranspositionTable.NO_ENTRY && TranspositionTable.getScore(entry) != score)
+                            errors.incrementAndGet();
+                    }
+                }
+            }));
+        }
+        for (final Thread thread : threads) {
+            thread.start();
+        }
+        for (final Thread thread : threads) {
+            thread.join();
+        }
+        assertEquals(errors.get(), 0);
+    }
+
+    @Test
+    public void testSharedTableSpeedsUpTheNextSearch() {
+        final TranspositionTable table = new TranspositionTable(8);
+        final Board board = PerftPosition.KIWIPETE.createBoard();
+        final SearchResult first = new AlphaBetaSearch(table).search(board, SearchLimits.depth(4));
+        final SearchResult second = new AlphaBetaSearch(table).search(board, SearchLimits.depth(4));
+        assertTrue(second.getNodes() < first.getNodes());
+        assertEquals(second.getScore(), first.getScore());
+        assertTrue(table.getPermillFull() >= 0);
+    }
+
+}
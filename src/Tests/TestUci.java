@@ -0,0 +1,111 @@
+package Tests;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.Test;
+
+import chess.engine.search.TranspositionTable;
+import chess.engine.uci.UciEngine;
+
+public class TestUci {
+
+    @Test
+    public void testHandshake() throws IOException, InterruptedException {
+        final List<String> lines = run("uci", "isready", "quit");
+        assertEquals(lines.get(0), "id name " + UciEngine.NAME);
+        assertTrue(lines.contains("option name Hash type spin default " + TranspositionTable.DEFAULT_SIZE_MB +
+                " min 1 max " + TranspositionTable.MAX_SIZE_MB));
+        assertTrue(lines.contains("option name Threads type spin default 1 min 1 max " + UciEngine.MAX_THREADS));
+        assertEquals(lines.get(lines.size() - 2), "uciok");
+        assertEquals(lines.get(lines.size() - 1), "readyok");
+    }
+
+    @Test
+    public void testMateInOne() throws IOException, InterruptedException {
+        final List<String> lines = run("setoption name Hash value 1",
+                "position fen 6k1/5ppp/8/8/8/8/8/R5K1 w - - 0 1", "go depth 3");
+        assertTrue(lines.get(0).startsWith("info depth 1 "));
+        assertTrue(lines.get(0).contains(" hashfull "));
+        assertTrue(lines.get(lines.size() - 2).contains(" score mate 1 "));
+        assertEquals(lines.get(lines.size() - 1), "bestmove a1a8");
+    }
+
+    @Test
+    public void testPositionMoves() throws IOException, InterruptedException {
+        //After 1. f3 e5 2. g4 only Qh4 mates, the helper searches must not change the move played
+        final List<String> lines = run("setoption name Threads value 3",
+                "position startpos moves f2f3 e7e5 g2g4", "go wtime 60000 btime 60000 winc 1000 binc 1000");
+        assertTrue(lines.get(lines.size() - 1).startsWith("bestmove d8h4"));
+    }
+
+    @Test
+    public void testStopAndIllegalMove() throws IOException, InterruptedException {
+        final List<String> lines = run("position startpos moves e2e4 e2e4", "go infinite", "isready", "stop",
+                "position fen 7k/5Q2/6K1/8/8/8/8/8 b - - 0 1", "go depth 2");
+        assertEquals(lines.get(0), "info string illegal move e2e4");
+        assertTrue(lines.contains("readyok"));
+        //The infinite search answers on stop with a move for Black, who is to move after e4
+        String bestMove = null;
+        for (final String line : lines) {
+            if (bestMove == null && line.startsWith("bestmove")) {
+                bestMove = line;
+            }
+        }
+        assertTrue(bestMove.matches("bestmove [a-h]7[a-h][56].*|bestmove [bg]8[a-h]6.*"));
+        //Black is stalemated, there is no move to play
+        assertEquals(lines.get(lines.size() - 1), "bestmove 0000");
+    }
+
+    @Test
+    public void testThreadsShareOneTableAge() throws IOException, InterruptedException {
+        final ByteArrayOutputStream output = new ByteArrayOutputStream();
+        final UciEngine engine = createEngine(output, "setoption name Threads value 3", "position startpos", "go depth 5",
+                "position startpos moves e2e4", "go depth 5");
+        final TranspositionTable table = engine.getTranspositionTable();
+        assertEquals(table.getAge(), 0);
+        engine.run();
+        //One new search of the table for every go, however many threads search it
+        assertEquals(table.getAge(), 2);
+        assertTrue(table.getPermillFull() > 0);
+    }
+
+    @Test
+    public void testNewGameClearsTable() throws IOException, InterruptedException {
+        final ByteArrayOutputStream output = new ByteArrayOutputStream();
+        final UciEngine engine = createEngine(output, "position startpos", "go depth 5", "ucinewgame", "isready");
+        final TranspositionTable table = engine.getTranspositionTable();
+        engine.run();
+        //The table is emptied, not allocated again
+        assertSame(table, engine.getTranspositionTable());
+        assertEquals(table.getPermillFull(), 0);
+        assertEquals(table.getAge(), 0);
+        assertTrue(output.toString("UTF-8").contains("readyok"));
+    }
+
+    private static List<String> run(final String... commands) throws IOException, InterruptedException {
+        final ByteArrayOutputStream output = new ByteArrayOutputStream();
+        createEngine(output, commands).run();
+        return new ArrayList<>(Arrays.asList(output.toString("UTF-8").split("\\r?\\n")));
+    }
+
+    private static UciEngine createEngine(final ByteArrayOutputStream output, final String... commands) throws IOException {
+        final StringBuilder input = new StringBuilder();
+        for (final String command : commands) {
+            input.append(command).append('\n');
+        }
+        return new UciEngine(new ByteArrayInputStream(input.toString().getBytes(StandardCharsets.UTF_8)),
+                new PrintStream(output, true, "UTF-8"));
+    }
+
+}
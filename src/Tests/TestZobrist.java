@@ -0,0 +1,134 @@
+package Tests;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.Test;
+
+import chess.engine.board.Board;
+import chess.engine.board.BoardUtils;
+import chess.engine.board.Move;
+import chess.engine.pieces.King;
+import chess.engine.pieces.Pawn;
+import chess.engine.pieces.Piece;
+import chess.engine.pieces.Team;
+import chess.engine.player.MoveTransition;
+
+public class TestZobrist {
+
+    @Test
+    public void testIncrementalKeyMatchesFreshKey() {
+        final Random random = new Random(42);
+        for (int game = 0; game < 10; game++) {
+            Board board = Board.createStandardBoard();
+            for (int ply = 0; ply < 100; ply++) {
+                final List<Move> moves = new ArrayList<>(board.currentPlayer().getLegalMoves());
+                MoveTransition transition = null;
+                while (!moves.isEmpty()) {
+                    transition = board.currentPlayer().makeMove(moves.remove(random.nextInt(moves.size())));
+                    if (transition.getMoveStatus().isDone()) {
+                        break;
+                    }
+                }
+                if (transition == null || !transition.getMoveStatus().isDone()) {
+                    break;
+                }
+                board = transition.getToBoard();
+                final Board rebuilt = rebuild(board);
+                assertEquals(rebuilt.getZobristKey(), board.getZobristKey());
+                assertEquals(rebuilt, board);
+            }
+        }
+    }
+
+    @Test
+    public void testTransposition() {
+        final Board start = Board.createStandardBoard();
+        final Board board = play(start, "g1", "f3", "g8", "f6", "f3", "g1", "f6", "g8");
+        assertEquals(start.getZobristKey(), board.getZobristKey());
+        assertEquals(start, board);
+        assertEquals(start.hashCode(), board.hashCode());
+
+        final Board first = play(start, "e2", "e3", "e7", "e6", "d2", "d3");
+        final Board second = play(start, "d2", "d3", "e7", "e6", "e2", "e3");
+        assertEquals(first.getZobristKey(), second.getZobristKey());
+        assertEquals(first, second);
+    }
+
+    @Test
+    public void testSideToMoveChangesKey() {
+        final Board white = kingsAndPawn(Team.WHITE);
+        final Board black = kingsAndPawn(Team.BLACK);
+        assertNotEquals(white.getZobristKey(), black.getZobristKey());
+        assertFalse(white.equals(black));
+    }
+
+    @Test
+    public void testEnPassantChangesKey() {
+        final Board jumped = play(Board.createStandardBoard(), "e2", "e4");
+        assertTrue(jumped.getEnPassantPawn() != null);
+        final Board withoutEnPassant = rebuildWithoutEnPassant(jumped);
+        assertNotEquals(jumped.getZobristKey(), withoutEnPassant.getZobristKey());
+        assertFalse(jumped.equals(withoutEnPassant));
+    }
+
+    @Test
+    public void testCastlingRightsChangeKey() {
+        final Board start = Board.createStandardBoard();
+        assertEquals(start.getCastlingRights(), BoardUtils.ALL_CASTLING_RIGHTS);
+        // The kings walk out and back, the pieces are the same but castling is gone
+        final Board board = play(start, "e2", "e4", "e7", "e5", "e1", "e2", "e8", "e7", "e2", "e1", "e7", "e8");
+        final Board openedStart = play(start, "e2", "e4", "e7", "e5");
+        assertEquals(board.getCastlingRights(), 0);
+        assertEquals(board.toString(), openedStart.toString());
+        assertNotEquals(board.getZobristKey(), openedStart.getZobristKey());
+        assertFalse(board.equals(openedStart));
+    }
+
+    private static Board play(final Board board, final String... squares) {
+        Board current = board;
+        for (int i = 0; i < squares.length; i += 2) {
+            final Move move = Move.MoveFactory.createMove(current, BoardUtils.getCoordinateAtPosition(squares[i]),
+                    BoardUtils.getCoordinateAtPosition(squares[i + 1]));
+            final MoveTransition transition = current.currentPlayer().makeMove(move);
+            assertTrue(transition.getMoveStatus().isDone());
+            current = transition.getToBoard();
+        }
+        return current;
+    }
+
+    private static Board rebuild(final Board board) {
+        final Board.Builder builder = new Board.Builder();
+        for (final Piece piece : board.getAllPieces()) {
+            builder.setPiece(piece);
+        }
+        builder.setMoveMaker(board.currentPlayer().getTeam());
+        builder.setEnPassantPawn(board.getEnPassantPawn());
+        return builder.build();
+    }
+
+    private static Board rebuildWithoutEnPassant(final Board board) {
+        final Board.Builder builder = new Board.Builder();
+        for (final Piece piece : board.getAllPieces()) {
+            builder.setPiece(piece);
+        }
+        builder.setMoveMaker(board.currentPlayer().getTeam());
+        return builder.build();
+    }
+
+    private static Board kingsAndPawn(final Team moveMaker) {
+        final Board.Builder builder = new Board.Builder();
+        builder.setPiece(new King(Team.BLACK, 4, false, false));
+        builder.setPiece(new Pawn(Team.WHITE, 52));
+        builder.setPiece(new King(Team.WHITE, 60, false, false));
+        builder.setMoveMaker(moveMaker);
+        return builder.build();
+    }
+
+}
@@ -0,0 +1,50 @@
+package chess.engine.board;
+
+import chess.engine.pieces.Piece.PieceType;
+import chess.engine.pieces.Team;
+
+/*****************************************************************************************
+ * What the immutable Board and the mutable SearchBoard both know about a position: the
+ * bitboards of the pieces and the material and placement scores they keep up to date as
+ * moves are made. The evaluation and the static exchange only need these, so they work
+ * the same on a Board handed out to the GUI and on the SearchBoard the search walks the
+ * move tree with.
+ * @author Aaron Teague
+ * I was helped by the sites www.stackoverflow.com, www.stackexchange.com,
+ * and chessprogramming.wikispaces.com
+ *****************************************************************************************/
+public interface BitBoardPosition {
+
+	/***************************************************************
+	 * Returns the bitboard of the pieces of one Team and PieceType
+	 * @param team
+	 * @param pieceType
+	 * @return long bitboard
+	 ***************************************************************/
+	long getPieceBitBoard(Team team, PieceType pieceType);
+
+	long getTeamBitBoard(Team team);
+
+	long getOccupiedBitBoard();
+
+	/*******************************************************************
+	 * Returns the pieces of the attacking Team that would attack the
+	 * tile with the occupied tiles passed in
+	 * @param tileCoordinate
+	 * @param attackingTeam
+	 * @param occupied
+	 * @return long attackers
+	 *******************************************************************/
+	long getAttackersOf(int tileCoordinate, Team attackingTeam, long occupied);
+
+	/*****************************************************************
+	 * Returns the middlegame material and placement from White's side
+	 * @return int middlegameScore
+	 *****************************************************************/
+	int getMiddlegameScore();
+
+	int getEndgameScore();
+
+	int getPhase();
+
+}
@@ -0,0 +1,418 @@
+package chess.engine.board;
+
+import chess.engine.pieces.Piece.PieceType;
+import chess.engine.pieces.Team;
+
+/***********************************************************************
+ * Utilities for working with bitboards. A bitboard is a long where bit
+ * n is set when tile coordinate n is part of the set, so bit 0 is a8
+ * and bit 63 is h1, the same numbering the Tiles use.
+ * @author Aaron Teague
+ * I was helped by the sites www.stackoverflow.com, www.stackexchange.com,
+ * and chessprogramming.wikispaces.com
+ ***********************************************************************/
+public class BitBoards {
+
+	//Constant for an empty bitboard
+	public static final long EMPTY = 0L;
+
+	//Bitboard of every tile in the first column
+	public static final long FILE_A = initFile(0);
+	//Bitboard of every tile in the second column
+	public static final long FILE_B = initFile(1);
+	//Bitboard of every tile in the seventh column
+	public static final long FILE_G = initFile(6);
+	//Bitboard of every tile in the eighth column
+	public static final long FILE_H = initFile(7);
+
+	//Number of bitboards needed to hold every Team and PieceType combination
+	public static final int NUM_PIECE_BITBOARDS = Team.values().length * PieceType.values().length;
+
+	//The row and column steps of the sliding pieces
+	static final int[][] ROOK_DIRECTIONS = {{-1, 0}, {1, 0}, {0, -1}, {0, 1}};
+	static final int[][] BISHOP_DIRECTIONS = {{-1, -1}, {-1, 1}, {1, -1}, {1, 1}};
+
+	//The tiles strictly between two tiles on the same row, column or diagonal
+	private static final long[][] BETWEEN = new long[BoardUtils.NUM_TILES][BoardUtils.NUM_TILES];
+	//The whole row, column or diagonal through two tiles, edge to edge
+	private static final long[][] LINE = new long[BoardUtils.NUM_TILES][BoardUtils.NUM_TILES];
+
+	//The tiles a Knight, a King or a Pawn of each Team attacks from every tile
+	private static final long[] KNIGHT_ATTACKS = new long[BoardUtils.NUM_TILES];
+	private static final long[] KING_ATTACKS = new long[BoardUtils.NUM_TILES];
+	private static final long[][] PAWN_ATTACKS = new long[Team.values().length][BoardUtils.NUM_TILES];
+	//The same tiles as arrays of tile coordinates, for the pieces to loop over
+	private static final int[][] KNIGHT_DESTINATIONS = new int[BoardUtils.NUM_TILES][];
+	private static final int[][] KING_DESTINATIONS = new int[BoardUtils.NUM_TILES][];
+	private static final int[][][] PAWN_ATTACK_DESTINATIONS = new int[Team.values().length][BoardUtils.NUM_TILES][];
+
+	static {
+		initLines();
+		initAttackTables();
+	}
+
+	/********************************************************************
+	 * The Constructor will throw an exception if an object is created
+	 * because just provides Utilities.
+	 ********************************************************************/
+	private BitBoards(){
+		throw new RuntimeException("This class can't be instantiated!");
+	}
+
+	/*********************************************************
+	 * Creates the bitboard of the column passed in
+	 * @param int fileNumber
+	 * @return long file
+	 ********************************************************/
+	private static long initFile(final int fileNumber) {
+		long file = EMPTY;
+		for(int i = 0; i < BoardUtils.NUM_TILES_PER_RANK; i++){
+			file |= tileMask(i * BoardUtils.NUM_TILES_PER_RANK + fileNumber);
+		}
+		return file;
+	}
+
+	/*********************************************************************
+	 * Fills in BETWEEN and LINE by walking every ray from every tile.
+	 *********************************************************************/
+	private static void initLines(){
+		final int[][][] directionSets = {ROOK_DIRECTIONS, BISHOP_DIRECTIONS};
+		for(int tile = 0; tile < BoardUtils.NUM_TILES; tile++){
+			for(final int[][] directions : directionSets){
+				for(final int[] direction : directions){
+					final long ray = walkRay(tile, direction[0], direction[1]);
+					final long backRay = walkRay(tile, -direction[0], -direction[1]);
+					long between = EMPTY;
+					for(int r = tile / BoardUtils.NUM_TILES_PER_RANK + direction[0], c = tile % BoardUtils.NUM_TILES_PER_RANK + direction[1];
+						r >= 0 && r < BoardUtils.NUM_TILES_PER_RANK && c >= 0 && c < BoardUtils.NUM_TILES_PER_RANK; r += direction[0], c += direction[1]){
+						final int other = r * BoardUtils.NUM_TILES_PER_RANK + c;
+						BETWEEN[tile][other] = between;
+						LINE[tile][other] = ray | backRay | tileMask(tile);
+						between |= tileMask(other);
+					}
+				}
+			}
+		}
+	}
+
+	/*********************************************************************
+	 * Fills in the attack tables of the Knights, Kings and Pawns from
+	 * the shifts of knightAttacks, kingAttacks and pawnAttacks, so the
+	 * file checks are only done once for every tile.
+	 *********************************************************************/
+	private static void initAttackTables(){
+		for(int tile = 0; tile < BoardUtils.NUM_TILES; tile++){
+			KNIGHT_ATTACKS[tile] = knightAttacks(tileMask(tile));
+			KNIGHT_DESTINATIONS[tile] = toTileCoordinates(KNIGHT_ATTACKS[tile]);
+			KING_ATTACKS[tile] = kingAttacks(tileMask(tile));
+			KING_DESTINATIONS[tile] = toTileCoordinates(KING_ATTACKS[tile]);
+			for(final Team team : Team.values()){
+				PAWN_ATTACKS[team.ordinal()][tile] = pawnAttacks(team, tileMask(tile));
+				PAWN_ATTACK_DESTINATIONS[team.ordinal()][tile] = toTileCoordinates(PAWN_ATTACKS[team.ordinal()][tile]);
+			}
+		}
+	}
+
+	private static int[] toTileCoordinates(final long bitBoard){
+		final int[] tileCoordinates = new int[count(bitBoard)];
+		int i = 0;
+		for(long tiles = bitBoard; tiles != 0; tiles = clearFirstTile(tiles)){
+			tileCoordinates[i++] = firstTile(tiles);
+		}
+		return tileCoordinates;
+	}
+
+	private static long walkRay(final int tileCoordinate, final int rowStep, final int columnStep){
+		long ray = EMPTY;
+		for(int r = tileCoordinate / BoardUtils.NUM_TILES_PER_RANK + rowStep, c = tileCoordinate % BoardUtils.NUM_TILES_PER_RANK + columnStep;
+			r >= 0 && r < BoardUtils.NUM_TILES_PER_RANK && c >= 0 && c < BoardUtils.NUM_TILES_PER_RANK; r += rowStep, c += columnStep){
+			ray |= tileMask(r * BoardUtils.NUM_TILES_PER_RANK + c);
+		}
+		return ray;
+	}
+
+	/*****************************************************************
+	 * Returns the tiles strictly between the two tiles, or an empty
+	 * bitboard if they are not on the same row, column or diagonal.
+	 * @param from
+	 * @param to
+	 * @return long between
+	 *****************************************************************/
+	public static long between(final int from, final int to){
+		return BETWEEN[from][to];
+	}
+
+	/******************************************************************
+	 * Returns every tile of the row, column or diagonal that goes
+	 * through both tiles, or an empty bitboard if there is none.
+	 * @param from
+	 * @param to
+	 * @return long line
+	 ******************************************************************/
+	public static long line(final int from, final int to){
+		return LINE[from][to];
+	}
+
+	/*********************************************************
+	 * Returns the bitboard with only the tile coordinate set
+	 * @param tileCoordinate
+	 * @return long
+	 *********************************************************/
+	public static long tileMask(final int tileCoordinate){
+		return 1L << tileCoordinate;
+	}
+
+	/*************************************************************
+	 * Returns the index of the bitboard that holds the pieces of
+	 * the Team and PieceType passed in
+	 * @param team
+	 * @param pieceType
+	 * @return int index
+	 *************************************************************/
+	public static int bitBoardIndex(final Team team, final PieceType pieceType){
+		return team.ordinal() * PieceType.values().length + pieceType.ordinal();
+	}
+
+	/***************************************************
+	 * Returns true if the tile is set in the bitboard
+	 * @param bitBoard
+	 * @param tileCoordinate
+	 * @return true or false
+	 ***************************************************/
+	public static boolean isSet(final long bitBoard, final int tileCoordinate){
+		return (bitBoard & tileMask(tileCoordinate)) != 0;
+	}
+
+	/*************************************************
+	 * Returns the number of tiles set in the bitboard
+	 * @param bitBoard
+	 * @return int
+	 *************************************************/
+	public static int count(final long bitBoard){
+		return Long.bitCount(bitBoard);
+	}
+
+	/*****************************************************************
+	 * Returns the lowest tile coordinate set in the bitboard, or 64
+	 * when the bitboard is empty.
+	 * @param bitBoard
+	 * @return int tileCoordinate
+	 *****************************************************************/
+	public static int firstTile(final long bitBoard){
+		return Long.numberOfTrailingZeros(bitBoard);
+	}
+
+	/*****************************************************
+	 * Returns the bitboard with its lowest tile cleared
+	 * @param bitBoard
+	 * @return long
+	 *****************************************************/
+	public static long clearFirstTile(final long bitBoard){
+		return bitBoard & (bitBoard - 1);
+	}
+
+	/*****************************************************************
+	 * Returns the tiles the Knights on the bitboard attack. Each shift
+	 * moves the knights by one of their eight jumps, the file masks
+	 * drop the jumps that would wrap around the edge of the board.
+	 * @param knights
+	 * @return long attacks
+	 *****************************************************************/
+	public static long knightAttacks(final long knights){
+		final long notFileA = ~FILE_A;
+		final long notFileH = ~FILE_H;
+		final long notFileAB = ~(FILE_A | FILE_B);
+		final long notFileGH = ~(FILE_G | FILE_H);
+		return ((knights >>> 17) & notFileH) | ((knights >>> 15) & notFileA) |
+			   ((knights >>> 10) & notFileGH) | ((knights >>> 6) & notFileAB) |
+			   ((knights << 17) & notFileA) | ((knights << 15) & notFileH) |
+			   ((knights << 10) & notFileAB) | ((knights << 6) & notFileGH);
+	}
+
+	/***********************************************************
+	 * Returns the tiles the Kings on the bitboard attack
+	 * @param kings
+	 * @return long attacks
+	 ***********************************************************/
+	public static long kingAttacks(final long kings){
+		final long notFileA = ~FILE_A;
+		final long notFileH = ~FILE_H;
+		return (kings >>> 8) | (kings << 8) |
+			   ((kings >>> 1) & notFileH) | ((kings << 1) & notFileA) |
+			   ((kings >>> 9) & notFileH) | ((kings >>> 7) & notFileA) |
+			   ((kings << 7) & notFileH) | ((kings << 9) & notFileA);
+	}
+
+	/***************************************************************
+	 * Returns the tiles the Pawns of the Team on the bitboard attack.
+	 * White pawns move towards tile 0 and Black pawns towards 63.
+	 * @param team
+	 * @param pawns
+	 * @return long attacks
+	 ***************************************************************/
+	public static long pawnAttacks(final Team team, final long pawns){
+		if(team.isWhite())
+			return ((pawns >>> 9) & ~FILE_H) | ((pawns >>> 7) & ~FILE_A);
+		return ((pawns << 7) & ~FILE_H) | ((pawns << 9) & ~FILE_A);
+	}
+
+	/*************************************************************
+	 * Returns the tiles a Knight on the tile attacks, looked up
+	 * in the table instead of shifting
+	 * @param tileCoordinate
+	 * @return long attacks
+	 *************************************************************/
+	public static long knightAttacksFrom(final int tileCoordinate){
+		return KNIGHT_ATTACKS[tileCoordinate];
+	}
+
+	public static long kingAttacksFrom(final int tileCoordinate){
+		return KING_ATTACKS[tileCoordinate];
+	}
+
+	public static long pawnAttacksFrom(final Team team, final int tileCoordinate){
+		return PAWN_ATTACKS[team.ordinal()][tileCoordinate];
+	}
+
+	/*************************************************************
+	 * Returns the tile coordinates a Knight on the tile can move
+	 * to on an empty board. The array is shared, don't change it.
+	 * @param tileCoordinate
+	 * @return int[] destinations
+	 *************************************************************/
+	public static int[] knightDestinations(final int tileCoordinate){
+		return KNIGHT_DESTINATIONS[tileCoordinate];
+	}
+
+	public static int[] kingDestinations(final int tileCoordinate){
+		return KING_DESTINATIONS[tileCoordinate];
+	}
+
+	/*************************************************************
+	 * Returns the tile coordinates a Pawn of the Team on the tile
+	 * captures on. The array is shared, don't change it.
+	 * @param team
+	 * @param tileCoordinate
+	 * @return int[] destinations
+	 *************************************************************/
+	public static int[] pawnAttackDestinations(final Team team, final int tileCoordinate){
+		return PAWN_ATTACK_DESTINATIONS[team.ordinal()][tileCoordinate];
+	}
+
+	/******************************************************************
+	 * Returns the tiles a Rook on the tile attacks, stopping each ray
+	 * at the first occupied tile, which is attacked as well. The
+	 * attacks are looked up in the MagicBitBoards.
+	 * @param tileCoordinate
+	 * @param occupied
+	 * @return long attacks
+	 ******************************************************************/
+	public static long rookAttacks(final int tileCoordinate, final long occupied){
+		return MagicBitBoards.rookAttacks(tileCoordinate, occupied);
+	}
+
+	public static long bishopAttacks(final int tileCoordinate, final long occupied){
+		return MagicBitBoards.bishopAttacks(tileCoordinate, occupied);
+	}
+
+	public static long queenAttacks(final int tileCoordinate, final long occupied){
+		return rookAttacks(tileCoordinate, occupied) | bishopAttacks(tileCoordinate, occupied);
+	}
+
+	/******************************************************************
+	 * Walks the rays of a slider one tile at a time, too slow for the
+	 * search but what the MagicBitBoards fill their tables with
+	 * @param tileCoordinate
+	 * @param occupied
+	 * @param directions
+	 * @return long attacks
+	 ******************************************************************/
+	static long slidingAttacks(final int tileCoordinate, final long occupied, final int[][] directions){
+		final int row = tileCoordinate / BoardUtils.NUM_TILES_PER_RANK;
+		final int column = tileCoordinate % BoardUtils.NUM_TILES_PER_RANK;
+		long attacks = EMPTY;
+		for(final int[] direction : directions){
+			int r = row + direction[0];
+			int c = column + direction[1];
+			while(r >= 0 && r < BoardUtils.NUM_TILES_PER_RANK && c >= 0 && c < BoardUtils.NUM_TILES_PER_RANK){
+				final long mask = tileMask(r * BoardUtils.NUM_TILES_PER_RANK + c);
+				attacks |= mask;
+				if((occupied & mask) != 0)
+					break;
+				r += direction[0];
+				c += direction[1];
+			}
+		}
+		return attacks;
+	}
+
+	/**************************************************************************
+	 * Checks if any piece of the attacking Team attacks the tile. Instead of
+	 * generating the attacker's moves, the attacks of every piece type are
+	 * looked up backwards from the tile: if a Knight on the tile would reach
+	 * an attacking Knight, that Knight reaches the tile, and the same for the
+	 * other pieces. Pawns are looked up with the attacks of the other Team.
+	 * @param pieceBitBoards the bitboards indexed by bitBoardIndex
+	 * @param occupied
+	 * @param tileCoordinate
+	 * @param attackingTeam
+	 * @return true or false
+	 **************************************************************************/
+	public static boolean isTileAttacked(final long[] pieceBitBoards, final long occupied,
+										 final int tileCoordinate, final Team attackingTeam){
+		if((pawnAttacksFrom(attackingTeam.opposite(), tileCoordinate) & pieceBitBoards[bitBoardIndex(attackingTeam, PieceType.PAWN)]) != 0)
+			return true;
+		if((knightAttacksFrom(tileCoordinate) & pieceBitBoards[bitBoardIndex(attackingTeam, PieceType.KNIGHT)]) != 0)
+			return true;
+		if((kingAttacksFrom(tileCoordinate) & pieceBitBoards[bitBoardIndex(attackingTeam, PieceType.KING)]) != 0)
+			return true;
+		final long queens = pieceBitBoards[bitBoardIndex(attackingTeam, PieceType.QUEEN)];
+		final long rooks = pieceBitBoards[bitBoardIndex(attackingTeam, PieceType.ROOK)] | queens;
+		if(rooks != 0 && (rookAttacks(tileCoordinate, occupied) & rooks) != 0)
+			return true;
+		final long bishops = pieceBitBoards[bitBoardIndex(attackingTeam, PieceType.BISHOP)] | queens;
+		return bishops != 0 && (bishopAttacks(tileCoordinate, occupied) & bishops) != 0;
+	}
+
+	/**************************************************************************
+	 * Returns the bitboard of the pieces of the attacking Team that attack
+	 * the tile, looked up backwards from the tile like isTileAttacked.
+	 * @param pieceBitBoards the bitboards indexed by bitBoardIndex
+	 * @param occupied
+	 * @param tileCoordinate
+	 * @param attackingTeam
+	 * @return long attackers
+	 **************************************************************************/
+	public static long attackersTo(final long[] pieceBitBoards, final long occupied,
+								   final int tileCoordinate, final Team attackingTeam){
+		final long queens = pieceBitBoards[bitBoardIndex(attackingTeam, PieceType.QUEEN)];
+		return (pawnAttacksFrom(attackingTeam.opposite(), tileCoordinate) & pieceBitBoards[bitBoardIndex(attackingTeam, PieceType.PAWN)]) |
+			   (knightAttacksFrom(tileCoordinate) & pieceBitBoards[bitBoardIndex(attackingTeam, PieceType.KNIGHT)]) |
+			   (kingAttacksFrom(tileCoordinate) & pieceBitBoards[bitBoardIndex(attackingTeam, PieceType.KING)]) |
+			   (rookAttacks(tileCoordinate, occupied) & (pieceBitBoards[bitBoardIndex(attackingTeam, PieceType.ROOK)] | queens)) |
+			   (bishopAttacks(tileCoordinate, occupied) & (pieceBitBoards[bitBoardIndex(attackingTeam, PieceType.BISHOP)] | queens));
+	}
+
+	/************************************************************************
+	 * Returns the attack map of the Team, every tile one of its pieces
+	 * attacks, whether the tile is empty or not.
+	 * @param pieceBitBoards the bitboards indexed by bitBoardIndex
+	 * @param occupied
+	 * @param team
+	 * @return long attacks
+	 ************************************************************************/
+	public static long attackedTiles(final long[] pieceBitBoards, final long occupied, final Team team){
+		long attacks = pawnAttacks(team, pieceBitBoards[bitBoardIndex(team, PieceType.PAWN)]) |
+					   knightAttacks(pieceBitBoards[bitBoardIndex(team, PieceType.KNIGHT)]) |
+					   kingAttacks(pieceBitBoards[bitBoardIndex(team, PieceType.KING)]);
+		final long queens = pieceBitBoards[bitBoardIndex(team, PieceType.QUEEN)];
+		for(long rooks = pieceBitBoards[bitBoardIndex(team, PieceType.ROOK)] | queens; rooks != 0; rooks = clearFirstTile(rooks)){
+			attacks |= rookAttacks(firstTile(rooks), occupied);
+		}
+		for(long bishops = pieceBitBoards[bitBoardIndex(team, PieceType.BISHOP)] | queens; bishops != 0; bishops = clearFirstTile(bishops)){
+			attacks |= bishopAttacks(firstTile(bishops), occupied);
+		}
+		return attacks;
+	}
+
+}
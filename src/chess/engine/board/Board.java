@@ -1,6 +1,7 @@
 package chess.engine.board;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.HashMap;
 import java.util.List;
@@ -9,11 +10,13 @@ import java.util.Map;
 import com.google.common.collect.ImmutableList;
 import com.google.common.collect.Iterables;
 
+import chess.engine.evaluation.PieceSquareTables;
 import chess.engine.pieces.Bishop;
 import chess.engine.pieces.King;
 import chess.engine.pieces.Knight;
 import chess.engine.pieces.Pawn;
 import chess.engine.pieces.Piece;
+import chess.engine.pieces.Piece.PieceType;
 import chess.engine.pieces.Queen;
 import chess.engine.pieces.Rook;
 import chess.engine.pieces.Team;
@@ -28,7 +31,7 @@ import chess.engine.player.WhitePlayer;
  * I was helped by the sites www.stackoverflow.com, www.stackexchange.com,
  * and chessprogramming.wikispaces.com
  *********************************************************************/
-public class Board {
+public class Board implements BitBoardPosition {
 	
 	//A List that represents the Tiles on the board
 	private final List<Tile> gameBoard;
@@ -37,6 +40,17 @@ public class Board {
 	//Keeps track of the Black Pieces on the board
     private final Collection<Piece> blackPieces;
     
+    //One bitboard for every Team and PieceType combination
+    private final long[] pieceBitBoards;
+    //Every tile occupied by a White Piece
+    private final long whiteBitBoard;
+    //Every tile occupied by a Black Piece
+    private final long blackBitBoard;
+    //Every occupied tile
+    private final long occupiedBitBoard;
+    //The tiles each Team attacks, only calculated when castling needs them
+    private volatile long[] attackMaps;
+    
     //Represents the White Player
     private final WhitePlayer whitePlayer;
     //Represents the Black Player
@@ -47,6 +61,22 @@ public class Board {
     
     private final Pawn enPassantPawn;
     
+    //Represents the castling rights of both players as bits
+    private final int castlingRights;
+    //Represents the Zobrist key of the position
+    private final long zobristKey;
+    //Represents the part of the Zobrist key that comes from the pieces
+    private final long pieceZobristKey;
+    //The material and placement of the pieces from White's side, see PieceSquareTables
+    private final int middlegameScore;
+    private final int endgameScore;
+    //The phase of the pieces on the board, see PieceSquareTables
+    private final int phase;
+    //The moves since the last capture or pawn move, for the fifty move rule
+    private final int halfMoveClock;
+    //The number of the move, starting at 1 and counted up after Black moves
+    private final int fullMoveNumber;
+    
 	
 	/*************************************
 	 * The Board constructor.
@@ -60,16 +90,26 @@ public class Board {
 		//Finds all active black pieces
 		this.blackPieces = calculateAcitvePieces(this.gameBoard, Team.BLACK);
 		this.enPassantPawn = builder.enPassantPawn;
+		//The bitboards were calculated by the builder
+		this.pieceBitBoards = builder.pieceBitBoards;
+		this.whiteBitBoard = teamBitBoard(this.pieceBitBoards, Team.WHITE);
+		this.blackBitBoard = teamBitBoard(this.pieceBitBoards, Team.BLACK);
+		this.occupiedBitBoard = this.whiteBitBoard | this.blackBitBoard;
+		//The castling rights and the piece part of the key were calculated by the builder
+		this.castlingRights = builder.castlingRights;
+		this.pieceZobristKey = builder.pieceZobristKey;
+		this.zobristKey = this.pieceZobristKey ^ Zobrist.calculateStateKey(builder.nextMoveMaker, this.castlingRights,
+				this.enPassantPawn == null ? -1 : this.enPassantPawn.getPiecePosition());
+		//The scores were calculated by the builder or updated by the move
+		this.middlegameScore = builder.middlegameScore;
+		this.endgameScore = builder.endgameScore;
+		this.phase = builder.phase;
+		this.halfMoveClock = builder.halfMoveClock;
+		this.fullMoveNumber = builder.fullMoveNumber;
 		
-		//Represent all possible move the white team can perform
-		final Collection<Move> whiteStandardLegalMoves = calculateLegalMoves(this.whitePieces);
-		//Represent all possible move the black team can perform
-		final Collection<Move> blackStandardLegalMoves = calculateLegalMoves(this.blackPieces);
-		
-		//The black standard moves are needed to calculate the castle moves
-		this.whitePlayer = new WhitePlayer(this, whiteStandardLegalMoves, blackStandardLegalMoves);
-		//The white standard moves are need to calculate the castle moves
-		this.blackPlayer = new BlackPlayer(this, whiteStandardLegalMoves, blackStandardLegalMoves);
+		//The players calculate their moves the first time they are asked for them
+		this.whitePlayer = new WhitePlayer(this);
+		this.blackPlayer = new BlackPlayer(this);
 		//Sets the player who can make a move
 		currentPlayer = builder.nextMoveMaker.choosePlayer(this.whitePlayer, this.blackPlayer);
 	}
@@ -93,6 +133,114 @@ public class Board {
 		return builder.toString();
 	}
 	
+	/************************************************************
+	 * Two Boards are equal when they hold the same position, the
+	 * same pieces on the same tiles, the same player to move, the
+	 * same castling rights and the same En Passant pawn.
+	 ************************************************************/
+	@Override
+	public boolean equals(final Object other){
+		if(this == other)
+			return true;
+		
+		if(!(other instanceof Board))
+			return false;
+		
+		final Board otherBoard = (Board) other;
+		return this.zobristKey == otherBoard.zobristKey &&
+			   this.currentPlayer.getTeam() == otherBoard.currentPlayer.getTeam() &&
+			   this.castlingRights == otherBoard.castlingRights &&
+			   enPassantTile() == otherBoard.enPassantTile() &&
+			   Arrays.equals(this.pieceBitBoards, otherBoard.pieceBitBoards);
+	}
+	
+	@Override
+	public int hashCode(){
+		return (int)(this.zobristKey ^ (this.zobristKey >>> 32));
+	}
+	
+	private int enPassantTile(){
+		return this.enPassantPawn == null ? -1 : this.enPassantPawn.getPiecePosition();
+	}
+	
+	/*****************************************************************
+	 * Returns the 64 bit Zobrist key of the position. Boards holding
+	 * the same position have the same key.
+	 * @return long zobristKey
+	 *****************************************************************/
+	public long getZobristKey(){
+		return this.zobristKey;
+	}
+	
+	/*****************************************************************
+	 * Returns the part of the Zobrist key that comes from the pieces,
+	 * the moves use it to update the key instead of recalculating it
+	 * @return long pieceZobristKey
+	 *****************************************************************/
+	long getPieceZobristKey(){
+		return this.pieceZobristKey;
+	}
+	
+	/*****************************************************************
+	 * Returns the middlegame material and placement of the pieces
+	 * from White's side, kept up to date by the moves so the
+	 * evaluation doesn't have to add up every piece
+	 * @return int middlegameScore
+	 *****************************************************************/
+	public int getMiddlegameScore(){
+		return this.middlegameScore;
+	}
+	
+	public int getEndgameScore(){
+		return this.endgameScore;
+	}
+	
+	/*****************************************************************
+	 * Returns the phase of the pieces on the board, TOTAL_PHASE of
+	 * the PieceSquareTables at the start and 0 with only Kings and
+	 * Pawns left
+	 * @return int phase
+	 *****************************************************************/
+	public int getPhase(){
+		return this.phase;
+	}
+	
+	/*****************************************************************
+	 * Returns the number of moves since the last capture or pawn
+	 * move
+	 * @return int halfMoveClock
+	 *****************************************************************/
+	public int getHalfMoveClock(){
+		return this.halfMoveClock;
+	}
+	
+	/*****************************************************************
+	 * Returns the number of the move, 1 at the start of the game and
+	 * one higher after every move of Black
+	 * @return int fullMoveNumber
+	 *****************************************************************/
+	public int getFullMoveNumber(){
+		return this.fullMoveNumber;
+	}
+	
+	/*****************************************************************
+	 * Returns the castling rights as bits, see BoardUtils
+	 * @return int castlingRights
+	 *****************************************************************/
+	public int getCastlingRights(){
+		return this.castlingRights;
+	}
+	
+	/******************************************************************
+	 * Checks if the King and the Rook of the castling right passed in
+	 * still have not moved.
+	 * @param castlingRight
+	 * @return true or false
+	 ******************************************************************/
+	public boolean isCastlingAllowed(final int castlingRight){
+		return (this.castlingRights & castlingRight) != 0;
+	}
+	
 	/**************************************************
 	 * Returns the Pawn that be taken by En Passant
 	 * @return
@@ -145,27 +293,135 @@ public class Board {
 	 public List<Tile> getGameBoard() {
 	        return this.gameBoard;
 	}
-
 	
-	/****************************************************************************
-	 * Calculates all the legal moves for one Team.
-	 * @param pieces
-	 * @return List<move> legalMoves
-	 ****************************************************************************/
-	private Collection<Move> calculateLegalMoves(final Collection<Piece> pieces) {
-		
-		//A list that holds all of the legal in moves for specific team
-		final List<Move> legalMoves = new ArrayList<>(35);
-		
-		//Loops through all the pieces on one side
-		for(final Piece piece : pieces){
-			//Calculates the legal moves and adds them to the list
-			legalMoves.addAll(piece.calculateLegalMoves(this));
+	/***************************************************************
+	 * Returns the bitboard of the pieces of one Team and PieceType
+	 * @param team
+	 * @param pieceType
+	 * @return long bitboard
+	 ***************************************************************/
+	public long getPieceBitBoard(final Team team, final PieceType pieceType){
+		return this.pieceBitBoards[BitBoards.bitBoardIndex(team, pieceType)];
+	}
+	
+	/***************************************************
+	 * Returns the bitboard of every tile the Team holds
+	 * @param team
+	 * @return long bitboard
+	 ***************************************************/
+	public long getTeamBitBoard(final Team team){
+		return team.isWhite() ? this.whiteBitBoard : this.blackBitBoard;
+	}
+	
+	/*******************************************
+	 * Returns the bitboard of every occupied tile
+	 * @return long occupiedBitBoard
+	 *******************************************/
+	public long getOccupiedBitBoard(){
+		return this.occupiedBitBoard;
+	}
+	
+	/*****************************************************
+	 * Checks the occupied bitboard for the tile instead
+	 * of going through the Tile object.
+	 * @param tileCoordinate
+	 * @return true or false
+	 *****************************************************/
+	public boolean isTileOccupied(final int tileCoordinate){
+		return BitBoards.isSet(this.occupiedBitBoard, tileCoordinate);
+	}
+	
+	/*******************************************************
+	 * Checks if the tile is occupied by a piece of the Team
+	 * @param tileCoordinate
+	 * @param team
+	 * @return true or false
+	 *******************************************************/
+	public boolean isTileOccupiedBy(final int tileCoordinate, final Team team){
+		return BitBoards.isSet(getTeamBitBoard(team), tileCoordinate);
+	}
+	
+	/*******************************************************************
+	 * Checks if a piece of the attacking Team attacks the tile, without
+	 * generating any moves.
+	 * @param tileCoordinate
+	 * @param attackingTeam
+	 * @return true or false
+	 *******************************************************************/
+	public boolean isTileAttacked(final int tileCoordinate, final Team attackingTeam){
+		return BitBoards.isTileAttacked(this.pieceBitBoards, this.occupiedBitBoard, tileCoordinate, attackingTeam);
+	}
+	
+	/*******************************************************************
+	 * Checks if the tile would be attacked with the occupied tiles
+	 * passed in, used to see if the King can step away along the ray
+	 * of the piece attacking it.
+	 * @param tileCoordinate
+	 * @param attackingTeam
+	 * @param occupied
+	 * @return true or false
+	 *******************************************************************/
+	public boolean isTileAttacked(final int tileCoordinate, final Team attackingTeam, final long occupied){
+		return BitBoards.isTileAttacked(this.pieceBitBoards, occupied, tileCoordinate, attackingTeam);
+	}
+	
+	/*******************************************************************
+	 * Returns the bitboard of the pieces of the attacking Team that
+	 * attack the tile.
+	 * @param tileCoordinate
+	 * @param attackingTeam
+	 * @return long attackers
+	 *******************************************************************/
+	public long getAttackersOf(final int tileCoordinate, final Team attackingTeam){
+		return BitBoards.attackersTo(this.pieceBitBoards, this.occupiedBitBoard, tileCoordinate, attackingTeam);
+	}
+	
+	/*******************************************************************
+	 * Returns the pieces of the attacking Team that would attack the
+	 * tile with the occupied tiles passed in. Pieces taken off the
+	 * occupied tiles don't attack and sliders see through them, which
+	 * is how the static exchange finds x-ray attackers.
+	 * @param tileCoordinate
+	 * @param attackingTeam
+	 * @param occupied
+	 * @return long attackers
+	 *******************************************************************/
+	public long getAttackersOf(final int tileCoordinate, final Team attackingTeam, final long occupied){
+		return BitBoards.attackersTo(this.pieceBitBoards, occupied, tileCoordinate, attackingTeam) & occupied;
+	}
+	
+	/*******************************************************************
+	 * Returns the attack map of the Team, the bitboard of every tile
+	 * one of its pieces attacks. The maps of both Teams are calculated
+	 * the first time one is asked for.
+	 * @param team
+	 * @return long attackMap
+	 *******************************************************************/
+	public long getAttackMap(final Team team){
+		long[] maps = this.attackMaps;
+		if(maps == null){
+			maps = new long[]{BitBoards.attackedTiles(this.pieceBitBoards, this.occupiedBitBoard, Team.WHITE),
+							  BitBoards.attackedTiles(this.pieceBitBoards, this.occupiedBitBoard, Team.BLACK)};
+			this.attackMaps = maps;
 		}
-		
-		return ImmutableList.copyOf(legalMoves);
+		return maps[team.ordinal()];
+	}
+	
+	/*****************************************************************
+	 * Combines all the bitboards of one Team into a single bitboard
+	 * @param pieceBitBoards
+	 * @param team
+	 * @return long bitboard
+	 *****************************************************************/
+	private static long teamBitBoard(final long[] pieceBitBoards, final Team team){
+		long bitBoard = BitBoards.EMPTY;
+		for(final PieceType pieceType : PieceType.values()){
+			bitBoard |= pieceBitBoards[BitBoards.bitBoardIndex(team, pieceType)];
+		}
+		return bitBoard;
 	}
 
+	
 	/*************************************************************************
 	 * Loops through the gameBoard to find all active pieces that are on the
 	 * same team as the team passed in
@@ -302,11 +558,33 @@ public class Board {
 		//Represent a pawn that has executed a Pawn Jump and can be captured by enPassant
 		Pawn enPassantPawn;
 		
+		//Represents the bitboards of the configuration, calculated when the Board is built
+		long[] pieceBitBoards;
+		
+		//Represents the castling rights of the configuration, calculated when the Board is built
+		int castlingRights;
+		
+		//Represents the piece part of the Zobrist key, a Move sets it when it has updated the key of its board
+		long pieceZobristKey;
+		boolean isPieceZobristKeySet;
+		
+		//Represents the material, placement and phase of the pieces, a Move updates them from the board it was made on
+		int middlegameScore;
+		int endgameScore;
+		int phase;
+		boolean isScoreSet;
+		
+		//Represents the move counters, a new game starts at 0 and 1
+		int halfMoveClock;
+		int fullMoveNumber;
+		
 		/********************************
 		* The Builder Constructor
 		*********************************/
 		public Builder(){
 			this.boardConfig = new HashMap<>();
+			this.halfMoveClock = 0;
+			this.fullMoveNumber = 1;
 		}
 		
 		/************************************************************
@@ -317,6 +595,9 @@ public class Board {
 		public Builder setPiece(final Piece piece){
 			//Puts the piece and it's position into the the Board's configuration
 			this.boardConfig.put(piece.getPiecePosition(), piece);
+			//The pieces changed so the Zobrist key and the scores have to be calculated again
+			this.isPieceZobristKeySet = false;
+			this.isScoreSet = false;
 			//returns the builder object
 			return this;
 			
@@ -341,14 +622,137 @@ public class Board {
 			this.enPassantPawn = enPassantPawn; 
 		}
 		
+		/*****************************************************
+		 * Sets the moves since the last capture or pawn move
+		 * @param halfMoveClock
+		 * @return Build object with the clock set
+		 *****************************************************/
+		public Builder setHalfMoveClock(final int halfMoveClock){
+			this.halfMoveClock = halfMoveClock;
+			return this;
+		}
+		
+		/*****************************************************
+		 * Sets the number of the move
+		 * @param fullMoveNumber
+		 * @return Build object with the move number set
+		 *****************************************************/
+		public Builder setFullMoveNumber(final int fullMoveNumber){
+			this.fullMoveNumber = fullMoveNumber;
+			return this;
+		}
+		
 		/************************
 		 * Creates the Board
 		 * @return Board
 		 ************************/
 		public Board build(){
+			this.pieceBitBoards = calculatePieceBitBoards();
+			this.castlingRights = calculateCastlingRights();
+			if(!this.isPieceZobristKeySet){
+				this.pieceZobristKey = Zobrist.calculatePieceKey(this.boardConfig.values());
+			}
+			if(!this.isScoreSet){
+				calculateScores();
+			}
 			return new Board(this);
 		}
 		
+		/*****************************************************************
+		 * Sets the piece part of the Zobrist key when the move building
+		 * the board has updated the key of the board it was made on.
+		 * Has to be called after the last piece is set.
+		 * @param pieceZobristKey
+		 * @return Build object with the key set
+		 *****************************************************************/
+		Builder setPieceZobristKey(final long pieceZobristKey){
+			this.pieceZobristKey = pieceZobristKey;
+			this.isPieceZobristKeySet = true;
+			return this;
+		}
+		
+		/*****************************************************************
+		 * Starts the scores from the board a move is made on, the move
+		 * then takes off and adds the pieces it changes. Has to be
+		 * called after the last piece is set.
+		 * @param board
+		 * @return Build object with the scores set
+		 *****************************************************************/
+		Builder setScores(final Board board){
+			this.middlegameScore = board.middlegameScore;
+			this.endgameScore = board.endgameScore;
+			this.phase = board.phase;
+			this.isScoreSet = true;
+			return this;
+		}
+		
+		Builder addPieceScore(final Team team, final PieceType pieceType, final int tileCoordinate){
+			this.middlegameScore += PieceSquareTables.getSignedMiddlegameScore(team, pieceType, tileCoordinate);
+			this.endgameScore += PieceSquareTables.getSignedEndgameScore(team, pieceType, tileCoordinate);
+			this.phase += PieceSquareTables.getPhaseWeight(pieceType);
+			return this;
+		}
+		
+		Builder removePieceScore(final Team team, final PieceType pieceType, final int tileCoordinate){
+			this.middlegameScore -= PieceSquareTables.getSignedMiddlegameScore(team, pieceType, tileCoordinate);
+			this.endgameScore -= PieceSquareTables.getSignedEndgameScore(team, pieceType, tileCoordinate);
+			this.phase -= PieceSquareTables.getPhaseWeight(pieceType);
+			return this;
+		}
+		
+		/****************************************************************
+		 * Adds up the scores of every piece in the configuration
+		 ****************************************************************/
+		private void calculateScores(){
+			this.middlegameScore = 0;
+			this.endgameScore = 0;
+			this.phase = 0;
+			for(final Piece piece : this.boardConfig.values()){
+				addPieceScore(piece.getPieceTeam(), piece.getPieceType(), piece.getPiecePosition());
+			}
+		}
+		
+		/*******************************************************************
+		 * Works out the castling rights of the configuration. A side can
+		 * castle if its King is on its starting tile, can still castle to
+		 * that side and has not moved, and its Rook in that corner has not
+		 * moved either.
+		 * @return int castlingRights
+		 *******************************************************************/
+		private int calculateCastlingRights(){
+			return calculateCastlingRight(60, 63, Team.WHITE, BoardUtils.WHITE_KING_SIDE) |
+				   calculateCastlingRight(60, 56, Team.WHITE, BoardUtils.WHITE_QUEEN_SIDE) |
+				   calculateCastlingRight(4, 7, Team.BLACK, BoardUtils.BLACK_KING_SIDE) |
+				   calculateCastlingRight(4, 0, Team.BLACK, BoardUtils.BLACK_QUEEN_SIDE);
+		}
+		
+		private int calculateCastlingRight(final int kingTile, final int rookTile, final Team team, final int castlingRight){
+			final Piece king = this.boardConfig.get(kingTile);
+			final Piece rook = this.boardConfig.get(rookTile);
+			
+			if(king == null || !king.getPieceType().isKing() || king.getPieceTeam() != team || !king.isFirstMove() ||
+			   rook == null || !rook.getPieceType().isRook() || rook.getPieceTeam() != team || !rook.isFirstMove())
+				return 0;
+			
+			final boolean isKingSide = (castlingRight & (BoardUtils.WHITE_KING_SIDE | BoardUtils.BLACK_KING_SIDE)) != 0;
+			final boolean isCapable = isKingSide ? ((King)king).isKingSideCastleCapable() : ((King)king).isQueenSideCastleCapable();
+			return isCapable ? castlingRight : 0;
+		}
+		
+		/***************************************************************
+		 * Sets the bit of every piece in the configuration on the
+		 * bitboard that matches the piece's Team and PieceType
+		 * @return long[] pieceBitBoards
+		 ***************************************************************/
+		private long[] calculatePieceBitBoards(){
+			final long[] bitBoards = new long[BitBoards.NUM_PIECE_BITBOARDS];
+			for(final Piece piece : this.boardConfig.values()){
+				bitBoards[BitBoards.bitBoardIndex(piece.getPieceTeam(), piece.getPieceType())] |=
+						BitBoards.tileMask(piece.getPiecePosition());
+			}
+			return bitBoards;
+		}
+		
 	}
 //<-------------------------------------------------------------------------------------------------------------------------------------------------------->
 
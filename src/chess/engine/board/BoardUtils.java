@@ -55,6 +55,13 @@ public class BoardUtils {
 	public static final int NUM_TILES_PER_RANK = 8;
 	//Constant integer of the starting tile
 	public static final int START_TILE_INDEX = 0;
+	
+	//The castling rights of a position are kept as bits
+	public static final int WHITE_KING_SIDE = 1;
+	public static final int WHITE_QUEEN_SIDE = 2;
+	public static final int BLACK_KING_SIDE = 4;
+	public static final int BLACK_QUEEN_SIDE = 8;
+	public static final int ALL_CASTLING_RIGHTS = 15;
 
 	/********************************************************************
 	 * The Constructor will throw an exception if an object is created
@@ -125,6 +132,17 @@ public class BoardUtils {
 		return ALGEBRAIC_NOTATION.get(coordinate);
 	}
 	
+	/****************************************************************
+	 * Writes the move as its from and to tiles, e.g. e2e4, with a q
+	 * on the end of promotions, the way engines print their moves.
+	 * @param move
+	 * @return String
+	 ****************************************************************/
+	public static String getCoordinateNotation(final Move move){
+		final String promotion = move instanceof Move.PawnPromotion ? "q" : "";
+		return getPositionAtCoordinate(move.getCurrentCoordinate()) + getPositionAtCoordinate(move.getDestinationCoordinate()) + promotion;
+	}
+	
 	/************************************************************
 	 * Initialize all the algebraic notation into a list
 	 * @return List<String>
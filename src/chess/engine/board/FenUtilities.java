@@ -0,0 +1,273 @@
+package chess.engine.board;
+
+import chess.engine.board.Board.Builder;
+import chess.engine.pieces.Bishop;
+import chess.engine.pieces.King;
+import chess.engine.pieces.Knight;
+import chess.engine.pieces.Pawn;
+import chess.engine.pieces.Piece;
+import chess.engine.pieces.Queen;
+import chess.engine.pieces.Rook;
+import chess.engine.pieces.Team;
+
+/*****************************************************************************************
+ * Reads and writes positions in Forsyth-Edwards Notation. A FEN string has six fields
+ * split by spaces:
+ *   the placement of the pieces from a8 to h1, ranks split by '/', numbers for empty tiles
+ *   the player to move, w or b
+ *   the castling rights, any of KQkq or -
+ *   the tile a pawn can be taken on by En Passant, or -
+ *   the moves since the last capture or pawn move
+ *   the number of the move
+ * The two move counters may be left out, they are then 0 and 1. The placement is read in
+ * the same order as the tile coordinates, so every character is one tile or a run of them.
+ * Kings and Rooks are only marked as not having moved when the castling field lets them
+ * castle, and Pawns on their starting rank can still jump.
+ * @author Aaron Teague
+ * I was helped by the sites www.stackoverflow.com, www.stackexchange.com,
+ * and chessprogramming.wikispaces.com
+ *****************************************************************************************/
+public final class FenUtilities {
+
+	public static final String STANDARD_FEN = "rnbqkbnr/pppppppp/8/8/8/8/PPPPPPPP/RNBQKBNR w KQkq - 0 1";
+
+	/********************************************************************
+	 * The Constructor will throw an exception if an object is created
+	 * because just provides Utilities.
+	 ********************************************************************/
+	private FenUtilities(){
+		throw new RuntimeException("This class can't be instantiated!");
+	}
+
+	/*****************************************************************************
+	 * Creates the Board of a FEN string
+	 * @param fen
+	 * @return Board
+	 *****************************************************************************/
+	public static Board createBoard(final String fen){
+		final String[] fields = splitFields(fen);
+		if(fields == null)
+			throw new RuntimeException("Invalid FEN: " + fen);
+		final String castling = fields[2];
+		if(!castling.equals("-") && !isCastlingText(castling))
+			throw new RuntimeException("Invalid FEN castling rights: " + fen);
+
+		final Builder builder = new Builder();
+		setPieces(builder, fields[0], castling, fen);
+
+		final Team moveMaker;
+		if(fields[1].equals("w"))
+			moveMaker = Team.WHITE;
+		else if(fields[1].equals("b"))
+			moveMaker = Team.BLACK;
+		else
+			throw new RuntimeException("Invalid FEN side to move: " + fen);
+		builder.setMoveMaker(moveMaker);
+
+		if(!fields[3].equals("-"))
+			builder.setEnPassantPawn(findEnPassantPawn(builder, fields[3], moveMaker, fen));
+
+		if(fields.length == 6){
+			builder.setHalfMoveClock(parseCounter(fields[4], 0, fen));
+			builder.setFullMoveNumber(parseCounter(fields[5], 1, fen));
+		}
+		return builder.build();
+	}
+
+	/*****************************************************************************
+	 * Splits the FEN into its fields at runs of spaces, or any other white space
+	 * like the line end of a file, by hand rather than with a regex as millions
+	 * of FEN lines may be read
+	 * @param fen
+	 * @return String[] the 4 or 6 fields, or null if there are any other number
+	 *****************************************************************************/
+	private static String[] splitFields(final String fen){
+		final String[] fields = new String[6];
+		int numFields = 0;
+		int i = 0;
+		final int length = fen.length();
+		while(true){
+			while(i < length && fen.charAt(i) <= ' '){
+				i++;
+			}
+			if(i == length)
+				break;
+			final int start = i;
+			while(i < length && fen.charAt(i) > ' '){
+				i++;
+			}
+			if(numFields == fields.length)
+				return null;
+			fields[numFields++] = fen.substring(start, i);
+		}
+		if(numFields == 6)
+			return fields;
+		return numFields == 4 ? new String[]{fields[0], fields[1], fields[2], fields[3]} : null;
+	}
+
+	/*****************************************************************************
+	 * Checks that the castling field is some of KQkq in that order, each at most
+	 * once
+	 * @param castling
+	 * @return true or false
+	 *****************************************************************************/
+	private static boolean isCastlingText(final String castling){
+		final String order = "KQkq";
+		int next = 0;
+		for(int i = 0; i < castling.length(); i++){
+			final int index = order.indexOf(castling.charAt(i), next);
+			if(index < 0)
+				return false;
+			next = index + 1;
+		}
+		return !castling.isEmpty();
+	}
+
+	/*****************************************************************************
+	 * Writes the FEN string of the Board
+	 * @param board
+	 * @return String fen
+	 *****************************************************************************/
+	public static String createFen(final Board board){
+		final StringBuilder fen = new StringBuilder();
+		int emptyTiles = 0;
+		for(int tile = 0; tile < BoardUtils.NUM_TILES; tile++){
+			if(board.isTileOccupied(tile)){
+				if(emptyTiles > 0)
+					fen.append(emptyTiles);
+				emptyTiles = 0;
+				//An occupied Tile prints its piece, lower case for Black
+				fen.append(board.getTile(tile));
+			} else {
+				emptyTiles++;
+			}
+			if((tile + 1) % BoardUtils.NUM_TILES_PER_RANK == 0){
+				if(emptyTiles > 0)
+					fen.append(emptyTiles);
+				emptyTiles = 0;
+				if(tile != BoardUtils.NUM_TILES - 1)
+					fen.append('/');
+			}
+		}
+		fen.append(board.currentPlayer().getTeam().isWhite() ? " w " : " b ");
+		fen.append(castlingText(board.getCastlingRights()));
+		fen.append(' ');
+		final Pawn enPassantPawn = board.getEnPassantPawn();
+		if(enPassantPawn == null){
+			fen.append('-');
+		} else {
+			//The tile the pawn jumped over
+			fen.append(BoardUtils.getPositionAtCoordinate(enPassantPawn.getPiecePosition() +
+						enPassantPawn.getPieceTeam().getOppositeDirection() * BoardUtils.NUM_TILES_PER_RANK));
+		}
+		fen.append(' ').append(board.getHalfMoveClock());
+		fen.append(' ').append(board.getFullMoveNumber());
+		return fen.toString();
+	}
+
+	private static void setPieces(final Builder builder, final String placement, final String castling, final String fen){
+		int tile = 0;
+		int rankTiles = 0;
+		for(int i = 0; i < placement.length(); i++){
+			final char c = placement.charAt(i);
+			if(c == '/'){
+				if(rankTiles != BoardUtils.NUM_TILES_PER_RANK)
+					throw new RuntimeException("Invalid FEN placement: " + fen);
+				rankTiles = 0;
+				continue;
+			}
+			if(c >= '1' && c <= '8'){
+				tile += c - '0';
+				rankTiles += c - '0';
+			} else {
+				if(rankTiles >= BoardUtils.NUM_TILES_PER_RANK)
+					throw new RuntimeException("Invalid FEN placement: " + fen);
+				builder.setPiece(createPiece(c, tile, castling, fen));
+				tile++;
+				rankTiles++;
+			}
+			if(rankTiles > BoardUtils.NUM_TILES_PER_RANK)
+				throw new RuntimeException("Invalid FEN placement: " + fen);
+		}
+		if(tile != BoardUtils.NUM_TILES || rankTiles != BoardUtils.NUM_TILES_PER_RANK)
+			throw new RuntimeException("Invalid FEN placement: " + fen);
+	}
+
+	private static Piece createPiece(final char c, final int tile, final String castling, final String fen){
+		final Team team = Character.isUpperCase(c) ? Team.WHITE : Team.BLACK;
+		switch(Character.toLowerCase(c)){
+			case 'p':
+				return new Pawn(team, tile, team.isWhite() ? BoardUtils.SECOND_RANK[tile] : BoardUtils.SEVENTH_RANK[tile]);
+			case 'n':
+				return new Knight(team, tile, false);
+			case 'b':
+				return new Bishop(team, tile, false);
+			case 'r':
+				return new Rook(team, tile, canCastleWith(castling, team, tile));
+			case 'q':
+				return new Queen(team, tile, false);
+			case 'k':
+				final boolean kingSide = castling.indexOf(team.isWhite() ? 'K' : 'k') >= 0;
+				final boolean queenSide = castling.indexOf(team.isWhite() ? 'Q' : 'q') >= 0;
+				return new King(team, tile, kingSide || queenSide, false, kingSide, queenSide);
+			default:
+				throw new RuntimeException("Invalid FEN piece '" + c + "': " + fen);
+		}
+	}
+
+	/*****************************************************************************
+	 * A Rook is only marked as not having moved when its corner's castling
+	 * right is in the castling field
+	 *****************************************************************************/
+	private static boolean canCastleWith(final String castling, final Team team, final int tile){
+		final int kingSideTile = team.isWhite() ? 63 : 7;
+		final int queenSideTile = team.isWhite() ? 56 : 0;
+		if(tile == kingSideTile)
+			return castling.indexOf(team.isWhite() ? 'K' : 'k') >= 0;
+		if(tile == queenSideTile)
+			return castling.indexOf(team.isWhite() ? 'Q' : 'q') >= 0;
+		return false;
+	}
+
+	/*****************************************************************************
+	 * Finds the pawn behind the En Passant tile, it belongs to the player that
+	 * just moved
+	 *****************************************************************************/
+	private static Pawn findEnPassantPawn(final Builder builder, final String target, final Team moveMaker, final String fen){
+		if(!BoardUtils.POSITION_TO_COORDINATE.containsKey(target))
+			throw new RuntimeException("Invalid FEN En Passant tile: " + fen);
+		final int pawnTile = BoardUtils.getCoordinateAtPosition(target) + moveMaker.getOppositeDirection() * BoardUtils.NUM_TILES_PER_RANK;
+		final Piece piece = BoardUtils.isValidTileCoordinate(pawnTile) ? builder.boardConfig.get(pawnTile) : null;
+		if(!(piece instanceof Pawn) || piece.getPieceTeam() == moveMaker)
+			throw new RuntimeException("Invalid FEN En Passant tile: " + fen);
+		return (Pawn) piece;
+	}
+
+	private static int parseCounter(final String field, final int minimum, final String fen){
+		final int counter;
+		try {
+			counter = Integer.parseInt(field);
+		} catch(final NumberFormatException e){
+			throw new RuntimeException("Invalid FEN move counter: " + fen, e);
+		}
+		if(counter < minimum)
+			throw new RuntimeException("Invalid FEN move counter: " + fen);
+		return counter;
+	}
+
+	private static String castlingText(final int castlingRights){
+		if(castlingRights == 0)
+			return "-";
+		final StringBuilder castling = new StringBuilder();
+		if((castlingRights & BoardUtils.WHITE_KING_SIDE) != 0)
+			castling.append('K');
+		if((castlingRights & BoardUtils.WHITE_QUEEN_SIDE) != 0)
+			castling.append('Q');
+		if((castlingRights & BoardUtils.BLACK_KING_SIDE) != 0)
+			castling.append('k');
+		if((castlingRights & BoardUtils.BLACK_QUEEN_SIDE) != 0)
+			castling.append('q');
+		return castling.toString();
+	}
+
+}
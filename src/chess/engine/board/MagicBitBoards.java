@@ -0,0 +1,158 @@
+package chess.engine.board;
+
+/*****************************************************************************************
+ * Looks up the attacks of Rooks and Bishops with magic bitboards. Only the pieces on a
+ * slider's lines, not counting the edge of the board, can block it, and those tiles are
+ * its relevant occupancy. Multiplying the occupied tiles under that mask by a magic
+ * number collects those bits at the top of the long, and shifting them down gives an
+ * index into a table of the attacks for every way the lines can be blocked. So a
+ * slider's attacks are a mask, a multiply, a shift and one array lookup.
+ * The magic numbers are found when the class is loaded by trying random numbers with
+ * few bits set until one gives every blocker combination a slot without a collision
+ * that would need different attacks. The random numbers come from a fixed seed, so the
+ * same magics are found every time, in a few milliseconds.
+ * @author Aaron Teague
+ * I was helped by the sites www.stackoverflow.com, www.stackexchange.com,
+ * and chessprogramming.wikispaces.com
+ *****************************************************************************************/
+final class MagicBitBoards {
+
+	//The state of the random number generator, only used to find the magics
+	private static long seed = 0x2545F4914F6CDD1DL;
+
+	private static final long[] ROOK_MASKS = new long[BoardUtils.NUM_TILES];
+	private static final long[] ROOK_MAGICS = new long[BoardUtils.NUM_TILES];
+	private static final int[] ROOK_SHIFTS = new int[BoardUtils.NUM_TILES];
+	private static final long[][] ROOK_ATTACKS = new long[BoardUtils.NUM_TILES][];
+
+	private static final long[] BISHOP_MASKS = new long[BoardUtils.NUM_TILES];
+	private static final long[] BISHOP_MAGICS = new long[BoardUtils.NUM_TILES];
+	private static final int[] BISHOP_SHIFTS = new int[BoardUtils.NUM_TILES];
+	private static final long[][] BISHOP_ATTACKS = new long[BoardUtils.NUM_TILES][];
+
+	static {
+		for(int tile = 0; tile < BoardUtils.NUM_TILES; tile++){
+			initMagic(tile, BitBoards.ROOK_DIRECTIONS, ROOK_MASKS, ROOK_MAGICS, ROOK_SHIFTS, ROOK_ATTACKS);
+			initMagic(tile, BitBoards.BISHOP_DIRECTIONS, BISHOP_MASKS, BISHOP_MAGICS, BISHOP_SHIFTS, BISHOP_ATTACKS);
+		}
+	}
+
+	/********************************************************************
+	 * The Constructor will throw an exception if an object is created
+	 * because just provides Utilities.
+	 ********************************************************************/
+	private MagicBitBoards(){
+		throw new RuntimeException("This class can't be instantiated!");
+	}
+
+	static long rookAttacks(final int tileCoordinate, final long occupied){
+		return ROOK_ATTACKS[tileCoordinate][(int)(((occupied & ROOK_MASKS[tileCoordinate]) * ROOK_MAGICS[tileCoordinate]) >>> ROOK_SHIFTS[tileCoordinate])];
+	}
+
+	static long bishopAttacks(final int tileCoordinate, final long occupied){
+		return BISHOP_ATTACKS[tileCoordinate][(int)(((occupied & BISHOP_MASKS[tileCoordinate]) * BISHOP_MAGICS[tileCoordinate]) >>> BISHOP_SHIFTS[tileCoordinate])];
+	}
+
+	/*********************************************************************************
+	 * Finds the magic of one tile and fills in its attack table
+	 * @param tile
+	 * @param directions
+	 * @param masks
+	 * @param magics
+	 * @param shifts
+	 * @param attackTables
+	 *********************************************************************************/
+	private static void initMagic(final int tile,
+								  final int[][] directions,
+								  final long[] masks,
+								  final long[] magics,
+								  final int[] shifts,
+								  final long[][] attackTables){
+		final long mask = relevantOccupancy(tile, directions);
+		final int bits = Long.bitCount(mask);
+		final int size = 1 << bits;
+
+		//Every subset of the mask and the attacks it leads to, walked by the carry rippler trick
+		final long[] occupancies = new long[size];
+		final long[] attacks = new long[size];
+		long subset = 0L;
+		for(int i = 0; i < size; i++){
+			occupancies[i] = subset;
+			attacks[i] = BitBoards.slidingAttacks(tile, subset, directions);
+			subset = (subset - mask) & mask;
+		}
+
+		final long[] table = new long[size];
+		final int[] tableEpoch = new int[size];
+		int epoch = 0;
+		while(true){
+			final long magic = nextSparseRandom();
+			//A magic that doesn't bring enough bits to the top can't spread the subsets out
+			if(Long.bitCount((mask * magic) & 0xFF00000000000000L) < 6)
+				continue;
+			epoch++;
+			boolean isMagic = true;
+			for(int i = 0; i < size && isMagic; i++){
+				final int index = (int)((occupancies[i] * magic) >>> (64 - bits));
+				if(tableEpoch[index] != epoch){
+					tableEpoch[index] = epoch;
+					table[index] = attacks[i];
+				} else if(table[index] != attacks[i]){
+					isMagic = false;
+				}
+			}
+			if(isMagic){
+				masks[tile] = mask;
+				magics[tile] = magic;
+				shifts[tile] = 64 - bits;
+				attackTables[tile] = table;
+				return;
+			}
+		}
+	}
+
+	/****************************************************************
+	 * Returns the tiles on the slider's lines that could block it,
+	 * the last tile of every line can't block anything behind it
+	 * @param tile
+	 * @param directions
+	 * @return long mask
+	 ****************************************************************/
+	private static long relevantOccupancy(final int tile, final int[][] directions){
+		final int row = tile / BoardUtils.NUM_TILES_PER_RANK;
+		final int column = tile % BoardUtils.NUM_TILES_PER_RANK;
+		long mask = 0L;
+		for(final int[] direction : directions){
+			int r = row + direction[0];
+			int c = column + direction[1];
+			while(isOnBoard(r + direction[0], c + direction[1])){
+				mask |= BitBoards.tileMask(r * BoardUtils.NUM_TILES_PER_RANK + c);
+				r += direction[0];
+				c += direction[1];
+			}
+		}
+		return mask;
+	}
+
+	private static boolean isOnBoard(final int row, final int column){
+		return row >= 0 && row < BoardUtils.NUM_TILES_PER_RANK && column >= 0 && column < BoardUtils.NUM_TILES_PER_RANK;
+	}
+
+	/*******************************************************
+	 * SplitMix64 ANDed three times, magics are easier to
+	 * find among numbers with few bits set.
+	 * @return long random number
+	 *******************************************************/
+	private static long nextSparseRandom(){
+		return nextRandom() & nextRandom() & nextRandom();
+	}
+
+	private static long nextRandom(){
+		seed += 0x9E3779B97F4A7C15L;
+		long z = seed;
+		z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+		z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+		return z ^ (z >>> 31);
+	}
+
+}
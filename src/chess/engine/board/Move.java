@@ -156,10 +156,57 @@ public abstract class Move {
 		builder.setPiece(this.movedPiece.movePiece(this));
 		///The move maker will be set to the current's player opponent for the next turn
 		builder.setMoveMaker(this.board.currentPlayer().getOpponent().getTeam());
+		builder.setPieceZobristKey(calculatePieceZobristKey());
+		updateScores(builder);
+		updateMoveCounters(builder);
 		
 		return builder.build();
 	}
 	
+	/*********************************************************************
+	 * Updates the piece part of the board's Zobrist key for the move by
+	 * taking the moved piece off its tile, putting it on the destination
+	 * and taking off the attacked piece, instead of hashing every piece.
+	 * @return long pieceZobristKey of the board after the move
+	 *********************************************************************/
+	long calculatePieceZobristKey(){
+		long key = this.board.getPieceZobristKey() ^ Zobrist.pieceKey(this.movedPiece) ^
+				   Zobrist.pieceKey(this.movedPiece.getPieceTeam(), this.movedPiece.getPieceType(), this.destinationCoordinate);
+		if(isAttack())
+			key ^= Zobrist.pieceKey(getAttackedPiece());
+		return key;
+	}
+	
+	/*********************************************************************
+	 * Counts the move on the builder, the half move clock starts again
+	 * after a capture or a pawn move and the move number goes up after
+	 * Black has moved
+	 * @param builder
+	 *********************************************************************/
+	void updateMoveCounters(final Builder builder){
+		builder.setHalfMoveClock(isAttack() || this.movedPiece.getPieceType() == Piece.PieceType.PAWN ?
+								 0 : this.board.getHalfMoveClock() + 1);
+		builder.setFullMoveNumber(this.movedPiece.getPieceTeam().isBlack() ?
+								  this.board.getFullMoveNumber() + 1 : this.board.getFullMoveNumber());
+	}
+	
+	/*********************************************************************
+	 * Updates the material and placement scores of the board for the
+	 * move the same way as the key, the moved piece is scored on its new
+	 * tile and the attacked piece is taken off. Has to be called after
+	 * the last piece is set on the builder.
+	 * @param builder
+	 *********************************************************************/
+	void updateScores(final Builder builder){
+		builder.setScores(this.board)
+			   .removePieceScore(this.movedPiece.getPieceTeam(), this.movedPiece.getPieceType(), this.movedPiece.getPiecePosition())
+			   .addPieceScore(this.movedPiece.getPieceTeam(), this.movedPiece.getPieceType(), this.destinationCoordinate);
+		if(isAttack()){
+			final Piece attackedPiece = getAttackedPiece();
+			builder.removePieceScore(attackedPiece.getPieceTeam(), attackedPiece.getPieceType(), attackedPiece.getPiecePosition());
+		}
+	}
+	
 //<----------------------------------------------------------------------------------------------------------------------------------------------------------->	
 	/***************************************************
 	 * Defines a NonAttack move by a Major Piece
@@ -179,6 +226,10 @@ public abstract class Move {
 			return this == other || other instanceof MajorMove && super.equals(other);
 		}
 		
+		/***********************************************************
+		 * Prints the piece and the tile it moves to, the SAN with
+		 * any disambiguation is written by SanUtilities.createSan
+		 ***********************************************************/
 		@Override
 		public String toString(){
 			return movedPiece.getPieceType().toString() + BoardUtils.getPositionAtCoordinate(this.destinationCoordinate);
@@ -206,7 +257,7 @@ public abstract class Move {
 		
 		@Override
 		public String toString(){
-			return movedPiece.getPieceType() + BoardUtils.getPositionAtCoordinate(this.destinationCoordinate);
+			return movedPiece.getPieceType() + "x" + BoardUtils.getPositionAtCoordinate(this.destinationCoordinate);
 		}
 	}
 //<----------------------------------------------------------------------------------------------------------------------------------------------------------->	
@@ -304,8 +355,18 @@ public abstract class Move {
 				   builder.setPiece(piece);
 			   }
 			   
-			   builder.setPiece(this.promotedPawn.getPromotionPiece().movePiece(this));
+			   final Piece promotionPiece = this.promotedPawn.getPromotionPiece().movePiece(this);
+			   builder.setPiece(promotionPiece);
 			   builder.setMoveMaker(pawnMovedBoard.currentPlayer().getTeam());
+			   //Swap the pawn for the promotion piece in the key of the board the pawn moved on
+			   builder.setPieceZobristKey(pawnMovedBoard.getPieceZobristKey() ^ Zobrist.pieceKey(promotionPiece) ^
+					   Zobrist.pieceKey(this.promotedPawn.getPieceTeam(), this.promotedPawn.getPieceType(), this.destinationCoordinate));
+			   //Swap the pawn for the promotion piece in the scores as well
+			   builder.setScores(pawnMovedBoard)
+					  .removePieceScore(this.promotedPawn.getPieceTeam(), this.promotedPawn.getPieceType(), this.destinationCoordinate)
+					  .addPieceScore(promotionPiece.getPieceTeam(), promotionPiece.getPieceType(), this.destinationCoordinate);
+			   builder.setHalfMoveClock(pawnMovedBoard.getHalfMoveClock());
+			   builder.setFullMoveNumber(pawnMovedBoard.getFullMoveNumber());
 			   return builder.build();
 		   }
 		   
@@ -319,9 +380,13 @@ public abstract class Move {
 			   return this.decoratedMove.getAttackedPiece();
 		   }
 		   
+		   /*****************************************************
+		    * Prints the move of the pawn with the piece it is
+		    * promoted to, e.g. e8=Q or dxe8=Q
+		    *****************************************************/
 		   @Override
 		   public String toString(){
-			   return "";
+			   return this.decoratedMove.toString() + "=" + this.promotedPawn.getPromotionPiece().getPieceType();
 		   }
 		   
 		   @Override
@@ -450,6 +515,9 @@ public abstract class Move {
 				
 				builder.setPiece(this.movedPiece.movePiece(this));
 				builder.setMoveMaker(this.board.currentPlayer().getOpponent().getTeam());
+				builder.setPieceZobristKey(calculatePieceZobristKey());
+				updateScores(builder);
+				updateMoveCounters(builder);
 				return builder.build();
 				
 			}
@@ -508,6 +576,9 @@ public abstract class Move {
 				builder.setEnPassantPawn(movedPawn);
 				//Set the next turn to the opponent
 				builder.setMoveMaker(this.board.currentPlayer().getOpponent().getTeam());
+				builder.setPieceZobristKey(calculatePieceZobristKey());
+				updateScores(builder);
+				updateMoveCounters(builder);
 				//Return the board with the executed pawn jump
 				return builder.build();
 			}
@@ -599,13 +670,38 @@ public abstract class Move {
 				//set the King piece to new position
 				builder.setPiece(this.movedPiece.movePiece(this));
 				//set the Rook piece to new position
-				builder.setPiece(new Rook(this.castleRook.getPieceTeam(), this.castleRookDestination));
+				builder.setPiece(new Rook(this.castleRook.getPieceTeam(), this.castleRookDestination, false));
 				//set the turn to the opponent
 				builder.setMoveMaker(this.board.currentPlayer().getOpponent().getTeam());
+				builder.setPieceZobristKey(calculatePieceZobristKey());
+				updateScores(builder);
+				updateMoveCounters(builder);
 				//creates and returns the new board
 				return builder.build();
 		    }
 		    
+		    /**************************************************************
+		     * Updates the key for the King and also moves the castled Rook
+		     * @return long pieceZobristKey of the board after the move
+		     **************************************************************/
+		    @Override
+		    long calculatePieceZobristKey(){
+		    	return super.calculatePieceZobristKey() ^
+		    		   Zobrist.pieceKey(this.castleRook.getPieceTeam(), this.castleRook.getPieceType(), this.castleRookStart) ^
+		    		   Zobrist.pieceKey(this.castleRook.getPieceTeam(), this.castleRook.getPieceType(), this.castleRookDestination);
+		    }
+		    
+		    /**************************************************************
+		     * Updates the scores for the King and also moves the Rook
+		     * @param builder
+		     **************************************************************/
+		    @Override
+		    void updateScores(final Builder builder){
+		    	super.updateScores(builder);
+		    	builder.removePieceScore(this.castleRook.getPieceTeam(), this.castleRook.getPieceType(), this.castleRookStart)
+		    		   .addPieceScore(this.castleRook.getPieceTeam(), this.castleRook.getPieceType(), this.castleRookDestination);
+		    }
+		    
 		    @Override
 		    public int hashCode(){
 		    	final int prime = 31;
@@ -0,0 +1,225 @@
+package chess.engine.board;
+
+import chess.engine.pieces.Piece.PieceType;
+import chess.engine.pieces.Team;
+
+/*****************************************************************************************
+ * Generates the legal moves of a SearchBoard as PackedMoves straight from the bitboards
+ * into a MoveList, without creating any Move, Piece or collection objects. It finds the
+ * same moves as Player.getLegalMoves: the pieces giving check and the pinned pieces are
+ * worked out first, so every move it adds is legal and nothing has to be made to test it.
+ * The King steps to tiles that aren't attacked with the King itself taken off the board,
+ * in double check only the King moves, in check the other pieces have to take the checker
+ * or block it, and a pinned piece only moves along the line of its pin.
+ * Like the rest of the engine Pawns are only promoted to Queens.
+ * @author Aaron Teague
+ * I was helped by the sites www.stackoverflow.com, www.stackexchange.com,
+ * and chessprogramming.wikispaces.com
+ *****************************************************************************************/
+public final class MoveGenerator {
+
+	private static final long ALL_TILES = -1L;
+
+	/********************************************************************
+	 * The Constructor will throw an exception if an object is created
+	 * because just provides Utilities.
+	 ********************************************************************/
+	private MoveGenerator(){
+		throw new RuntimeException("This class can't be instantiated!");
+	}
+
+	/*****************************************************************************
+	 * Clears the MoveList and adds the legal moves of the player to move
+	 * @param board
+	 * @param moves
+	 *****************************************************************************/
+	public static void generateLegalMoves(final SearchBoard board, final MoveList moves){
+		moves.clear();
+		final long[] pieceBitBoards = board.getPieceBitBoards();
+		final Team team = board.getMoveMaker();
+		final Team opponent = team.opposite();
+		final long occupied = board.getOccupiedBitBoard();
+		final long ownPieces = board.getTeamBitBoard(team);
+		final long opponentPieces = board.getTeamBitBoard(opponent);
+		final int kingTile = BitBoards.firstTile(board.getPieceBitBoard(team, PieceType.KING));
+
+		final long checkers = BitBoards.attackersTo(pieceBitBoards, occupied, kingTile, opponent);
+		generateKingMoves(board, moves, pieceBitBoards, kingTile, occupied, ownPieces, opponent);
+		//In double check only the King can move
+		if(BitBoards.count(checkers) > 1)
+			return;
+
+		final long checkMask = checkers == 0 ? ALL_TILES :
+				BitBoards.between(kingTile, BitBoards.firstTile(checkers)) | checkers;
+		final long pinned = calculatePinnedPieces(board, kingTile, ownPieces, opponentPieces, occupied, opponent);
+		final long targets = ~ownPieces & checkMask;
+
+		generatePawnMoves(board, moves, team, kingTile, occupied, opponentPieces, checkMask, pinned);
+		for(long knights = board.getPieceBitBoard(team, PieceType.KNIGHT) & ~pinned; knights != 0; knights = BitBoards.clearFirstTile(knights)){
+			final int from = BitBoards.firstTile(knights);
+			addMoves(board, moves, from, PieceType.KNIGHT, BitBoards.knightAttacksFrom(from) & targets);
+		}
+		for(long bishops = board.getPieceBitBoard(team, PieceType.BISHOP); bishops != 0; bishops = BitBoards.clearFirstTile(bishops)){
+			final int from = BitBoards.firstTile(bishops);
+			addMoves(board, moves, from, PieceType.BISHOP, BitBoards.bishopAttacks(from, occupied) & targets & pinLine(pinned, kingTile, from));
+		}
+		for(long rooks = board.getPieceBitBoard(team, PieceType.ROOK); rooks != 0; rooks = BitBoards.clearFirstTile(rooks)){
+			final int from = BitBoards.firstTile(rooks);
+			addMoves(board, moves, from, PieceType.ROOK, BitBoards.rookAttacks(from, occupied) & targets & pinLine(pinned, kingTile, from));
+		}
+		for(long queens = board.getPieceBitBoard(team, PieceType.QUEEN); queens != 0; queens = BitBoards.clearFirstTile(queens)){
+			final int from = BitBoards.firstTile(queens);
+			addMoves(board, moves, from, PieceType.QUEEN, BitBoards.queenAttacks(from, occupied) & targets & pinLine(pinned, kingTile, from));
+		}
+		if(checkers == 0)
+			generateCastles(board, moves, pieceBitBoards, team, occupied);
+	}
+
+	/******************************************************************
+	 * Returns the tiles a piece may move to because of its pin, the
+	 * line through it and the King, or every tile if it isn't pinned
+	 ******************************************************************/
+	private static long pinLine(final long pinned, final int kingTile, final int from){
+		return BitBoards.isSet(pinned, from) ? BitBoards.line(kingTile, from) : ALL_TILES;
+	}
+
+	/************************************************************************
+	 * Finds the pieces of the player to move that are the only piece
+	 * between their King and an opposing slider on the same line
+	 ************************************************************************/
+	private static long calculatePinnedPieces(final SearchBoard board,
+											  final int kingTile,
+											  final long ownPieces,
+											  final long opponentPieces,
+											  final long occupied,
+											  final Team opponent){
+		final long queens = board.getPieceBitBoard(opponent, PieceType.QUEEN);
+		//The sliders that would attack the King if only the opponent's pieces were on the board
+		long pinners = (BitBoards.rookAttacks(kingTile, opponentPieces) & (board.getPieceBitBoard(opponent, PieceType.ROOK) | queens)) |
+					   (BitBoards.bishopAttacks(kingTile, opponentPieces) & (board.getPieceBitBoard(opponent, PieceType.BISHOP) | queens));
+		long pinned = 0L;
+		for(; pinners != 0; pinners = BitBoards.clearFirstTile(pinners)){
+			final long blockers = BitBoards.between(kingTile, BitBoards.firstTile(pinners)) & occupied;
+			if(BitBoards.count(blockers) == 1 && (blockers & ownPieces) != 0)
+				pinned |= blockers;
+		}
+		return pinned;
+	}
+
+	private static void generateKingMoves(final SearchBoard board,
+										  final MoveList moves,
+										  final long[] pieceBitBoards,
+										  final int kingTile,
+										  final long occupied,
+										  final long ownPieces,
+										  final Team opponent){
+		//The King is taken off so it can't hide behind itself from a slider
+		final long occupiedWithoutKing = occupied & ~BitBoards.tileMask(kingTile);
+		for(long targets = BitBoards.kingAttacksFrom(kingTile) & ~ownPieces; targets != 0; targets = BitBoards.clearFirstTile(targets)){
+			final int to = BitBoards.firstTile(targets);
+			if(!BitBoards.isTileAttacked(pieceBitBoards, occupiedWithoutKing, to, opponent))
+				moves.add(createMove(board, kingTile, to, PieceType.KING));
+		}
+	}
+
+	private static void generatePawnMoves(final SearchBoard board,
+										  final MoveList moves,
+										  final Team team,
+										  final int kingTile,
+										  final long occupied,
+										  final long opponentPieces,
+										  final long checkMask,
+										  final long pinned){
+		final int forward = team.getDirection() * BoardUtils.NUM_TILES_PER_RANK;
+		for(long pawns = board.getPieceBitBoard(team, PieceType.PAWN); pawns != 0; pawns = BitBoards.clearFirstTile(pawns)){
+			final int from = BitBoards.firstTile(pawns);
+			final long allowed = checkMask & pinLine(pinned, kingTile, from);
+
+			final int push = from + forward;
+			if(!BitBoards.isSet(occupied, push)){
+				if(BitBoards.isSet(allowed, push))
+					addPawnMove(moves, team, from, push, null);
+				final int jump = push + forward;
+				if(isOnStartingRank(team, from) && !BitBoards.isSet(occupied, jump) && BitBoards.isSet(allowed, jump))
+					moves.add(PackedMove.create(from, jump, PackedMove.PAWN_JUMP, PieceType.PAWN, null));
+			}
+
+			for(long captures = BitBoards.pawnAttacksFrom(team, from) & opponentPieces & allowed;
+				captures != 0; captures = BitBoards.clearFirstTile(captures)){
+				final int to = BitBoards.firstTile(captures);
+				addPawnMove(moves, team, from, to, board.getPieceType(to));
+			}
+
+			final int enPassantTile = board.getEnPassantTile();
+			if(enPassantTile != SearchBoard.NO_EN_PASSANT &&
+			   (BitBoards.pawnAttacksFrom(team, from) & BitBoards.tileMask(enPassantTile)) != 0 &&
+			   isEnPassantLegal(board, team, kingTile, from, enPassantTile))
+				moves.add(PackedMove.create(from, enPassantTile, PackedMove.EN_PASSANT, PieceType.PAWN, PieceType.PAWN));
+		}
+	}
+
+	/****************************************************************************
+	 * En Passant takes two pawns off one rank at once, which the check and pin
+	 * masks can't see, so the position after it is tested for attacks directly
+	 ****************************************************************************/
+	private static boolean isEnPassantLegal(final SearchBoard board,
+											final Team team,
+											final int kingTile,
+											final int from,
+											final int to){
+		final int victimTile = to - team.getDirection() * BoardUtils.NUM_TILES_PER_RANK;
+		final long occupiedAfter = (board.getOccupiedBitBoard() & ~BitBoards.tileMask(from) & ~BitBoards.tileMask(victimTile)) |
+								   BitBoards.tileMask(to);
+		return (BitBoards.attackersTo(board.getPieceBitBoards(), occupiedAfter, kingTile, team.opposite()) & occupiedAfter) == 0;
+	}
+
+	private static boolean isOnStartingRank(final Team team, final int tileCoordinate){
+		return team.isWhite() ? BoardUtils.SECOND_RANK[tileCoordinate] : BoardUtils.SEVENTH_RANK[tileCoordinate];
+	}
+
+	private static void addPawnMove(final MoveList moves, final Team team, final int from, final int to, final PieceType captured){
+		final int flags;
+		if(team.isPawnPromotionSquare(to))
+			flags = captured == null ? PackedMove.QUEEN_PROMOTION : PackedMove.QUEEN_PROMOTION_CAPTURE;
+		else
+			flags = captured == null ? PackedMove.QUIET : PackedMove.CAPTURE;
+		moves.add(PackedMove.create(from, to, flags, PieceType.PAWN, captured));
+	}
+
+	private static void addMoves(final SearchBoard board, final MoveList moves, final int from, final PieceType pieceType, long targets){
+		for(; targets != 0; targets = BitBoards.clearFirstTile(targets)){
+			moves.add(createMove(board, from, BitBoards.firstTile(targets), pieceType));
+		}
+	}
+
+	private static int createMove(final SearchBoard board, final int from, final int to, final PieceType pieceType){
+		final PieceType captured = board.getPieceType(to);
+		return PackedMove.create(from, to, captured == null ? PackedMove.QUIET : PackedMove.CAPTURE, pieceType, captured);
+	}
+
+	/***************************************************************************
+	 * Adds the castles the rights allow, when the tiles between the King and
+	 * the Rook are empty and the King doesn't cross or land on an attacked tile
+	 ***************************************************************************/
+	private static void generateCastles(final SearchBoard board,
+										final MoveList moves,
+										final long[] pieceBitBoards,
+										final Team team,
+										final long occupied){
+		final int kingTile = team.isWhite() ? 60 : 4;
+		final int kingSide = team.isWhite() ? BoardUtils.WHITE_KING_SIDE : BoardUtils.BLACK_KING_SIDE;
+		final int queenSide = team.isWhite() ? BoardUtils.WHITE_QUEEN_SIDE : BoardUtils.BLACK_QUEEN_SIDE;
+		final Team opponent = team.opposite();
+		if((board.getCastlingRights() & kingSide) != 0 &&
+		   !BitBoards.isSet(occupied, kingTile + 1) && !BitBoards.isSet(occupied, kingTile + 2) &&
+		   !BitBoards.isTileAttacked(pieceBitBoards, occupied, kingTile + 1, opponent) &&
+		   !BitBoards.isTileAttacked(pieceBitBoards, occupied, kingTile + 2, opponent))
+			moves.add(PackedMove.create(kingTile, kingTile + 2, PackedMove.KING_SIDE_CASTLE, PieceType.KING, null));
+		if((board.getCastlingRights() & queenSide) != 0 &&
+		   !BitBoards.isSet(occupied, kingTile - 1) && !BitBoards.isSet(occupied, kingTile - 2) && !BitBoards.isSet(occupied, kingTile - 3) &&
+		   !BitBoards.isTileAttacked(pieceBitBoards, occupied, kingTile - 1, opponent) &&
+		   !BitBoards.isTileAttacked(pieceBitBoards, occupied, kingTile - 2, opponent))
+			moves.add(PackedMove.create(kingTile, kingTile - 2, PackedMove.QUEEN_SIDE_CASTLE, PieceType.KING, null));
+	}
+
+}
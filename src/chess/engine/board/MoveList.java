@@ -0,0 +1,103 @@
+package chess.engine.board;
+
+/*****************************************************************************************
+ * A list of PackedMoves in an int array that is allocated once and reused. The search
+ * keeps one MoveList for every ply, createPlyBuffers makes them up front, and clear()
+ * empties a list for the next position without giving the array back, so generating
+ * moves into it doesn't create any garbage.
+ * @author Aaron Teague
+ * I was helped by the sites www.stackoverflow.com, www.stackexchange.com,
+ * and chessprogramming.wikispaces.com
+ *****************************************************************************************/
+public final class MoveList {
+
+	//More than the most legal moves any position has, which is 218
+	public static final int MAX_MOVES = 256;
+
+	private final int[] moves;
+	private int size;
+
+	public MoveList(){
+		this.moves = new int[MAX_MOVES];
+		this.size = 0;
+	}
+
+	/****************************************************************
+	 * Creates one MoveList for every ply, so every ply of a search
+	 * can generate its moves without overwriting the ply above it
+	 * @param numPlies
+	 * @return MoveList[] buffers
+	 ****************************************************************/
+	public static MoveList[] createPlyBuffers(final int numPlies){
+		final MoveList[] buffers = new MoveList[numPlies];
+		for(int i = 0; i < numPlies; i++){
+			buffers[i] = new MoveList();
+		}
+		return buffers;
+	}
+
+	public void add(final int packedMove){
+		this.moves[this.size++] = packedMove;
+	}
+
+	public int get(final int index){
+		return this.moves[index];
+	}
+
+	/***************************************************
+	 * Replaces the move at the index, used for sorting
+	 * @param index
+	 * @param packedMove
+	 ***************************************************/
+	public void set(final int index, final int packedMove){
+		this.moves[index] = packedMove;
+	}
+
+	/***************************************************
+	 * Swaps two moves, used for sorting in place
+	 * @param first
+	 * @param second
+	 ***************************************************/
+	public void swap(final int first, final int second){
+		final int move = this.moves[first];
+		this.moves[first] = this.moves[second];
+		this.moves[second] = move;
+	}
+
+	public int size(){
+		return this.size;
+	}
+
+	public boolean isEmpty(){
+		return this.size == 0;
+	}
+
+	public void clear(){
+		this.size = 0;
+	}
+
+	/*****************************************************************
+	 * Checks if the list holds the move, comparing the low 16 bits
+	 * @param packedMove
+	 * @return true or false
+	 *****************************************************************/
+	public boolean contains(final int packedMove){
+		for(int i = 0; i < this.size; i++){
+			if(PackedMove.isSameMove(this.moves[i], packedMove))
+				return true;
+		}
+		return false;
+	}
+
+	@Override
+	public String toString(){
+		final StringBuilder builder = new StringBuilder();
+		for(int i = 0; i < this.size; i++){
+			if(i > 0)
+				builder.append(' ');
+			builder.append(PackedMove.toString(this.moves[i]));
+		}
+		return builder.toString();
+	}
+
+}
@@ -0,0 +1,240 @@
+package chess.engine.board;
+
+import chess.engine.board.Move.KingSideCastleMove;
+import chess.engine.board.Move.PawnEnPassantAttackMove;
+import chess.engine.board.Move.PawnJump;
+import chess.engine.board.Move.PawnPromotion;
+import chess.engine.board.Move.QueenSideCastleMove;
+import chess.engine.pieces.Piece.PieceType;
+
+/*****************************************************************************************
+ * Packs a Move into an int so the search can keep moves in arrays and tables without
+ * holding on to Move objects. The low 16 bits are enough to find the move again among
+ * the legal moves of its board and are what the TranspositionTable stores:
+ *   bits 0-5   the destination tile
+ *   bits 6-11  the tile the piece moves from
+ *   bits 12-15 the flags: quiet, pawn jump, castle, capture, En Passant and promotion
+ * The next bits add what ordering the move needs without a board:
+ *   bits 16-18 the type of the moved piece
+ *   bits 19-21 the type of the captured piece plus one, 0 if nothing is captured
+ * No move goes from a8 to a8, so 0 is never a packed move and is used for none.
+ * @author Aaron Teague
+ * I was helped by the sites www.stackoverflow.com, www.stackexchange.com,
+ * and chessprogramming.wikispaces.com
+ *****************************************************************************************/
+public final class PackedMove {
+
+	public static final int NONE = 0;
+
+	public static final int QUIET = 0;
+	public static final int PAWN_JUMP = 1;
+	public static final int KING_SIDE_CASTLE = 2;
+	public static final int QUEEN_SIDE_CASTLE = 3;
+	public static final int CAPTURE = 4;
+	public static final int EN_PASSANT = 5;
+	//The promotions, the two low bits are the piece promoted to
+	public static final int KNIGHT_PROMOTION = 8;
+	public static final int BISHOP_PROMOTION = 9;
+	public static final int ROOK_PROMOTION = 10;
+	public static final int QUEEN_PROMOTION = 11;
+	//A promotion that captures has both the capture and promotion bits
+	public static final int QUEEN_PROMOTION_CAPTURE = QUEEN_PROMOTION | CAPTURE;
+
+	private static final int FROM_SHIFT = 6;
+	private static final int FLAGS_SHIFT = 12;
+	private static final int MOVED_PIECE_SHIFT = 16;
+	private static final int CAPTURED_PIECE_SHIFT = 19;
+	private static final int TILE_MASK = 0x3F;
+	private static final int FLAGS_MASK = 0xF;
+	private static final int PIECE_MASK = 0x7;
+	private static final int SHORT_MASK = 0xFFFF;
+	private static final int CAPTURE_FLAG = 4;
+	private static final int PROMOTION_FLAG = 8;
+
+	private static final PieceType[] PIECE_TYPES = PieceType.values();
+	private static final PieceType[] PROMOTION_TYPES = {PieceType.KNIGHT, PieceType.BISHOP, PieceType.ROOK, PieceType.QUEEN};
+
+	/********************************************************************
+	 * The Constructor will throw an exception if an object is created
+	 * because just provides Utilities.
+	 ********************************************************************/
+	private PackedMove(){
+		throw new RuntimeException("This class can't be instantiated!");
+	}
+
+	/******************************************************************
+	 * Packs the move, the NULL_MOVE is packed as NONE
+	 * @param move
+	 * @return int packed move
+	 ******************************************************************/
+	public static int encode(final Move move){
+		if(move == null || move == Move.NULL_MOVE)
+			return NONE;
+		final int flags;
+		if(move instanceof PawnPromotion)
+			flags = move.isAttack() ? QUEEN_PROMOTION_CAPTURE : QUEEN_PROMOTION;
+		else if(move instanceof PawnEnPassantAttackMove)
+			flags = EN_PASSANT;
+		else if(move.isAttack())
+			flags = CAPTURE;
+		else if(move instanceof KingSideCastleMove)
+			flags = KING_SIDE_CASTLE;
+		else if(move instanceof QueenSideCastleMove)
+			flags = QUEEN_SIDE_CASTLE;
+		else if(move instanceof PawnJump)
+			flags = PAWN_JUMP;
+		else
+			flags = QUIET;
+		final int captured = move.isAttack() ? move.getAttackedPiece().getPieceType().ordinal() + 1 : 0;
+		return move.getDestinationCoordinate() |
+			   move.getCurrentCoordinate() << FROM_SHIFT |
+			   flags << FLAGS_SHIFT |
+			   move.getMovedPiece().getPieceType().ordinal() << MOVED_PIECE_SHIFT |
+			   captured << CAPTURED_PIECE_SHIFT;
+	}
+
+	/*********************************************************************
+	 * Packs a move from its parts, used by the MoveGenerator
+	 * @param from
+	 * @param to
+	 * @param flags
+	 * @param movedPieceType
+	 * @param capturedPieceType the piece taken, or null
+	 * @return int packed move
+	 *********************************************************************/
+	public static int create(final int from,
+							 final int to,
+							 final int flags,
+							 final PieceType movedPieceType,
+							 final PieceType capturedPieceType){
+		return to |
+			   from << FROM_SHIFT |
+			   flags << FLAGS_SHIFT |
+			   movedPieceType.ordinal() << MOVED_PIECE_SHIFT |
+			   (capturedPieceType == null ? 0 : capturedPieceType.ordinal() + 1) << CAPTURED_PIECE_SHIFT;
+	}
+
+	/**************************************************************************
+	 * Finds the move among the legal moves of the board, only the low 16 bits
+	 * are compared so a move from the TranspositionTable can be looked up.
+	 * @param board
+	 * @param packedMove
+	 * @return Move the move, or the NULL_MOVE if it isn't legal on the board
+	 **************************************************************************/
+	public static Move decode(final Board board, final int packedMove){
+		if(packedMove == NONE)
+			return Move.NULL_MOVE;
+		for(final Move move : board.currentPlayer().getLegalMoves()){
+			if(isSameMove(encode(move), packedMove))
+				return move;
+		}
+		return Move.NULL_MOVE;
+	}
+
+	/**************************************************************
+	 * Checks if two packed moves are the same move, ignoring the
+	 * piece types only the full 32 bits have
+	 * @param first
+	 * @param second
+	 * @return true or false
+	 **************************************************************/
+	public static boolean isSameMove(final int first, final int second){
+		return toShort(first) == toShort(second);
+	}
+
+	/*************************************************************
+	 * Returns the low 16 bits, which the TranspositionTable keeps
+	 * @param packedMove
+	 * @return int the short move
+	 *************************************************************/
+	public static int toShort(final int packedMove){
+		return packedMove & SHORT_MASK;
+	}
+
+	public static int getFrom(final int packedMove){
+		return (packedMove >>> FROM_SHIFT) & TILE_MASK;
+	}
+
+	public static int getTo(final int packedMove){
+		return packedMove & TILE_MASK;
+	}
+
+	public static int getFlags(final int packedMove){
+		return (packedMove >>> FLAGS_SHIFT) & FLAGS_MASK;
+	}
+
+	/*************************************************************
+	 * Returns the from and to tiles as one index below 4096, for
+	 * tables kept by the tiles a move goes between
+	 * @param packedMove
+	 * @return int index
+	 *************************************************************/
+	public static int getFromToIndex(final int packedMove){
+		return packedMove & 0xFFF;
+	}
+
+	public static boolean isCapture(final int packedMove){
+		return (getFlags(packedMove) & CAPTURE_FLAG) != 0;
+	}
+
+	public static boolean isPromotion(final int packedMove){
+		return (getFlags(packedMove) & PROMOTION_FLAG) != 0;
+	}
+
+	/**************************************************************
+	 * Checks if the move is neither a capture nor a promotion, the
+	 * moves killers and history are kept for
+	 * @param packedMove
+	 * @return true or false
+	 **************************************************************/
+	public static boolean isQuiet(final int packedMove){
+		return (getFlags(packedMove) & (CAPTURE_FLAG | PROMOTION_FLAG)) == 0;
+	}
+
+	public static boolean isEnPassant(final int packedMove){
+		return getFlags(packedMove) == EN_PASSANT;
+	}
+
+	public static boolean isCastle(final int packedMove){
+		final int flags = getFlags(packedMove);
+		return flags == KING_SIDE_CASTLE || flags == QUEEN_SIDE_CASTLE;
+	}
+
+	/***************************************************************
+	 * Returns the type of the piece promoted to
+	 * @param packedMove
+	 * @return PieceType the promotion, or null if it isn't one
+	 ***************************************************************/
+	public static PieceType getPromotionType(final int packedMove){
+		return isPromotion(packedMove) ? PROMOTION_TYPES[getFlags(packedMove) & 0x3] : null;
+	}
+
+	public static PieceType getMovedPieceType(final int packedMove){
+		return PIECE_TYPES[(packedMove >>> MOVED_PIECE_SHIFT) & PIECE_MASK];
+	}
+
+	/***************************************************************
+	 * Returns the type of the piece captured
+	 * @param packedMove
+	 * @return PieceType the captured piece, or null if it isn't one
+	 ***************************************************************/
+	public static PieceType getCapturedPieceType(final int packedMove){
+		final int captured = (packedMove >>> CAPTURED_PIECE_SHIFT) & PIECE_MASK;
+		return captured == 0 ? null : PIECE_TYPES[captured - 1];
+	}
+
+	/***************************************************************
+	 * Returns the move in coordinate notation, e.g. e2e4 or e7e8q
+	 * @param packedMove
+	 * @return String
+	 ***************************************************************/
+	public static String toString(final int packedMove){
+		if(packedMove == NONE)
+			return "0000";
+		final PieceType promotion = getPromotionType(packedMove);
+		return BoardUtils.getPositionAtCoordinate(getFrom(packedMove)) +
+			   BoardUtils.getPositionAtCoordinate(getTo(packedMove)) +
+			   (promotion == null ? "" : promotion.toString().toLowerCase());
+	}
+
+}
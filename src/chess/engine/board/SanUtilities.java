@@ -0,0 +1,229 @@
+package chess.engine.board;
+
+import chess.engine.board.Move.KingSideCastleMove;
+import chess.engine.board.Move.PawnPromotion;
+import chess.engine.board.Move.QueenSideCastleMove;
+import chess.engine.pieces.Pawn;
+import chess.engine.pieces.Piece.PieceType;
+import chess.engine.player.Player;
+
+/*****************************************************************************************
+ * Writes and reads moves in Standard Algebraic Notation, the notation of PGN files. A move
+ * is the letter of the piece, nothing for a Pawn, the file and or rank it moves from when
+ * another piece of the same type could move to the same tile, an x for a capture, the tile
+ * it moves to and =Q for a promotion, with + for check or # for mate on the end. Castles
+ * are O-O and O-O-O. Pawn captures start with the file the Pawn comes from.
+ * Both ways work from the legal moves of the board the move is made on, which the Player
+ * calculates once and keeps, so no move is made to write or read one. Only the check and
+ * mate markers need the board after the move, and its legal moves are needed for the next
+ * move anyway. When reading, annotations like !? are ignored and 0-0 is taken for O-O.
+ * Like the rest of the engine Pawns are only promoted to Queens, a move promoting to any
+ * other piece can't be found.
+ * @author Aaron Teague
+ * I was helped by the sites www.stackoverflow.com, www.stackexchange.com,
+ * and chessprogramming.wikispaces.com
+ *****************************************************************************************/
+public final class SanUtilities {
+
+	private static final int NO_FILE = -1;
+	private static final int NO_RANK = -1;
+
+	/********************************************************************
+	 * The Constructor will throw an exception if an object is created
+	 * because just provides Utilities.
+	 ********************************************************************/
+	private SanUtilities(){
+		throw new RuntimeException("This class can't be instantiated!");
+	}
+
+	/*****************************************************************************
+	 * Writes the SAN of a move without the check or mate marker
+	 * @param move
+	 * @return String san
+	 *****************************************************************************/
+	public static String createSan(final Move move){
+		if(move instanceof KingSideCastleMove)
+			return "O-O";
+		if(move instanceof QueenSideCastleMove)
+			return "O-O-O";
+		final PieceType pieceType = move.getMovedPiece().getPieceType();
+		final int from = move.getCurrentCoordinate();
+		final StringBuilder san = new StringBuilder();
+		if(pieceType == PieceType.PAWN){
+			if(move.isAttack())
+				san.append(BoardUtils.getPositionAtCoordinate(from).charAt(0)).append('x');
+			san.append(BoardUtils.getPositionAtCoordinate(move.getDestinationCoordinate()));
+			if(move instanceof PawnPromotion)
+				san.append('=').append(((Pawn) move.getMovedPiece()).getPromotionPiece().getPieceType());
+		} else {
+			san.append(pieceType);
+			appendDisambiguation(san, move, pieceType, from);
+			if(move.isAttack())
+				san.append('x');
+			san.append(BoardUtils.getPositionAtCoordinate(move.getDestinationCoordinate()));
+		}
+		return san.toString();
+	}
+
+	/*****************************************************************************
+	 * Writes the SAN of a move with + when it gives check and # when it mates
+	 * @param move
+	 * @param toBoard the board after the move
+	 * @return String san
+	 *****************************************************************************/
+	public static String createSan(final Move move, final Board toBoard){
+		final Player opponent = toBoard.currentPlayer();
+		if(!opponent.isInCheck())
+			return createSan(move);
+		return createSan(move) + (opponent.getLegalMoves().isEmpty() ? "#" : "+");
+	}
+
+	/*****************************************************************************
+	 * Finds the legal move of the player to move written by the SAN string
+	 * @param board
+	 * @param san
+	 * @return Move the move, or the NULL_MOVE if no single legal move matches
+	 *****************************************************************************/
+	public static Move createMove(final Board board, final String san){
+		final String text = stripSuffixes(san);
+		if(text.equals("O-O") || text.equals("0-0"))
+			return findCastle(board, true);
+		if(text.equals("O-O-O") || text.equals("0-0-0"))
+			return findCastle(board, false);
+
+		int end = text.length();
+		boolean isPromotion = false;
+		if(end > 0 && isPromotionPiece(text.charAt(end - 1))){
+			if(text.charAt(end - 1) != 'Q')
+				return Move.NULL_MOVE;
+			isPromotion = true;
+			end -= end > 1 && text.charAt(end - 2) == '=' ? 2 : 1;
+		}
+		if(end < 2)
+			return Move.NULL_MOVE;
+		final String destination = text.substring(end - 2, end);
+		if(!BoardUtils.POSITION_TO_COORDINATE.containsKey(destination))
+			return Move.NULL_MOVE;
+		final int destinationCoordinate = BoardUtils.getCoordinateAtPosition(destination);
+
+		int start = 0;
+		PieceType pieceType = PieceType.PAWN;
+		if(Character.isUpperCase(text.charAt(0))){
+			pieceType = getPieceType(text.charAt(0));
+			if(pieceType == null)
+				return Move.NULL_MOVE;
+			start = 1;
+		}
+
+		//What is left between the piece and the destination tells pieces of the same type apart
+		int file = NO_FILE;
+		int rank = NO_RANK;
+		for(int i = start; i < end - 2; i++){
+			final char c = text.charAt(i);
+			if(c >= 'a' && c <= 'h')
+				file = c - 'a';
+			else if(c >= '1' && c <= '8')
+				rank = c - '1';
+			else if(c != 'x' && c != ':')
+				return Move.NULL_MOVE;
+		}
+
+		Move found = Move.NULL_MOVE;
+		for(final Move move : board.currentPlayer().getLegalMoves()){
+			if(move.getDestinationCoordinate() != destinationCoordinate ||
+			   move.getMovedPiece().getPieceType() != pieceType ||
+			   move.isCastlingMove() ||
+			   (move instanceof PawnPromotion) != isPromotion)
+				continue;
+			final int from = move.getCurrentCoordinate();
+			if(file != NO_FILE && from % BoardUtils.NUM_TILES_PER_RANK != file)
+				continue;
+			//Rank 1 is the last row of tiles
+			if(rank != NO_RANK && BoardUtils.NUM_TILES_PER_RANK - 1 - from / BoardUtils.NUM_TILES_PER_RANK != rank)
+				continue;
+			//Two moves fit the notation, it is ambiguous
+			if(found != Move.NULL_MOVE)
+				return Move.NULL_MOVE;
+			found = move;
+		}
+		return found;
+	}
+
+	/*********************************************************************
+	 * Adds the file the piece moves from when another piece of its type
+	 * can move to the same tile, the rank when that piece is on the same
+	 * file, and both when there are pieces on the same file and rank
+	 *********************************************************************/
+	private static void appendDisambiguation(final StringBuilder san, final Move move, final PieceType pieceType, final int from){
+		boolean isAmbiguous = false;
+		boolean isSameFile = false;
+		boolean isSameRank = false;
+		//The moves of the piece's own player, which needn't be the one to move when a Move is printed
+		final Player currentPlayer = move.getBoard().currentPlayer();
+		final Player player = currentPlayer.getTeam() == move.getMovedPiece().getPieceTeam() ? currentPlayer : currentPlayer.getOpponent();
+		for(final Move other : player.getLegalMoves()){
+			final int otherFrom = other.getCurrentCoordinate();
+			if(other.getDestinationCoordinate() != move.getDestinationCoordinate() ||
+			   other.getMovedPiece().getPieceType() != pieceType ||
+			   otherFrom == from ||
+			   other.isCastlingMove())
+				continue;
+			isAmbiguous = true;
+			isSameFile |= otherFrom % BoardUtils.NUM_TILES_PER_RANK == from % BoardUtils.NUM_TILES_PER_RANK;
+			isSameRank |= otherFrom / BoardUtils.NUM_TILES_PER_RANK == from / BoardUtils.NUM_TILES_PER_RANK;
+		}
+		if(!isAmbiguous)
+			return;
+		final String position = BoardUtils.getPositionAtCoordinate(from);
+		if(!isSameFile)
+			san.append(position.charAt(0));
+		else if(!isSameRank)
+			san.append(position.charAt(1));
+		else
+			san.append(position);
+	}
+
+	/**************************************************************
+	 * Takes the check and mate markers and annotations off the end
+	 **************************************************************/
+	private static String stripSuffixes(final String san){
+		int end = san.length();
+		while(end > 0){
+			final char c = san.charAt(end - 1);
+			if(c != '+' && c != '#' && c != '!' && c != '?')
+				break;
+			end--;
+		}
+		return san.substring(0, end);
+	}
+
+	private static Move findCastle(final Board board, final boolean isKingSide){
+		for(final Move move : board.currentPlayer().getLegalMoves()){
+			if(isKingSide ? move instanceof KingSideCastleMove : move instanceof QueenSideCastleMove)
+				return move;
+		}
+		return Move.NULL_MOVE;
+	}
+
+	private static boolean isPromotionPiece(final char c){
+		return c == 'N' || c == 'B' || c == 'R' || c == 'Q';
+	}
+
+	private static PieceType getPieceType(final char c){
+		switch(c){
+			case 'N':
+				return PieceType.KNIGHT;
+			case 'B':
+				return PieceType.BISHOP;
+			case 'R':
+				return PieceType.ROOK;
+			case 'Q':
+				return PieceType.QUEEN;
+			case 'K':
+				return PieceType.KING;
+			default:
+				return null;
+		}
+	}
+
+}
@@ -0,0 +1,532 @@
+package chess.engine.board;
+
+import java.util.Arrays;
+
+import chess.engine.board.Board.Builder;
+import chess.engine.evaluation.PieceSquareTables;
+import chess.engine.pieces.Bishop;
+import chess.engine.pieces.King;
+import chess.engine.pieces.Knight;
+import chess.engine.pieces.Pawn;
+import chess.engine.pieces.Piece;
+import chess.engine.pieces.Piece.PieceType;
+import chess.engine.pieces.Queen;
+import chess.engine.pieces.Rook;
+import chess.engine.pieces.Team;
+
+/*************************************************************************************
+ * A mutable Board for searching. Moves are made and unmade in place on the
+ * bitboards and a tile array, and everything a move changes is pushed on an undo
+ * stack, so walking the move tree doesn't create a new Board for every move.
+ * The immutable Board is still the snapshot that is handed out, toBoard() creates
+ * one from the current position.
+ * @author Aaron Teague
+ * I was helped by the sites www.stackoverflow.com, www.stackexchange.com,
+ * and chessprogramming.wikispaces.com
+ *************************************************************************************/
+public final class SearchBoard implements BitBoardPosition {
+
+	//Marks a tile with no piece on it
+	public static final int NO_PIECE = -1;
+	//Marks that no pawn can be taken by En Passant
+	public static final int NO_EN_PASSANT = -1;
+
+	//The kinds of moves the board has to handle differently
+	private static final int NORMAL = 0;
+	private static final int PAWN_JUMP = 1;
+	private static final int EN_PASSANT = 2;
+	private static final int PROMOTION = 3;
+	private static final int KING_SIDE_CASTLE = 4;
+	private static final int QUEEN_SIDE_CASTLE = 5;
+
+	//The castling rights that survive a piece moving from or to each tile
+	private static final int[] CASTLING_MASKS = initCastlingMasks();
+	private static final PieceType[] PIECE_TYPES = PieceType.values();
+	private static final Team[] TEAMS = Team.values();
+
+	//One bitboard for every Team and PieceType combination
+	private final long[] pieceBitBoards;
+	//One bitboard of all the tiles each Team holds
+	private final long[] teamBitBoards;
+	//Holds the bitboard index of the piece on every tile, or NO_PIECE
+	private final int[] tilePieces;
+	private long occupiedBitBoard;
+
+	private Team moveMaker;
+	private int castlingRights;
+	//The tile a pawn moves to when it takes En Passant
+	private int enPassantTile;
+	private int halfMoveClock;
+	private int fullMoveNumber;
+	//The Zobrist key, updated as pieces are put on and taken off tiles
+	private long zobristKey;
+	//The material and placement scores and the phase, updated the same way as the key
+	private int middlegameScore;
+	private int endgameScore;
+	private int phase;
+
+	//The undo stack, one entry for every move made
+	private int[] undoMoves;
+	private int[] undoStates;
+	private long[] undoKeys;
+	private int undoSize;
+
+	/**********************************************************
+	 * Creates the SearchBoard from the position of the Board
+	 * @param board
+	 **********************************************************/
+	public SearchBoard(final Board board){
+		this.pieceBitBoards = new long[BitBoards.NUM_PIECE_BITBOARDS];
+		this.teamBitBoards = new long[TEAMS.length];
+		this.tilePieces = new int[BoardUtils.NUM_TILES];
+		Arrays.fill(this.tilePieces, NO_PIECE);
+		for(final Piece piece : board.getAllPieces()){
+			putPiece(piece.getPiecePosition(), BitBoards.bitBoardIndex(piece.getPieceTeam(), piece.getPieceType()));
+		}
+		this.moveMaker = board.currentPlayer().getTeam();
+		this.castlingRights = board.getCastlingRights();
+		final Pawn enPassantPawn = board.getEnPassantPawn();
+		this.enPassantTile = enPassantPawn == null ? NO_EN_PASSANT :
+				enPassantPawn.getPiecePosition() + enPassantPawn.getPieceTeam().getOppositeDirection() * BoardUtils.NUM_TILES_PER_RANK;
+		this.halfMoveClock = board.getHalfMoveClock();
+		this.fullMoveNumber = board.getFullMoveNumber();
+		this.zobristKey ^= Zobrist.calculateStateKey(this.moveMaker, this.castlingRights, this.enPassantTile);
+		this.undoMoves = new int[256];
+		this.undoStates = new int[256];
+		this.undoKeys = new long[256];
+		this.undoSize = 0;
+	}
+
+	/*****************************************************************
+	 * Creates a new SearchBoard holding the Standard starting position
+	 * @return SearchBoard
+	 *****************************************************************/
+	public static SearchBoard createStandardBoard(){
+		return new SearchBoard(Board.createStandardBoard());
+	}
+
+	/**********************************************************************
+	 * Makes the move in place. The move has to be one of the moves of the
+	 * Player to move on a Board holding the same position as this board.
+	 * @param move
+	 **********************************************************************/
+	public void makeMove(final Move move){
+		if(move.getMovedPiece() == null)
+			throw new RuntimeException("can't execute move!");
+		makeMove(move.getCurrentCoordinate(), move.getDestinationCoordinate(), moveKind(move));
+	}
+
+	/**********************************************************************
+	 * Makes the PackedMove in place. The move has to be one of the moves
+	 * the MoveGenerator generates for this position.
+	 * @param packedMove
+	 **********************************************************************/
+	public void makeMove(final int packedMove){
+		final int kind;
+		switch(PackedMove.getFlags(packedMove)){
+			case PackedMove.PAWN_JUMP:
+				kind = PAWN_JUMP;
+				break;
+			case PackedMove.EN_PASSANT:
+				kind = EN_PASSANT;
+				break;
+			case PackedMove.KING_SIDE_CASTLE:
+				kind = KING_SIDE_CASTLE;
+				break;
+			case PackedMove.QUEEN_SIDE_CASTLE:
+				kind = QUEEN_SIDE_CASTLE;
+				break;
+			default:
+				kind = PackedMove.isPromotion(packedMove) ? PROMOTION : NORMAL;
+		}
+		makeMove(PackedMove.getFrom(packedMove), PackedMove.getTo(packedMove), kind);
+	}
+
+	/***********************************************************
+	 * Takes back the last move made and restores the position
+	 ***********************************************************/
+	public void unmakeMove(){
+		if(this.undoSize == 0)
+			throw new RuntimeException("There is no move to unmake!");
+
+		this.undoSize--;
+		final int undoMove = this.undoMoves[this.undoSize];
+		final int undoState = this.undoStates[this.undoSize];
+		final int from = undoMove & 63;
+		final int to = (undoMove >>> 6) & 63;
+		final int kind = (undoMove >>> 12) & 15;
+		final int capturedPiece = ((undoMove >>> 16) & 15) - 1;
+
+		this.moveMaker = this.moveMaker.opposite();
+		this.castlingRights = undoState & 15;
+		this.enPassantTile = ((undoState >>> 4) & 127) - 1;
+		this.halfMoveClock = undoState >>> 11;
+		if(this.moveMaker.isBlack())
+			this.fullMoveNumber--;
+
+		//A promoted piece goes back to being a pawn
+		if(kind == PROMOTION){
+			removePiece(to);
+			putPiece(to, BitBoards.bitBoardIndex(this.moveMaker, PieceType.PAWN));
+		}
+		movePiece(to, from);
+
+		if(kind == KING_SIDE_CASTLE){
+			movePiece(from + 1, from + 3);
+		} else if(kind == QUEEN_SIDE_CASTLE){
+			movePiece(from - 1, from - 4);
+		} else if(kind == EN_PASSANT){
+			putPiece(enPassantVictimTile(to), capturedPiece);
+		} else if(capturedPiece != NO_PIECE){
+			putPiece(to, capturedPiece);
+		}
+		//Putting the pieces back restored the piece part of the key, the rest is restored here
+		this.zobristKey = this.undoKeys[this.undoSize];
+	}
+
+	/*******************************************************************
+	 * Moves the piece on from to to, taking care of captures, castling,
+	 * En Passant and promotions, and pushes what is needed to undo it.
+	 * @param from
+	 * @param to
+	 * @param kind
+	 *******************************************************************/
+	private void makeMove(final int from, final int to, final int kind){
+		final int movedPiece = this.tilePieces[from];
+		final int capturedTile = kind == EN_PASSANT ? enPassantVictimTile(to) : to;
+		final int capturedPiece = this.tilePieces[capturedTile];
+
+		pushUndo(from, to, kind, capturedPiece);
+
+		if(capturedPiece != NO_PIECE)
+			removePiece(capturedTile);
+		movePiece(from, to);
+
+		if(kind == KING_SIDE_CASTLE){
+			movePiece(from + 3, from + 1);
+		} else if(kind == QUEEN_SIDE_CASTLE){
+			movePiece(from - 4, from - 1);
+		} else if(kind == PROMOTION){
+			//Pawns are always promoted to a Queen, the same as Pawn.getPromotionPiece()
+			removePiece(to);
+			putPiece(to, BitBoards.bitBoardIndex(this.moveMaker, PieceType.QUEEN));
+		}
+
+		//The pieces were hashed as they moved, the state is swapped out as a whole
+		this.zobristKey ^= Zobrist.calculateStateKey(this.moveMaker, this.castlingRights, this.enPassantTile);
+		this.castlingRights &= CASTLING_MASKS[from] & CASTLING_MASKS[to];
+		this.enPassantTile = kind == PAWN_JUMP ? (from + to) / 2 : NO_EN_PASSANT;
+		this.halfMoveClock = capturedPiece != NO_PIECE || PIECE_TYPES[movedPiece % PIECE_TYPES.length] == PieceType.PAWN ?
+				0 : this.halfMoveClock + 1;
+		if(this.moveMaker.isBlack())
+			this.fullMoveNumber++;
+		this.moveMaker = this.moveMaker.opposite();
+		this.zobristKey ^= Zobrist.calculateStateKey(this.moveMaker, this.castlingRights, this.enPassantTile);
+	}
+
+	/********************************************************
+	 * Pushes everything that is needed to undo a move on
+	 * the undo stack, growing the stack if it is full.
+	 ********************************************************/
+	private void pushUndo(final int from, final int to, final int kind, final int capturedPiece){
+		if(this.undoSize == this.undoMoves.length){
+			this.undoMoves = Arrays.copyOf(this.undoMoves, this.undoSize * 2);
+			this.undoStates = Arrays.copyOf(this.undoStates, this.undoSize * 2);
+			this.undoKeys = Arrays.copyOf(this.undoKeys, this.undoSize * 2);
+		}
+		this.undoMoves[this.undoSize] = from | (to << 6) | (kind << 12) | ((capturedPiece + 1) << 16);
+		this.undoStates[this.undoSize] = this.castlingRights | ((this.enPassantTile + 1) << 4) | (this.halfMoveClock << 11);
+		this.undoKeys[this.undoSize] = this.zobristKey;
+		this.undoSize++;
+	}
+
+	/*****************************************************************
+	 * Returns the tile of the pawn that is taken by an En Passant move
+	 * landing on the tile passed in
+	 * @param enPassantDestination
+	 * @return int tileCoordinate
+	 *****************************************************************/
+	private int enPassantVictimTile(final int enPassantDestination){
+		return enPassantDestination + this.moveMaker.getOppositeDirection() * BoardUtils.NUM_TILES_PER_RANK;
+	}
+
+	private void putPiece(final int tileCoordinate, final int piece){
+		final long mask = BitBoards.tileMask(tileCoordinate);
+		this.tilePieces[tileCoordinate] = piece;
+		this.pieceBitBoards[piece] |= mask;
+		this.teamBitBoards[piece / PIECE_TYPES.length] |= mask;
+		this.occupiedBitBoard |= mask;
+		this.zobristKey ^= Zobrist.pieceKey(piece, tileCoordinate);
+		final Team team = TEAMS[piece / PIECE_TYPES.length];
+		final PieceType pieceType = PIECE_TYPES[piece % PIECE_TYPES.length];
+		this.middlegameScore += PieceSquareTables.getSignedMiddlegameScore(team, pieceType, tileCoordinate);
+		this.endgameScore += PieceSquareTables.getSignedEndgameScore(team, pieceType, tileCoordinate);
+		this.phase += PieceSquareTables.getPhaseWeight(pieceType);
+	}
+
+	private void removePiece(final int tileCoordinate){
+		final long mask = ~BitBoards.tileMask(tileCoordinate);
+		final int piece = this.tilePieces[tileCoordinate];
+		this.tilePieces[tileCoordinate] = NO_PIECE;
+		this.pieceBitBoards[piece] &= mask;
+		this.teamBitBoards[piece / PIECE_TYPES.length] &= mask;
+		this.occupiedBitBoard &= mask;
+		this.zobristKey ^= Zobrist.pieceKey(piece, tileCoordinate);
+		final Team team = TEAMS[piece / PIECE_TYPES.length];
+		final PieceType pieceType = PIECE_TYPES[piece % PIECE_TYPES.length];
+		this.middlegameScore -= PieceSquareTables.getSignedMiddlegameScore(team, pieceType, tileCoordinate);
+		this.endgameScore -= PieceSquareTables.getSignedEndgameScore(team, pieceType, tileCoordinate);
+		this.phase -= PieceSquareTables.getPhaseWeight(pieceType);
+	}
+
+	private void movePiece(final int from, final int to){
+		final int piece = this.tilePieces[from];
+		removePiece(from);
+		putPiece(to, piece);
+	}
+
+	/*********************************************************
+	 * Works out which kind of move the Move subclass is
+	 * @param move
+	 * @return int kind
+	 *********************************************************/
+	private static int moveKind(final Move move){
+		if(move instanceof Move.PawnPromotion)
+			return PROMOTION;
+		if(move instanceof Move.PawnEnPassantAttackMove)
+			return EN_PASSANT;
+		if(move instanceof Move.PawnJump)
+			return PAWN_JUMP;
+		if(move instanceof Move.KingSideCastleMove)
+			return KING_SIDE_CASTLE;
+		if(move instanceof Move.QueenSideCastleMove)
+			return QUEEN_SIDE_CASTLE;
+		return NORMAL;
+	}
+
+	/****************************************************
+	 * Creates the mask of the castling rights that are
+	 * kept when a piece moves from or to each tile.
+	 * @return int[] castlingMasks
+	 ****************************************************/
+	private static int[] initCastlingMasks(){
+		final int[] castlingMasks = new int[BoardUtils.NUM_TILES];
+		Arrays.fill(castlingMasks, BoardUtils.ALL_CASTLING_RIGHTS);
+		castlingMasks[60] &= ~(BoardUtils.WHITE_KING_SIDE | BoardUtils.WHITE_QUEEN_SIDE);
+		castlingMasks[63] &= ~BoardUtils.WHITE_KING_SIDE;
+		castlingMasks[56] &= ~BoardUtils.WHITE_QUEEN_SIDE;
+		castlingMasks[4] &= ~(BoardUtils.BLACK_KING_SIDE | BoardUtils.BLACK_QUEEN_SIDE);
+		castlingMasks[7] &= ~BoardUtils.BLACK_KING_SIDE;
+		castlingMasks[0] &= ~BoardUtils.BLACK_QUEEN_SIDE;
+		return castlingMasks;
+	}
+
+	/*****************************************************************************
+	 * Creates an immutable Board of the current position. Kings and Rooks that
+	 * can still castle and Pawns on their starting rank are marked as not having
+	 * moved yet.
+	 * @return Board
+	 *****************************************************************************/
+	public Board toBoard(){
+		final Builder builder = new Builder();
+		for(int i = 0; i < BoardUtils.NUM_TILES; i++){
+			if(this.tilePieces[i] != NO_PIECE)
+				builder.setPiece(createPiece(i));
+		}
+		builder.setMoveMaker(this.moveMaker);
+		builder.setHalfMoveClock(this.halfMoveClock);
+		builder.setFullMoveNumber(this.fullMoveNumber);
+		if(this.enPassantTile != NO_EN_PASSANT){
+			//The pawn that jumped belongs to the player that just moved
+			builder.setEnPassantPawn((Pawn)createPiece(enPassantVictimTile(this.enPassantTile)));
+		}
+		return builder.build();
+	}
+
+	/*************************************************
+	 * Creates the Piece object on the tile passed in
+	 * @param tileCoordinate
+	 * @return Piece
+	 *************************************************/
+	private Piece createPiece(final int tileCoordinate){
+		final Team team = getPieceTeam(tileCoordinate);
+		switch(getPieceType(tileCoordinate)){
+			case PAWN:
+				return new Pawn(team, tileCoordinate, team.isWhite() ? BoardUtils.SECOND_RANK[tileCoordinate] :
+					                                                   BoardUtils.SEVENTH_RANK[tileCoordinate]);
+			case KNIGHT:
+				return new Knight(team, tileCoordinate, false);
+			case BISHOP:
+				return new Bishop(team, tileCoordinate, false);
+			case ROOK:
+				return new Rook(team, tileCoordinate, (CASTLING_MASKS[tileCoordinate] & this.castlingRights) != this.castlingRights);
+			case QUEEN:
+				return new Queen(team, tileCoordinate, false);
+			default:
+				final boolean kingSide = (this.castlingRights & (team.isWhite() ? BoardUtils.WHITE_KING_SIDE : BoardUtils.BLACK_KING_SIDE)) != 0;
+				final boolean queenSide = (this.castlingRights & (team.isWhite() ? BoardUtils.WHITE_QUEEN_SIDE : BoardUtils.BLACK_QUEEN_SIDE)) != 0;
+				return new King(team, tileCoordinate, kingSide || queenSide, false, kingSide, queenSide);
+		}
+	}
+
+	/***************************************************************
+	 * Returns the bitboard of the pieces of one Team and PieceType
+	 * @param team
+	 * @param pieceType
+	 * @return long bitboard
+	 ***************************************************************/
+	public long getPieceBitBoard(final Team team, final PieceType pieceType){
+		return this.pieceBitBoards[BitBoards.bitBoardIndex(team, pieceType)];
+	}
+
+	/***************************************************************
+	 * Returns the piece bitboards indexed by BitBoards.bitBoardIndex,
+	 * the array itself so nothing is copied
+	 * @return long[] pieceBitBoards
+	 ***************************************************************/
+	long[] getPieceBitBoards(){
+		return this.pieceBitBoards;
+	}
+
+	/*******************************************************************
+	 * Returns the pieces of the attacking Team that would attack the
+	 * tile with the occupied tiles passed in, pieces taken off the
+	 * occupied tiles don't attack and sliders see through them
+	 * @param tileCoordinate
+	 * @param attackingTeam
+	 * @param occupied
+	 * @return long attackers
+	 *******************************************************************/
+	public long getAttackersOf(final int tileCoordinate, final Team attackingTeam, final long occupied){
+		return BitBoards.attackersTo(this.pieceBitBoards, occupied, tileCoordinate, attackingTeam) & occupied;
+	}
+
+	/************************************************************
+	 * Checks if the King of the player to move is attacked
+	 * @return true or false
+	 ************************************************************/
+	public boolean isInCheck(){
+		final int kingTile = BitBoards.firstTile(getPieceBitBoard(this.moveMaker, PieceType.KING));
+		return BitBoards.isTileAttacked(this.pieceBitBoards, this.occupiedBitBoard, kingTile, this.moveMaker.opposite());
+	}
+
+	/***************************************************
+	 * Returns the bitboard of every tile the Team holds
+	 * @param team
+	 * @return long bitboard
+	 ***************************************************/
+	public long getTeamBitBoard(final Team team){
+		return this.teamBitBoards[team.ordinal()];
+	}
+
+	/*********************************************
+	 * Returns the bitboard of every occupied tile
+	 * @return long occupiedBitBoard
+	 *********************************************/
+	public long getOccupiedBitBoard(){
+		return this.occupiedBitBoard;
+	}
+
+	public boolean isTileOccupied(final int tileCoordinate){
+		return this.tilePieces[tileCoordinate] != NO_PIECE;
+	}
+
+	/*****************************************************
+	 * Returns the type of the piece on the tile, or null
+	 * if the tile is empty
+	 * @param tileCoordinate
+	 * @return PieceType
+	 *****************************************************/
+	public PieceType getPieceType(final int tileCoordinate){
+		final int piece = this.tilePieces[tileCoordinate];
+		return piece == NO_PIECE ? null : PIECE_TYPES[piece % PIECE_TYPES.length];
+	}
+
+	/*****************************************************
+	 * Returns the team of the piece on the tile, or null
+	 * if the tile is empty
+	 * @param tileCoordinate
+	 * @return Team
+	 *****************************************************/
+	public Team getPieceTeam(final int tileCoordinate){
+		final int piece = this.tilePieces[tileCoordinate];
+		return piece == NO_PIECE ? null : TEAMS[piece / PIECE_TYPES.length];
+	}
+
+	/************************************
+	 * Returns the team that moves next
+	 * @return Team moveMaker
+	 ************************************/
+	public Team getMoveMaker(){
+		return this.moveMaker;
+	}
+
+	public int getCastlingRights(){
+		return this.castlingRights;
+	}
+
+	public int getEnPassantTile(){
+		return this.enPassantTile;
+	}
+
+	public int getHalfMoveClock(){
+		return this.halfMoveClock;
+	}
+
+	public int getFullMoveNumber(){
+		return this.fullMoveNumber;
+	}
+
+	/***************************************************************
+	 * Returns the Zobrist key of the position, the same key the
+	 * Board holding this position has.
+	 * @return long zobristKey
+	 ***************************************************************/
+	public long getZobristKey(){
+		return this.zobristKey;
+	}
+
+	/***************************************************************
+	 * Returns the middlegame material and placement from White's
+	 * side, the same score the Board holding this position has.
+	 * @return int middlegameScore
+	 ***************************************************************/
+	public int getMiddlegameScore(){
+		return this.middlegameScore;
+	}
+
+	public int getEndgameScore(){
+		return this.endgameScore;
+	}
+
+	public int getPhase(){
+		return this.phase;
+	}
+
+	/*****************************************************
+	 * Returns the number of moves that can be unmade
+	 * @return int
+	 *****************************************************/
+	public int getPly(){
+		return this.undoSize;
+	}
+
+	/*****************************************
+	 * To String method for debugging purposes
+	 *****************************************/
+	@Override
+	public String toString(){
+		final StringBuilder builder = new StringBuilder();
+		for(int i = 0; i < BoardUtils.NUM_TILES; i++){
+			final PieceType pieceType = getPieceType(i);
+			final String tileText = pieceType == null ? "-" :
+				getPieceTeam(i).isBlack() ? pieceType.toString().toLowerCase() : pieceType.toString();
+			builder.append(String.format("%3s", tileText));
+
+			if((i + 1) % BoardUtils.NUM_TILES_PER_RANK == 0)
+				builder.append("\n");
+		}
+		return builder.toString();
+	}
+
+}
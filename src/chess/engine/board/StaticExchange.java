@@ -0,0 +1,167 @@
+package chess.engine.board;
+
+import chess.engine.board.Move.PawnPromotion;
+import chess.engine.pieces.Piece;
+import chess.engine.pieces.Piece.PieceType;
+import chess.engine.pieces.Team;
+
+/*****************************************************************************************
+ * Works out what a capture wins or loses once every piece that can take back on the
+ * destination tile has done so, without making any moves. The Teams take turns to
+ * capture with their least valuable attacker, and either Team may stop when taking
+ * back would lose material. A Rook, Bishop or Queen behind a piece that just captured
+ * joins in as soon as that piece has left, since the attackers are found again with the
+ * captured pieces taken off the occupied tiles.
+ * Moves of a Board and PackedMoves of a SearchBoard are both played out, the search
+ * passes in the array the exchange is worked out in so it doesn't allocate one.
+ * @author Aaron Teague
+ * I was helped by the sites www.stackoverflow.com, www.stackexchange.com,
+ * and chessprogramming.wikispaces.com
+ *****************************************************************************************/
+public final class StaticExchange {
+
+	//No exchange can take more pieces than there are on the board
+	public static final int MAX_EXCHANGE = 32;
+	//Marks a move that doesn't take a piece
+	private static final int NO_CAPTURE = -1;
+	private static final PieceType[] PIECE_TYPES = PieceType.values();
+	private static final int PROMOTION_GAIN = PieceType.QUEEN.getPieceValue() - PieceType.PAWN.getPieceValue();
+
+	/********************************************************************
+	 * The Constructor will throw an exception if an object is created
+	 * because just provides Utilities.
+	 ********************************************************************/
+	private StaticExchange(){
+		throw new RuntimeException("This class can't be instantiated!");
+	}
+
+	/************************************************************************************
+	 * Returns the material the player making the move wins at the end of the exchange
+	 * on its destination tile, negative if it loses material. A move that isn't a
+	 * capture scores what the moved piece loses if the opponent takes it.
+	 * @param board the board the move is made on
+	 * @param move
+	 * @return int the material won in centipawns
+	 ************************************************************************************/
+	public static int evaluate(final Board board, final Move move){
+		final Piece attackedPiece = move.getAttackedPiece();
+		return evaluate(board, move.getCurrentCoordinate(), move.getDestinationCoordinate(),
+				move.isAttack() ? attackedPiece.getPiecePosition() : NO_CAPTURE,
+				move.isAttack() ? attackedPiece.getPieceValue() : 0,
+				move.getMovedPiece().getPieceType(), move instanceof PawnPromotion,
+				move.getMovedPiece().getPieceTeam(), new int[MAX_EXCHANGE]);
+	}
+
+	/************************************************************************************
+	 * Returns what the PackedMove of the player to move on the SearchBoard wins at the
+	 * end of the exchange. The exchange is worked out in the array passed in, which the
+	 * search keeps, so nothing is allocated.
+	 * @param board the board the move is made on
+	 * @param packedMove
+	 * @param gains an array of at least MAX_EXCHANGE ints
+	 * @return int the material won in centipawns
+	 ************************************************************************************/
+	public static int evaluate(final SearchBoard board, final int packedMove, final int[] gains){
+		final Team team = board.getMoveMaker();
+		final int destination = PackedMove.getTo(packedMove);
+		final PieceType captured = PackedMove.getCapturedPieceType(packedMove);
+		final int capturedTile = captured == null ? NO_CAPTURE : PackedMove.isEnPassant(packedMove) ?
+				destination + team.getOppositeDirection() * BoardUtils.NUM_TILES_PER_RANK : destination;
+		return evaluate(board, PackedMove.getFrom(packedMove), destination, capturedTile,
+				captured == null ? 0 : captured.getPieceValue(), PackedMove.getMovedPieceType(packedMove),
+				PackedMove.isPromotion(packedMove), team, gains);
+	}
+
+	/************************************************************************************
+	 * Plays out the exchange on the destination tile
+	 * @param board
+	 * @param from the tile the first piece moves from
+	 * @param destination
+	 * @param capturedTile the tile of the piece taken first, NO_CAPTURE if there isn't one
+	 * @param capturedValue
+	 * @param movedPieceType
+	 * @param isPromotion
+	 * @param movingTeam
+	 * @param gain the array the exchange is worked out in
+	 * @return int the material won in centipawns
+	 ************************************************************************************/
+	private static int evaluate(final BitBoardPosition board,
+								final int from,
+								final int destination,
+								final int capturedTile,
+								final int capturedValue,
+								final PieceType movedPieceType,
+								final boolean isPromotion,
+								final Team movingTeam,
+								final int[] gain){
+		gain[0] = 0;
+		long occupied = board.getOccupiedBitBoard() & ~BitBoards.tileMask(from);
+		if(capturedTile != NO_CAPTURE){
+			gain[0] = capturedValue;
+			//The En Passant pawn isn't on the destination tile
+			occupied &= ~BitBoards.tileMask(capturedTile);
+		}
+		if(isPromotion)
+			gain[0] += PROMOTION_GAIN;
+		occupied |= BitBoards.tileMask(destination);
+
+		int pieceOnTileValue = isPromotion ? PieceType.QUEEN.getPieceValue() : movedPieceType.getPieceValue();
+		Team team = movingTeam.opposite();
+		int depth = 0;
+		while(depth < MAX_EXCHANGE - 1){
+			final long attackers = board.getAttackersOf(destination, team, occupied);
+			if(attackers == 0)
+				break;
+
+			final PieceType attackerType = leastValuableAttacker(board, team, attackers);
+			final long attacker = BitBoards.tileMask(BitBoards.firstTile(attackers & board.getPieceBitBoard(team, attackerType)));
+			//The King can only take back if nothing can take it in turn
+			if(attackerType.isKing() && board.getAttackersOf(destination, team.opposite(), occupied & ~attacker) != 0)
+				break;
+
+			depth++;
+			gain[depth] = pieceOnTileValue - gain[depth - 1];
+			pieceOnTileValue = attackerType.getPieceValue();
+			occupied &= ~attacker;
+			team = team.opposite();
+		}
+
+		//Going back from the last capture, each Team only captures if it doesn't lose by it
+		while(depth > 0){
+			gain[depth - 1] = -Math.max(-gain[depth - 1], gain[depth]);
+			depth--;
+		}
+		return gain[0];
+	}
+
+	/*****************************************************************
+	 * Checks if the move at least breaks even in the exchange
+	 * @param board
+	 * @param move
+	 * @return true or false
+	 *****************************************************************/
+	public static boolean isWinningOrEqual(final Board board, final Move move){
+		return evaluate(board, move) >= 0;
+	}
+
+	public static boolean isWinningOrEqual(final SearchBoard board, final int packedMove, final int[] gains){
+		return evaluate(board, packedMove, gains) >= 0;
+	}
+
+	/********************************************************************
+	 * PieceTypes are declared from the least to the most valuable, so
+	 * the first one with a piece among the attackers is the cheapest
+	 * @param board
+	 * @param team
+	 * @param attackers
+	 * @return PieceType
+	 ********************************************************************/
+	private static PieceType leastValuableAttacker(final BitBoardPosition board, final Team team, final long attackers){
+		for(final PieceType pieceType : PIECE_TYPES){
+			if((attackers & board.getPieceBitBoard(team, pieceType)) != 0)
+				return pieceType;
+		}
+		throw new RuntimeException("There is no attacker!");
+	}
+
+}
@@ -0,0 +1,142 @@
+package chess.engine.board;
+
+import chess.engine.pieces.Piece;
+import chess.engine.pieces.Piece.PieceType;
+import chess.engine.pieces.Team;
+
+/***********************************************************************
+ * Holds the random numbers used to build the 64 bit Zobrist key of a
+ * position. The key is the XOR of a number for every piece on its tile,
+ * the castling rights, the file of the En Passant pawn and the side to
+ * move, so a move only has to XOR in the few numbers it changes.
+ * The numbers come from a fixed seed, so a position gets the same key
+ * every time the program is run.
+ * @author Aaron Teague
+ * I was helped by the sites www.stackoverflow.com, www.stackexchange.com,
+ * and chessprogramming.wikispaces.com
+ ***********************************************************************/
+public final class Zobrist {
+
+	//The state of the random number generator, only used to create the keys
+	private static long seed = 0x5DEECE66DL;
+
+	//One number for every piece bitboard and tile
+	private static final long[][] PIECE_KEYS = initPieceKeys();
+	//One number for every combination of castling rights
+	private static final long[] CASTLING_KEYS = initKeys(BoardUtils.ALL_CASTLING_RIGHTS + 1);
+	//One number for every file the En Passant pawn can be on
+	private static final long[] EN_PASSANT_KEYS = initKeys(BoardUtils.NUM_TILES_PER_RANK);
+	//XOR'd in when it is Black's turn to move
+	private static final long BLACK_TO_MOVE_KEY = nextRandom();
+
+	/********************************************************************
+	 * The Constructor will throw an exception if an object is created
+	 * because just provides Utilities.
+	 ********************************************************************/
+	private Zobrist(){
+		throw new RuntimeException("This class can't be instantiated!");
+	}
+
+	/*******************************************************
+	 * SplitMix64, a small generator with a good spread of
+	 * bits which is all the keys need.
+	 * @return long random number
+	 *******************************************************/
+	private static long nextRandom(){
+		seed += 0x9E3779B97F4A7C15L;
+		long z = seed;
+		z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+		z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+		return z ^ (z >>> 31);
+	}
+
+	private static long[] initKeys(final int size){
+		final long[] keys = new long[size];
+		for(int i = 0; i < size; i++){
+			keys[i] = nextRandom();
+		}
+		return keys;
+	}
+
+	private static long[][] initPieceKeys(){
+		final long[][] keys = new long[BitBoards.NUM_PIECE_BITBOARDS][];
+		for(int i = 0; i < keys.length; i++){
+			keys[i] = initKeys(BoardUtils.NUM_TILES);
+		}
+		return keys;
+	}
+
+	/*****************************************************************
+	 * Returns the number of a piece on a tile
+	 * @param bitBoardIndex the index of the piece's bitboard
+	 * @param tileCoordinate
+	 * @return long key
+	 *****************************************************************/
+	public static long pieceKey(final int bitBoardIndex, final int tileCoordinate){
+		return PIECE_KEYS[bitBoardIndex][tileCoordinate];
+	}
+
+	public static long pieceKey(final Team team, final PieceType pieceType, final int tileCoordinate){
+		return PIECE_KEYS[BitBoards.bitBoardIndex(team, pieceType)][tileCoordinate];
+	}
+
+	public static long pieceKey(final Piece piece){
+		return pieceKey(piece.getPieceTeam(), piece.getPieceType(), piece.getPiecePosition());
+	}
+
+	/*********************************************
+	 * Returns the number of the castling rights
+	 * @param castlingRights
+	 * @return long key
+	 *********************************************/
+	public static long castlingKey(final int castlingRights){
+		return CASTLING_KEYS[castlingRights];
+	}
+
+	/***********************************************************
+	 * Returns the number of the En Passant file of the tile
+	 * passed in, the tile can be the one the pawn stands on or
+	 * the one it jumped over.
+	 * @param tileCoordinate
+	 * @return long key
+	 ***********************************************************/
+	public static long enPassantKey(final int tileCoordinate){
+		return EN_PASSANT_KEYS[tileCoordinate % BoardUtils.NUM_TILES_PER_RANK];
+	}
+
+	public static long blackToMoveKey(){
+		return BLACK_TO_MOVE_KEY;
+	}
+
+	/**************************************************
+	 * Calculates the part of the key from the pieces
+	 * @param pieces
+	 * @return long key
+	 **************************************************/
+	public static long calculatePieceKey(final Iterable<Piece> pieces){
+		long key = 0L;
+		for(final Piece piece : pieces){
+			key ^= pieceKey(piece);
+		}
+		return key;
+	}
+
+	/***********************************************************************
+	 * Calculates the part of the key from the side to move, the castling
+	 * rights and the En Passant pawn.
+	 * @param moveMaker
+	 * @param castlingRights
+	 * @param enPassantTile the tile of the pawn that can be taken by En
+	 * Passant, or a negative number if there is none
+	 * @return long key
+	 ***********************************************************************/
+	public static long calculateStateKey(final Team moveMaker, final int castlingRights, final int enPassantTile){
+		long key = castlingKey(castlingRights);
+		if(moveMaker.isBlack())
+			key ^= BLACK_TO_MOVE_KEY;
+		if(enPassantTile >= 0)
+			key ^= enPassantKey(enPassantTile);
+		return key;
+	}
+
+}
@@ -0,0 +1,24 @@
+package chess.engine.evaluation;
+
+import chess.engine.board.BitBoardPosition;
+
+/*****************************************************************************************
+ * Scores a board without searching it. The score is in centipawns from White's side,
+ * above 0 when White stands better and below 0 when Black does, so the same board has
+ * the same score whoever is to move. A search that scores for the player to move turns
+ * the sign around for Black. Boards and SearchBoards are both scored, through the
+ * bitboards and scores every BitBoardPosition has.
+ * @author Aaron Teague
+ * I was helped by the sites www.stackoverflow.com, www.stackexchange.com,
+ * and chessprogramming.wikispaces.com
+ *****************************************************************************************/
+public interface BoardEvaluator {
+
+	/************************************************
+	 * Scores the board from White's side
+	 * @param board
+	 * @return int score in centipawns
+	 ************************************************/
+	int evaluate(BitBoardPosition board);
+
+}
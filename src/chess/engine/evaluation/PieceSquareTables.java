@@ -0,0 +1,209 @@
+package chess.engine.evaluation;
+
+import chess.engine.pieces.Piece.PieceType;
+import chess.engine.pieces.Team;
+
+/*****************************************************************************************
+ * The value of every piece on every tile, once for the middlegame and once for the
+ * endgame. A value is the material of the piece plus a bonus or penalty for where it
+ * stands, Knights want the center, Pawns want to advance, the King hides in the corner
+ * in the middlegame and walks to the center in the endgame.
+ * The tables are written from White's side, the first row is the eighth rank like the
+ * tile coordinates, and Black looks them up with the rows mirrored. Every value only
+ * depends on one piece and its tile, so a board can keep the sums up to date as pieces
+ * move instead of adding them up every time it is evaluated.
+ * The phase says how far the game is from the endgame by the pieces left on the board,
+ * TOTAL_PHASE with every piece, 0 with only Kings and Pawns.
+ * @author Aaron Teague
+ * I was helped by the sites www.stackoverflow.com, www.stackexchange.com,
+ * and chessprogramming.wikispaces.com
+ *****************************************************************************************/
+public final class PieceSquareTables {
+
+	//The phase of the starting position
+	public static final int TOTAL_PHASE = 24;
+
+	//How much each PieceType adds to the phase, in the order of PieceType
+	private static final int[] PHASE_WEIGHTS = {0, 1, 1, 2, 4, 0};
+
+	//The material of each PieceType in the middlegame and endgame, the King's is left out
+	private static final int[] MIDDLEGAME_MATERIAL = {100, 300, 300, 500, 900, 0};
+	private static final int[] ENDGAME_MATERIAL = {120, 300, 300, 500, 900, 0};
+
+	private static final int[] PAWN_MIDDLEGAME = {
+		  0,   0,   0,   0,   0,   0,   0,   0,
+		 50,  50,  50,  50,  50,  50,  50,  50,
+		 10,  10,  20,  30,  30,  20,  10,  10,
+		  5,   5,  10,  25,  25,  10,   5,   5,
+		  0,   0,   0,  20,  20,   0,   0,   0,
+		  5,  -5, -10,   0,   0, -10,  -5,   5,
+		  5,  10,  10, -20, -20,  10,  10,   5,
+		  0,   0,   0,   0,   0,   0,   0,   0
+	};
+
+	private static final int[] PAWN_ENDGAME = {
+		  0,   0,   0,   0,   0,   0,   0,   0,
+		 80,  80,  80,  80,  80,  80,  80,  80,
+		 50,  50,  50,  50,  50,  50,  50,  50,
+		 30,  30,  30,  30,  30,  30,  30,  30,
+		 15,  15,  15,  15,  15,  15,  15,  15,
+		  5,   5,   5,   5,   5,   5,   5,   5,
+		  0,   0,   0,   0,   0,   0,   0,   0,
+		  0,   0,   0,   0,   0,   0,   0,   0
+	};
+
+	private static final int[] KNIGHT = {
+		-50, -40, -30, -30, -30, -30, -40, -50,
+		-40, -20,   0,   0,   0,   0, -20, -40,
+		-30,   0,  10,  15,  15,  10,   0, -30,
+		-30,   5,  15,  20,  20,  15,   5, -30,
+		-30,   0,  15,  20,  20,  15,   0, -30,
+		-30,   5,  10,  15,  15,  10,   5, -30,
+		-40, -20,   0,   5,   5,   0, -20, -40,
+		-50, -40, -30, -30, -30, -30, -40, -50
+	};
+
+	private static final int[] BISHOP = {
+		-20, -10, -10, -10, -10, -10, -10, -20,
+		-10,   0,   0,   0,   0,   0,   0, -10,
+		-10,   0,   5,  10,  10,   5,   0, -10,
+		-10,   5,   5,  10,  10,   5,   5, -10,
+		-10,   0,  10,  10,  10,  10,   0, -10,
+		-10,  10,  10,  10,  10,  10,  10, -10,
+		-10,   5,   0,   0,   0,   0,   5, -10,
+		-20, -10, -10, -10, -10, -10, -10, -20
+	};
+
+	private static final int[] ROOK = {
+		  0,   0,   0,   0,   0,   0,   0,   0,
+		  5,  10,  10,  10,  10,  10,  10,   5,
+		 -5,   0,   0,   0,   0,   0,   0,  -5,
+		 -5,   0,   0,   0,   0,   0,   0,  -5,
+		 -5,   0,   0,   0,   0,   0,   0,  -5,
+		 -5,   0,   0,   0,   0,   0,   0,  -5,
+		 -5,   0,   0,   0,   0,   0,   0,  -5,
+		  0,   0,   0,   5,   5,   0,   0,   0
+	};
+
+	private static final int[] QUEEN = {
+		-20, -10, -10,  -5,  -5, -10, -10, -20,
+		-10,   0,   0,   0,   0,   0,   0, -10,
+		-10,   0,   5,   5,   5,   5,   0, -10,
+		 -5,   0,   5,   5,   5,   5,   0,  -5,
+		  0,   0,   5,   5,   5,   5,   0,  -5,
+		-10,   5,   5,   5,   5,   5,   0, -10,
+		-10,   0,   5,   0,   0,   0,   0, -10,
+		-20, -10, -10,  -5,  -5, -10, -10, -20
+	};
+
+	private static final int[] KING_MIDDLEGAME = {
+		-30, -40, -40, -50, -50, -40, -40, -30,
+		-30, -40, -40, -50, -50, -40, -40, -30,
+		-30, -40, -40, -50, -50, -40, -40, -30,
+		-30, -40, -40, -50, -50, -40, -40, -30,
+		-20, -30, -30, -40, -40, -30, -30, -20,
+		-10, -20, -20, -20, -20, -20, -20, -10,
+		 20,  20,   0,   0,   0,   0,  20,  20,
+		 20,  30,  10,   0,   0,  10,  30,  20
+	};
+
+	private static final int[] KING_ENDGAME = {
+		-50, -40, -30, -20, -20, -30, -40, -50,
+		-30, -20, -10,   0,   0, -10, -20, -30,
+		-30, -10,  20,  30,  30,  20, -10, -30,
+		-30, -10,  30,  40,  40,  30, -10, -30,
+		-30, -10,  30,  40,  40,  30, -10, -30,
+		-30, -10,  20,  30,  30,  20, -10, -30,
+		-30, -30,   0,   0,   0,   0, -30, -30,
+		-50, -30, -30, -30, -30, -30, -30, -50
+	};
+
+	//The placement tables in the order of PieceType
+	private static final int[][] MIDDLEGAME_TABLES = {PAWN_MIDDLEGAME, KNIGHT, BISHOP, ROOK, QUEEN, KING_MIDDLEGAME};
+	private static final int[][] ENDGAME_TABLES = {PAWN_ENDGAME, KNIGHT, BISHOP, ROOK, QUEEN, KING_ENDGAME};
+
+	//Material and placement added together, indexed by team, piece type and tile
+	private static final int[][][] MIDDLEGAME_SCORES = initScores(MIDDLEGAME_MATERIAL, MIDDLEGAME_TABLES);
+	private static final int[][][] ENDGAME_SCORES = initScores(ENDGAME_MATERIAL, ENDGAME_TABLES);
+
+	/********************************************************************
+	 * The Constructor will throw an exception if an object is created
+	 * because just provides Utilities.
+	 ********************************************************************/
+	private PieceSquareTables(){
+		throw new RuntimeException("This class can't be instantiated!");
+	}
+
+	private static int[][][] initScores(final int[] material, final int[][] tables){
+		final int[][][] scores = new int[Team.values().length][PieceType.values().length][tables[0].length];
+		for(final Team team : Team.values()){
+			for(final PieceType pieceType : PieceType.values()){
+				for(int tile = 0; tile < tables[0].length; tile++){
+					//Black looks the tables up with the rows turned around
+					final int whiteTile = team.isWhite() ? tile : tile ^ 56;
+					scores[team.ordinal()][pieceType.ordinal()][tile] = material[pieceType.ordinal()] +
+																		 tables[pieceType.ordinal()][whiteTile];
+				}
+			}
+		}
+		return scores;
+	}
+
+	/*****************************************************************
+	 * Returns the middlegame value of a piece on the tile, its
+	 * material and its placement
+	 * @param team
+	 * @param pieceType
+	 * @param tileCoordinate
+	 * @return int score
+	 *****************************************************************/
+	public static int getMiddlegameScore(final Team team, final PieceType pieceType, final int tileCoordinate){
+		return MIDDLEGAME_SCORES[team.ordinal()][pieceType.ordinal()][tileCoordinate];
+	}
+
+	public static int getEndgameScore(final Team team, final PieceType pieceType, final int tileCoordinate){
+		return ENDGAME_SCORES[team.ordinal()][pieceType.ordinal()][tileCoordinate];
+	}
+
+	/*****************************************************************
+	 * Returns the middlegame value of a piece on the tile from
+	 * White's side, positive for White's pieces and negative for
+	 * Black's, the way the boards add them up
+	 * @param team
+	 * @param pieceType
+	 * @param tileCoordinate
+	 * @return int score
+	 *****************************************************************/
+	public static int getSignedMiddlegameScore(final Team team, final PieceType pieceType, final int tileCoordinate){
+		final int score = MIDDLEGAME_SCORES[team.ordinal()][pieceType.ordinal()][tileCoordinate];
+		return team.isWhite() ? score : -score;
+	}
+
+	public static int getSignedEndgameScore(final Team team, final PieceType pieceType, final int tileCoordinate){
+		final int score = ENDGAME_SCORES[team.ordinal()][pieceType.ordinal()][tileCoordinate];
+		return team.isWhite() ? score : -score;
+	}
+
+	/*****************************************************************
+	 * Returns how much a piece of the type adds to the phase
+	 * @param pieceType
+	 * @return int weight
+	 *****************************************************************/
+	public static int getPhaseWeight(final PieceType pieceType){
+		return PHASE_WEIGHTS[pieceType.ordinal()];
+	}
+
+	/*********************************************************************
+	 * Blends the middlegame and endgame scores by the phase, a phase of
+	 * TOTAL_PHASE or more is all middlegame and 0 is all endgame
+	 * @param middlegame
+	 * @param endgame
+	 * @param phase
+	 * @return int score
+	 *********************************************************************/
+	public static int taper(final int middlegame, final int endgame, final int phase){
+		final int clampedPhase = Math.min(phase, TOTAL_PHASE);
+		return (middlegame * clampedPhase + endgame * (TOTAL_PHASE - clampedPhase)) / TOTAL_PHASE;
+	}
+
+}
@@ -0,0 +1,204 @@
+package chess.engine.evaluation;
+
+import chess.engine.board.BitBoardPosition;
+import chess.engine.board.BitBoards;
+import chess.engine.board.BoardUtils;
+import chess.engine.pieces.Piece.PieceType;
+import chess.engine.pieces.Team;
+
+/*****************************************************************************************
+ * The default BoardEvaluator. For both Teams it adds up
+ * 1. the material and placement of every piece from the PieceSquareTables,
+ * 2. the mobility of the Knights, Bishops, Rooks and Queens, the tiles they attack that
+ *    aren't their own pieces or guarded by an enemy Pawn,
+ * 3. the pawn structure, doubled and isolated Pawns cost and passed Pawns gain more the
+ *    further they are,
+ * 4. the safety of the King, the Pawns sheltering it and the attacks on the tiles
+ *    around the enemy King.
+ * Every term has a middlegame and an endgame score, which are blended by the phase of
+ * the board, so the evaluation changes smoothly as pieces come off instead of jumping
+ * when the endgame starts. The material and placement only depend on each piece and its
+ * tile, so the board keeps their sums and the phase up to date as moves are made and
+ * only the rest is worked out from the bitboards. The evaluator keeps no state and is shared through get().
+ * @author Aaron Teague
+ * I was helped by the sites www.stackoverflow.com, www.stackexchange.com,
+ * and chessprogramming.wikispaces.com
+ *****************************************************************************************/
+public final class StandardBoardEvaluator implements BoardEvaluator {
+
+	private static final StandardBoardEvaluator INSTANCE = new StandardBoardEvaluator();
+
+	//Team.values() copies its array on every call
+	private static final Team[] TEAMS = Team.values();
+	//The pieces mobility is counted for
+	private static final PieceType[] MOBILE_PIECE_TYPES = {PieceType.KNIGHT, PieceType.BISHOP, PieceType.ROOK, PieceType.QUEEN};
+
+	//The bonus for every tile a piece can move to, in the order of PieceType
+	private static final int[] MOBILITY_MIDDLEGAME = {0, 4, 5, 2, 1, 0};
+	private static final int[] MOBILITY_ENDGAME = {0, 4, 5, 4, 2, 0};
+
+	private static final int DOUBLED_PAWN_MIDDLEGAME = -10;
+	private static final int DOUBLED_PAWN_ENDGAME = -20;
+	private static final int ISOLATED_PAWN_MIDDLEGAME = -15;
+	private static final int ISOLATED_PAWN_ENDGAME = -10;
+	//The bonus of a passed Pawn by how many rows it has come from its starting row
+	private static final int[] PASSED_PAWN_MIDDLEGAME = {0, 5, 10, 15, 25, 40, 60, 0};
+	private static final int[] PASSED_PAWN_ENDGAME = {0, 10, 20, 35, 55, 85, 120, 0};
+
+	//The King's safety only counts in the middlegame
+	private static final int PAWN_SHIELD_BONUS = 10;
+	private static final int KING_ZONE_ATTACK_BONUS = 8;
+
+	//The tiles of each row and column
+	private static final long[] ROWS = new long[BoardUtils.NUM_TILES_PER_RANK];
+	private static final long[] FILES = new long[BoardUtils.NUM_TILES_PER_RANK];
+	//The columns on either side of each column
+	private static final long[] ADJACENT_FILES = new long[BoardUtils.NUM_TILES_PER_RANK];
+	//The tiles in front of a Pawn on its own and the adjacent columns, it is passed if no enemy Pawn is there
+	private static final long[][] PASSED_PAWN_MASKS = new long[Team.values().length][BoardUtils.NUM_TILES];
+
+	static {
+		initMasks();
+	}
+
+	private StandardBoardEvaluator(){
+	}
+
+	/**********************************************
+	 * Returns the evaluator, it keeps no state so
+	 * one is shared by every search
+	 * @return StandardBoardEvaluator
+	 **********************************************/
+	public static StandardBoardEvaluator get(){
+		return INSTANCE;
+	}
+
+	private static void initMasks(){
+		for(int tile = 0; tile < BoardUtils.NUM_TILES; tile++){
+			ROWS[tile / BoardUtils.NUM_TILES_PER_RANK] |= BitBoards.tileMask(tile);
+			FILES[tile % BoardUtils.NUM_TILES_PER_RANK] |= BitBoards.tileMask(tile);
+		}
+		for(int file = 0; file < BoardUtils.NUM_TILES_PER_RANK; file++){
+			ADJACENT_FILES[file] = (file > 0 ? FILES[file - 1] : BitBoards.EMPTY) |
+								   (file < BoardUtils.NUM_TILES_PER_RANK - 1 ? FILES[file + 1] : BitBoards.EMPTY);
+		}
+		for(int tile = 0; tile < BoardUtils.NUM_TILES; tile++){
+			final int row = tile / BoardUtils.NUM_TILES_PER_RANK;
+			final long files = FILES[tile % BoardUtils.NUM_TILES_PER_RANK] | ADJACENT_FILES[tile % BoardUtils.NUM_TILES_PER_RANK];
+			for(int other = 0; other < BoardUtils.NUM_TILES_PER_RANK; other++){
+				//White Pawns move towards row 0 and Black Pawns towards row 7
+				if(other < row)
+					PASSED_PAWN_MASKS[Team.WHITE.ordinal()][tile] |= ROWS[other] & files;
+				else if(other > row)
+					PASSED_PAWN_MASKS[Team.BLACK.ordinal()][tile] |= ROWS[other] & files;
+			}
+		}
+	}
+
+	/*******************************************************************
+	 * Scores the board from White's side
+	 * @param board
+	 * @return int score in centipawns
+	 *******************************************************************/
+	@Override
+	public int evaluate(final BitBoardPosition board){
+		final long occupied = board.getOccupiedBitBoard();
+		int middlegame = board.getMiddlegameScore();
+		int endgame = board.getEndgameScore();
+		for(final Team team : TEAMS){
+			final Team opponent = team.opposite();
+			final long ownPieces = board.getTeamBitBoard(team);
+			final long ownPawns = board.getPieceBitBoard(team, PieceType.PAWN);
+			final long opponentPawns = board.getPieceBitBoard(opponent, PieceType.PAWN);
+			final long opponentPawnAttacks = BitBoards.pawnAttacks(opponent, opponentPawns);
+			final long opponentKing = board.getPieceBitBoard(opponent, PieceType.KING);
+			final long opponentKingZone = opponentKing == BitBoards.EMPTY ? BitBoards.EMPTY :
+										  BitBoards.kingAttacksFrom(BitBoards.firstTile(opponentKing));
+			int teamMiddlegame = 0;
+			int teamEndgame = 0;
+
+			//Mobility, the material and placement are kept by the board
+			int kingZoneAttacks = 0;
+			for(final PieceType pieceType : MOBILE_PIECE_TYPES){
+				for(long pieces = board.getPieceBitBoard(team, pieceType); pieces != 0; pieces = BitBoards.clearFirstTile(pieces)){
+					final long attacks = pieceAttacks(pieceType, BitBoards.firstTile(pieces), occupied);
+					final int mobility = BitBoards.count(attacks & ~ownPieces & ~opponentPawnAttacks);
+					teamMiddlegame += mobility * MOBILITY_MIDDLEGAME[pieceType.ordinal()];
+					teamEndgame += mobility * MOBILITY_ENDGAME[pieceType.ordinal()];
+					kingZoneAttacks += BitBoards.count(attacks & opponentKingZone);
+				}
+			}
+
+			//Pawn structure
+			for(long pawns = ownPawns; pawns != 0; pawns = BitBoards.clearFirstTile(pawns)){
+				final int tile = BitBoards.firstTile(pawns);
+				final int row = tile / BoardUtils.NUM_TILES_PER_RANK;
+				if((ownPawns & ADJACENT_FILES[tile % BoardUtils.NUM_TILES_PER_RANK]) == 0){
+					teamMiddlegame += ISOLATED_PAWN_MIDDLEGAME;
+					teamEndgame += ISOLATED_PAWN_ENDGAME;
+				}
+				if((opponentPawns & PASSED_PAWN_MASKS[team.ordinal()][tile]) == 0){
+					final int advance = team.isWhite() ? BoardUtils.NUM_TILES_PER_RANK - 1 - row : row;
+					teamMiddlegame += PASSED_PAWN_MIDDLEGAME[advance];
+					teamEndgame += PASSED_PAWN_ENDGAME[advance];
+				}
+			}
+			for(final long file : FILES){
+				final int pawnsOnFile = BitBoards.count(ownPawns & file);
+				if(pawnsOnFile > 1){
+					teamMiddlegame += (pawnsOnFile - 1) * DOUBLED_PAWN_MIDDLEGAME;
+					teamEndgame += (pawnsOnFile - 1) * DOUBLED_PAWN_ENDGAME;
+				}
+			}
+
+			//King safety
+			teamMiddlegame += kingZoneAttacks * KING_ZONE_ATTACK_BONUS;
+			teamMiddlegame += pawnShield(team, board.getPieceBitBoard(team, PieceType.KING), ownPawns);
+
+			middlegame += team.isWhite() ? teamMiddlegame : -teamMiddlegame;
+			endgame += team.isWhite() ? teamEndgame : -teamEndgame;
+		}
+		return PieceSquareTables.taper(middlegame, endgame, board.getPhase());
+	}
+
+	/*****************************************************************
+	 * Returns the tiles a Knight, Bishop, Rook or Queen on the tile
+	 * attacks
+	 *****************************************************************/
+	private static long pieceAttacks(final PieceType pieceType, final int tile, final long occupied){
+		switch(pieceType){
+			case KNIGHT:
+				return BitBoards.knightAttacksFrom(tile);
+			case BISHOP:
+				return BitBoards.bishopAttacks(tile, occupied);
+			case ROOK:
+				return BitBoards.rookAttacks(tile, occupied);
+			case QUEEN:
+				return BitBoards.queenAttacks(tile, occupied);
+			default:
+				return BitBoards.EMPTY;
+		}
+	}
+
+	/*******************************************************************
+	 * Scores the Pawns on the three tiles in front of the King, and
+	 * half as much for the three tiles in front of those
+	 * @param team
+	 * @param king
+	 * @param ownPawns
+	 * @return int bonus
+	 *******************************************************************/
+	private static int pawnShield(final Team team, final long king, final long ownPawns){
+		if(king == BitBoards.EMPTY)
+			return 0;
+		final int kingTile = BitBoards.firstTile(king);
+		final int frontRow = kingTile / BoardUtils.NUM_TILES_PER_RANK + team.getDirection();
+		if(frontRow < 0 || frontRow >= BoardUtils.NUM_TILES_PER_RANK)
+			return 0;
+		final long shield = BitBoards.kingAttacksFrom(kingTile) & ROWS[frontRow];
+		final long secondShield = team.isWhite() ? shield >>> BoardUtils.NUM_TILES_PER_RANK : shield << BoardUtils.NUM_TILES_PER_RANK;
+		return BitBoards.count(ownPawns & shield) * PAWN_SHIELD_BONUS +
+			   BitBoards.count(ownPawns & secondShield) * PAWN_SHIELD_BONUS / 2;
+	}
+
+}
@@ -0,0 +1,140 @@
+package chess.engine.perft;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+
+import chess.engine.board.Board;
+import chess.engine.board.BoardUtils;
+import chess.engine.board.Move;
+
+/*****************************************************************************************
+ * Counts perft nodes on several threads. The moves of the first plies are split into
+ * tasks on a ForkJoinPool and the rest of each subtree is counted by Perft. Boards and
+ * Moves are immutable, so the tasks share them without any locking, and the moves a
+ * Player calculates lazily are the same whichever thread gets there first.
+ * @author Aaron Teague
+ * I was helped by the sites www.stackoverflow.com, www.stackexchange.com,
+ * and chessprogramming.wikispaces.com
+ *****************************************************************************************/
+public final class ParallelPerft {
+
+	//Plies split into tasks by default, one ply gives too few tasks for a big pool
+	public static final int DEFAULT_SPLIT_DEPTH = 2;
+
+	private final ForkJoinPool pool;
+	private final int splitDepth;
+
+	/*****************************************************************
+	 * Creates the ParallelPerft object
+	 * @param pool the pool the tasks run on
+	 * @param splitDepth how many plies are split into separate tasks
+	 *****************************************************************/
+	public ParallelPerft(final ForkJoinPool pool, final int splitDepth){
+		if(splitDepth < 1)
+			throw new RuntimeException("The split depth has to be at least 1!");
+		this.pool = pool;
+		this.splitDepth = splitDepth;
+	}
+
+	/********************************************************************
+	 * Creates a ParallelPerft with its own pool of the number of threads
+	 * passed in
+	 * @param threads
+	 ********************************************************************/
+	public ParallelPerft(final int threads){
+		this(new ForkJoinPool(threads), DEFAULT_SPLIT_DEPTH);
+	}
+
+	/*************************************************************
+	 * Counts the leaf nodes of the move tree to the depth passed in
+	 * @param board
+	 * @param depth
+	 * @return long nodes
+	 *************************************************************/
+	public long perft(final Board board, final int depth){
+		return this.pool.invoke(new PerftTask(board, depth, this.splitDepth));
+	}
+
+	/*************************************************************
+	 * Counts the leaf nodes and times the count
+	 * @param board
+	 * @param depth
+	 * @return PerftResult
+	 *************************************************************/
+	public PerftResult timedPerft(final Board board, final int depth){
+		final long start = System.nanoTime();
+		final long nodes = perft(board, depth);
+		return new PerftResult(depth, nodes, System.nanoTime() - start);
+	}
+
+	/*************************************************************
+	 * Counts the leaf nodes under each of the root moves, with the
+	 * root moves counted in parallel.
+	 * @param board
+	 * @param depth
+	 * @return Map<String, Long> the nodes by move, in move order
+	 *************************************************************/
+	public Map<String, Long> divide(final Board board, final int depth){
+		final List<Move> moves = new ArrayList<>(board.currentPlayer().getLegalMoves());
+		final List<PerftTask> tasks = new ArrayList<>(moves.size());
+		for(final Move move : moves){
+			tasks.add(new PerftTask(board.currentPlayer().makeMove(move).getToBoard(), depth - 1, this.splitDepth - 1));
+		}
+		for(final PerftTask task : tasks){
+			this.pool.execute(task);
+		}
+		final Map<String, Long> divide = new LinkedHashMap<>();
+		for(int i = 0; i < moves.size(); i++){
+			divide.put(BoardUtils.getCoordinateNotation(moves.get(i)), tasks.get(i).join());
+		}
+		return divide;
+	}
+
+	/**************************************
+	 * Stops the threads of the pool
+	 **************************************/
+	public void shutdown(){
+		this.pool.shutdown();
+	}
+
+	/***************************************************************************
+	 * Counts the subtree of one board. While there are plies left to split,
+	 * every move becomes its own task, after that the count is done in place.
+	 ***************************************************************************/
+	private static final class PerftTask extends RecursiveTask<Long> {
+
+		private static final long serialVersionUID = 1L;
+
+		private final Board board;
+		private final int depth;
+		private final int splitDepth;
+
+		PerftTask(final Board board, final int depth, final int splitDepth){
+			this.board = board;
+			this.depth = depth;
+			this.splitDepth = splitDepth;
+		}
+
+		@Override
+		protected Long compute(){
+			//Small subtrees aren't worth a task of their own
+			if(this.splitDepth <= 0 || this.depth <= 2)
+				return Perft.perft(this.board, this.depth);
+
+			final List<PerftTask> tasks = new ArrayList<>();
+			for(final Move move : this.board.currentPlayer().getLegalMoves()){
+				tasks.add(new PerftTask(this.board.currentPlayer().makeMove(move).getToBoard(), this.depth - 1, this.splitDepth - 1));
+			}
+			long nodes = 0L;
+			for(final PerftTask task : invokeAll(tasks)){
+				nodes += task.join();
+			}
+			return nodes;
+		}
+	}
+
+}
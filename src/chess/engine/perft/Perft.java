@@ -0,0 +1,143 @@
+package chess.engine.perft;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import chess.engine.board.Board;
+import chess.engine.board.BoardUtils;
+import chess.engine.board.Move;
+import chess.engine.board.MoveGenerator;
+import chess.engine.board.MoveList;
+import chess.engine.board.SearchBoard;
+
+/*****************************************************************************************
+ * Counts the leaf nodes of the move tree of a position to a fixed depth. The counts of
+ * the reference positions are known, so a wrong count means the move generator is wrong,
+ * and divide shows which root move the difference is under. Timing the count also gives
+ * the speed of move generation in nodes per second.
+ * Run it with the name of a PerftPosition, a depth and optionally a number of threads,
+ * e.g. "KIWIPETE 3" or "START 6 32" to count on 32 threads with ParallelPerft.
+ * @author Aaron Teague
+ * I was helped by the sites www.stackoverflow.com, www.stackexchange.com,
+ * and chessprogramming.wikispaces.com
+ *****************************************************************************************/
+public final class Perft {
+
+	/********************************************************************
+	 * The Constructor will throw an exception if an object is created
+	 * because just provides Utilities.
+	 ********************************************************************/
+	private Perft(){
+		throw new RuntimeException("This class can't be instantiated!");
+	}
+
+	/******************************************************************
+	 * Counts the leaf nodes of the move tree to the depth passed in.
+	 * The legal moves never leave the King in check, so the last ply
+	 * is counted without making the moves.
+	 * @param board
+	 * @param depth
+	 * @return long nodes
+	 ******************************************************************/
+	public static long perft(final Board board, final int depth){
+		if(depth <= 0)
+			return 1L;
+
+		if(depth == 1)
+			return board.currentPlayer().getLegalMoves().size();
+
+		long nodes = 0L;
+		for(final Move move : board.currentPlayer().getLegalMoves()){
+			nodes += perft(board.currentPlayer().makeMove(move).getToBoard(), depth - 1);
+		}
+		return nodes;
+	}
+
+	/*********************************************************************
+	 * Counts the leaf nodes on a SearchBoard, generating PackedMoves into
+	 * one MoveList per ply and making and unmaking them in place, so the
+	 * count doesn't allocate anything once the buffers are created.
+	 * @param board
+	 * @param depth
+	 * @return long nodes
+	 *********************************************************************/
+	public static long perft(final SearchBoard board, final int depth){
+		return perft(board, depth, MoveList.createPlyBuffers(Math.max(depth, 1)));
+	}
+
+	private static long perft(final SearchBoard board, final int depth, final MoveList[] buffers){
+		if(depth <= 0)
+			return 1L;
+
+		final MoveList moves = buffers[depth - 1];
+		MoveGenerator.generateLegalMoves(board, moves);
+		if(depth == 1)
+			return moves.size();
+
+		long nodes = 0L;
+		for(int i = 0; i < moves.size(); i++){
+			board.makeMove(moves.get(i));
+			nodes += perft(board, depth - 1, buffers);
+			board.unmakeMove();
+		}
+		return nodes;
+	}
+
+	/*************************************************************
+	 * Counts the leaf nodes under each of the root moves
+	 * @param board
+	 * @param depth
+	 * @return Map<String, Long> the nodes by move, in move order
+	 *************************************************************/
+	public static Map<String, Long> divide(final Board board, final int depth){
+		final Map<String, Long> divide = new LinkedHashMap<>();
+		for(final Move move : board.currentPlayer().getLegalMoves()){
+			divide.put(BoardUtils.getCoordinateNotation(move), perft(board.currentPlayer().makeMove(move).getToBoard(), depth - 1));
+		}
+		return divide;
+	}
+
+	/*************************************************************
+	 * Counts the leaf nodes and times the count
+	 * @param board
+	 * @param depth
+	 * @return PerftResult
+	 *************************************************************/
+	public static PerftResult timedPerft(final Board board, final int depth){
+		final long start = System.nanoTime();
+		final long nodes = perft(board, depth);
+		return new PerftResult(depth, nodes, System.nanoTime() - start);
+	}
+
+	public static void main(final String[] args){
+		final PerftPosition position = args.length > 0 ? PerftPosition.valueOf(args[0].toUpperCase()) : PerftPosition.START;
+		final int depth = args.length > 1 ? Integer.parseInt(args[1]) : position.getMaxDepth();
+		final int threads = args.length > 2 ? Integer.parseInt(args[2]) : 1;
+		final Board board = position.createBoard();
+
+		System.out.println(position + " " + position.getFen());
+		System.out.println(board);
+		long total = 0L;
+		final long start = System.nanoTime();
+		final Map<String, Long> divide;
+		if(threads > 1){
+			final ParallelPerft parallelPerft = new ParallelPerft(threads);
+			divide = parallelPerft.divide(board, depth);
+			parallelPerft.shutdown();
+		} else{
+			divide = divide(board, depth);
+		}
+		for(final Map.Entry<String, Long> entry : divide.entrySet()){
+			System.out.println(entry.getKey() + ": " + entry.getValue());
+			total += entry.getValue();
+		}
+		final PerftResult result = new PerftResult(depth, total, System.nanoTime() - start);
+		System.out.println();
+		System.out.println(result);
+		if(depth <= position.getMaxDepth()){
+			final long expected = position.getNodeCount(depth);
+			System.out.println(expected == total ? "OK" : "Expected " + expected + " nodes");
+		}
+	}
+
+}
@@ -0,0 +1,70 @@
+package chess.engine.perft;
+
+import chess.engine.board.Board;
+import chess.engine.board.FenUtilities;
+
+/************************************************************************************
+ * The reference positions used to check the move generator, with the number of
+ * leaf nodes of the move tree at each depth starting from 1. The counts are the
+ * published ones from chessprogramming.wikispaces.com. Pawns are only promoted to
+ * Queens on this board, so the positions and depths used are those where no
+ * promotion happens and the published counts still hold.
+ * @author Aaron Teague
+ * I was helped by the sites www.stackoverflow.com, www.stackexchange.com,
+ * and chessprogramming.wikispaces.com
+ ************************************************************************************/
+public enum PerftPosition {
+
+	START("rnbqkbnr/pppppppp/8/8/8/8/PPPPPPPP/RNBQKBNR w KQkq -",
+		  20L, 400L, 8902L, 197281L, 4865609L, 119060324L),
+	KIWIPETE("r3k2r/p1ppqpb1/bn2pnp1/3PN3/1p2P3/2N2Q1p/PPPBBPPP/R3K2R w KQkq -",
+			 48L, 2039L, 97862L),
+	ENDGAME("8/2p5/3p4/KP5r/1R3p1k/8/4P1P1/8 w - -",
+			14L, 191L, 2812L, 43238L, 674624L),
+	CASTLING("r3k2r/8/8/8/8/8/8/R3K2R w KQkq -",
+			 26L, 568L, 13744L, 314346L),
+	EN_PASSANT("8/8/8/8/k2Pp2Q/8/8/3K4 b - d3",
+			   6L);
+
+	//The position as the placement, side to move, castling and En Passant fields of a FEN string
+	private final String fen;
+	//The leaf nodes at depth 1, 2, ...
+	private final long[] nodeCounts;
+
+	PerftPosition(final String fen, final long... nodeCounts){
+		this.fen = fen;
+		this.nodeCounts = nodeCounts;
+	}
+
+	public String getFen(){
+		return this.fen;
+	}
+
+	/*****************************************************
+	 * Returns the deepest depth with a known node count
+	 * @return int maxDepth
+	 *****************************************************/
+	public int getMaxDepth(){
+		return this.nodeCounts.length;
+	}
+
+	/*********************************************************
+	 * Returns the number of leaf nodes at the depth passed in
+	 * @param depth
+	 * @return long nodes
+	 *********************************************************/
+	public long getNodeCount(final int depth){
+		if(depth < 1 || depth > this.nodeCounts.length)
+			throw new RuntimeException("No node count for depth " + depth + " of " + this);
+		return this.nodeCounts[depth - 1];
+	}
+
+	/*************************************
+	 * Creates the Board of the position
+	 * @return Board
+	 *************************************/
+	public Board createBoard(){
+		return FenUtilities.createBoard(this.fen);
+	}
+
+}
@@ -0,0 +1,48 @@
+package chess.engine.perft;
+
+import java.util.concurrent.TimeUnit;
+
+/*******************************************************************
+ * Holds the node count of a perft run and how long it took.
+ * @author Aaron Teague
+ * I was helped by the sites www.stackoverflow.com, www.stackexchange.com,
+ * and chessprogramming.wikispaces.com
+ *******************************************************************/
+public class PerftResult {
+
+	private final int depth;
+	private final long nodes;
+	private final long elapsedNanos;
+
+	public PerftResult(final int depth, final long nodes, final long elapsedNanos){
+		this.depth = depth;
+		this.nodes = nodes;
+		this.elapsedNanos = elapsedNanos;
+	}
+
+	public int getDepth(){
+		return this.depth;
+	}
+
+	public long getNodes(){
+		return this.nodes;
+	}
+
+	public long getElapsedMillis(){
+		return TimeUnit.NANOSECONDS.toMillis(this.elapsedNanos);
+	}
+
+	/****************************************************
+	 * Returns the leaf nodes counted every second
+	 * @return long nodesPerSecond
+	 ****************************************************/
+	public long getNodesPerSecond(){
+		return this.elapsedNanos == 0 ? 0L : this.nodes * TimeUnit.SECONDS.toNanos(1) / this.elapsedNanos;
+	}
+
+	@Override
+	public String toString(){
+		return "depth " + this.depth + " nodes " + this.nodes + " time " + getElapsedMillis() + " ms nps " + getNodesPerSecond();
+	}
+
+}
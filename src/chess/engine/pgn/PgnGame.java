@@ -0,0 +1,102 @@
+package chess.engine.pgn;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import chess.engine.board.Board;
+import chess.engine.board.FenUtilities;
+import chess.engine.board.Move;
+import chess.engine.board.SanUtilities;
+import chess.engine.player.MoveTransition;
+
+/*****************************************************************************************
+ * One game read from a PGN file, its tag pairs in the order they were written, the moves
+ * of its main line in Standard Algebraic Notation and its result. The moves are kept as
+ * text so reading a file stays cheap, replay() finds them on the board one by one.
+ * A game starts from the standard board unless its SetUp and FEN tags give a position.
+ * @author Aaron Teague
+ * I was helped by the sites www.stackoverflow.com, www.stackexchange.com,
+ * and chessprogramming.wikispaces.com
+ *****************************************************************************************/
+public final class PgnGame {
+
+	public static final String UNKNOWN_RESULT = "*";
+
+	private final Map<String, String> tags;
+	private final List<String> moves;
+	private final String result;
+
+	PgnGame(final Map<String, String> tags, final List<String> moves, final String result){
+		this.tags = Collections.unmodifiableMap(new LinkedHashMap<>(tags));
+		this.moves = Collections.unmodifiableList(new ArrayList<>(moves));
+		this.result = result;
+	}
+
+	public Map<String, String> getTags(){
+		return this.tags;
+	}
+
+	/*****************************************
+	 * Returns the value of a tag pair
+	 * @param name
+	 * @return String value, or null
+	 *****************************************/
+	public String getTag(final String name){
+		return this.tags.get(name);
+	}
+
+	public List<String> getMoves(){
+		return this.moves;
+	}
+
+	/*************************************************
+	 * Returns the result, 1-0, 0-1, 1/2-1/2 or * when
+	 * the game has none
+	 * @return String result
+	 *************************************************/
+	public String getResult(){
+		return this.result;
+	}
+
+	/************************************************
+	 * Creates the Board the game starts from
+	 * @return Board
+	 ************************************************/
+	public Board createStartBoard(){
+		final String fen = this.tags.get("FEN");
+		if(fen != null && !"0".equals(this.tags.get("SetUp")))
+			return FenUtilities.createBoard(fen);
+		return Board.createStandardBoard();
+	}
+
+	/********************************************************************************
+	 * Plays the moves of the game from its start board
+	 * @return List<MoveTransition> one transition for every move, the last one holds
+	 * the board at the end of the game
+	 ********************************************************************************/
+	public List<MoveTransition> replay(){
+		final List<MoveTransition> transitions = new ArrayList<>(this.moves.size());
+		Board board = createStartBoard();
+		for(int i = 0; i < this.moves.size(); i++){
+			final Move move = SanUtilities.createMove(board, this.moves.get(i));
+			//The board keeps the move number and side to move, a game set up from a FEN needn't start at 1. with White
+			if(move == Move.NULL_MOVE)
+				throw new RuntimeException("Can't play move " + board.getFullMoveNumber() +
+										   (board.currentPlayer().getTeam().isWhite() ? ". " : "... ") +
+										   this.moves.get(i) + " of " + this);
+			final MoveTransition transition = board.currentPlayer().makeMove(move);
+			transitions.add(transition);
+			board = transition.getToBoard();
+		}
+		return transitions;
+	}
+
+	@Override
+	public String toString(){
+		return this.tags.get("White") + " - " + this.tags.get("Black") + " " + this.result;
+	}
+
+}
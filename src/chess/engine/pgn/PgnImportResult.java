@@ -0,0 +1,55 @@
+package chess.engine.pgn;
+
+import java.util.concurrent.TimeUnit;
+
+/*******************************************************************
+ * Holds the counts of one PGN import and how long it took.
+ * @author Aaron Teague
+ * I was helped by the sites www.stackoverflow.com, www.stackexchange.com,
+ * and chessprogramming.wikispaces.com
+ *******************************************************************/
+public class PgnImportResult {
+
+	private final long gamesImported;
+	private final long gamesRejected;
+	private final long movesPlayed;
+	private final long elapsedNanos;
+
+	public PgnImportResult(final long gamesImported, final long gamesRejected, final long movesPlayed, final long elapsedNanos){
+		this.gamesImported = gamesImported;
+		this.gamesRejected = gamesRejected;
+		this.movesPlayed = movesPlayed;
+		this.elapsedNanos = elapsedNanos;
+	}
+
+	public long getGamesImported(){
+		return this.gamesImported;
+	}
+
+	public long getGamesRejected(){
+		return this.gamesRejected;
+	}
+
+	public long getMovesPlayed(){
+		return this.movesPlayed;
+	}
+
+	public long getElapsedMillis(){
+		return TimeUnit.NANOSECONDS.toMillis(this.elapsedNanos);
+	}
+
+	/****************************************************
+	 * Returns the games imported and rejected every second
+	 * @return long gamesPerSecond
+	 ****************************************************/
+	public long getGamesPerSecond(){
+		return this.elapsedNanos == 0 ? 0L : (this.gamesImported + this.gamesRejected) * TimeUnit.SECONDS.toNanos(1) / this.elapsedNanos;
+	}
+
+	@Override
+	public String toString(){
+		return "games " + this.gamesImported + " rejected " + this.gamesRejected + " moves " + this.movesPlayed +
+			   " time " + getElapsedMillis() + " ms games/s " + getGamesPerSecond();
+	}
+
+}
@@ -0,0 +1,214 @@
+package chess.engine.pgn;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+import chess.engine.player.MoveTransition;
+
+/*****************************************************************************************
+ * Imports the games of a PGN file on several threads. The file is read and split into
+ * games by a PgnReader on the calling thread, the games are handed out in batches to a
+ * pool of threads that replay them and give them to a PgnSink. Reading the text is cheap
+ * next to replaying the moves, which creates a Board for every move, so one reader keeps
+ * the pool busy.
+ * Only a fixed number of batches may wait for or be replayed at once. When they are all
+ * taken the reader waits for a batch to finish before it reads on, so a file of any size
+ * is imported with only those games in memory however fast it can be read.
+ * The counters can be read from any thread while an import runs, they count the import
+ * running or the last one. One importer runs one import at a time.
+ * @author Aaron Teague
+ * I was helped by the sites www.stackoverflow.com, www.stackexchange.com,
+ * and chessprogramming.wikispaces.com
+ *****************************************************************************************/
+public final class PgnImporter {
+
+	//Games handed to a thread at once, enough that handing them out costs little
+	public static final int DEFAULT_BATCH_SIZE = 32;
+
+	private final ExecutorService pool;
+	private final int batchSize;
+	private final int maxPendingBatches;
+
+	private final AtomicLong gamesRead;
+	private final AtomicLong gamesImported;
+	private final AtomicLong gamesRejected;
+	private final AtomicLong movesPlayed;
+
+	/*********************************************************************
+	 * Creates the PgnImporter object
+	 * @param pool the pool the games are replayed on
+	 * @param batchSize how many games are handed out at once
+	 * @param maxPendingBatches how many batches may wait or run at once
+	 *********************************************************************/
+	public PgnImporter(final ExecutorService pool, final int batchSize, final int maxPendingBatches){
+		if(batchSize < 1 || maxPendingBatches < 1)
+			throw new RuntimeException("The batch size and pending batches have to be at least 1!");
+		this.pool = pool;
+		this.batchSize = batchSize;
+		this.maxPendingBatches = maxPendingBatches;
+		this.gamesRead = new AtomicLong();
+		this.gamesImported = new AtomicLong();
+		this.gamesRejected = new AtomicLong();
+		this.movesPlayed = new AtomicLong();
+	}
+
+	/********************************************************************
+	 * Creates a PgnImporter with its own pool of the number of threads
+	 * passed in, every thread may have a batch waiting behind the one
+	 * it replays
+	 * @param threads
+	 ********************************************************************/
+	public PgnImporter(final int threads){
+		this(Executors.newFixedThreadPool(threads), DEFAULT_BATCH_SIZE, threads * 2);
+	}
+
+	/*************************************************************
+	 * Imports every game of the PGN file
+	 * @param path
+	 * @param sink
+	 * @return PgnImportResult
+	 * @throws IOException
+	 * @throws InterruptedException
+	 *************************************************************/
+	public PgnImportResult importGames(final Path path, final PgnSink sink) throws IOException, InterruptedException {
+		try(final PgnReader reader = new PgnReader(path)){
+			return importGames(reader, sink);
+		}
+	}
+
+	/***************************************************************************
+	 * Imports every game left in the reader. Returns once every game has been
+	 * given to the sink. If the sink throws, no more games are read and the
+	 * first exception it threw is thrown here.
+	 * @param reader
+	 * @param sink
+	 * @return PgnImportResult
+	 * @throws IOException
+	 * @throws InterruptedException
+	 ***************************************************************************/
+	public PgnImportResult importGames(final PgnReader reader, final PgnSink sink) throws IOException, InterruptedException {
+		this.gamesRead.set(0L);
+		this.gamesImported.set(0L);
+		this.gamesRejected.set(0L);
+		this.movesPlayed.set(0L);
+		final long start = System.nanoTime();
+		final Semaphore pendingBatches = new Semaphore(this.maxPendingBatches);
+		final AtomicReference<RuntimeException> sinkError = new AtomicReference<>();
+		try {
+			List<PgnGame> batch = new ArrayList<>(this.batchSize);
+			for(PgnGame game = reader.readGame(); game != null && sinkError.get() == null; game = reader.readGame()){
+				this.gamesRead.incrementAndGet();
+				batch.add(game);
+				if(batch.size() == this.batchSize){
+					submit(new ReplayTask(batch, sink, pendingBatches, sinkError), pendingBatches);
+					batch = new ArrayList<>(this.batchSize);
+				}
+			}
+			if(!batch.isEmpty() && sinkError.get() == null)
+				submit(new ReplayTask(batch, sink, pendingBatches, sinkError), pendingBatches);
+		} finally {
+			//Every batch gives its permit back when it is done, having them all means the import is over
+			pendingBatches.acquireUninterruptibly(this.maxPendingBatches);
+			pendingBatches.release(this.maxPendingBatches);
+		}
+		if(sinkError.get() != null)
+			throw sinkError.get();
+		return new PgnImportResult(this.gamesImported.get(), this.gamesRejected.get(), this.movesPlayed.get(), System.nanoTime() - start);
+	}
+
+	/*****************************************************************
+	 * Waits for a free batch and hands the task to the pool
+	 *****************************************************************/
+	private void submit(final ReplayTask task, final Semaphore pendingBatches) throws InterruptedException {
+		pendingBatches.acquire();
+		try {
+			this.pool.execute(task);
+		} catch(final RejectedExecutionException e){
+			pendingBatches.release();
+			throw e;
+		}
+	}
+
+	/***************************************************
+	 * Returns the games read from the file so far
+	 * @return long gamesRead
+	 ***************************************************/
+	public long getGamesRead(){
+		return this.gamesRead.get();
+	}
+
+	public long getGamesImported(){
+		return this.gamesImported.get();
+	}
+
+	public long getGamesRejected(){
+		return this.gamesRejected.get();
+	}
+
+	public long getMovesPlayed(){
+		return this.movesPlayed.get();
+	}
+
+	/**************************************
+	 * Stops the threads of the pool
+	 **************************************/
+	public void shutdown(){
+		this.pool.shutdown();
+	}
+
+	/***************************************************************************
+	 * Replays a batch of games and gives each to the sink. A game that can't
+	 * be replayed is rejected, an exception of the sink stops the import.
+	 ***************************************************************************/
+	private final class ReplayTask implements Runnable {
+
+		private final List<PgnGame> games;
+		private final PgnSink sink;
+		private final Semaphore pendingBatches;
+		private final AtomicReference<RuntimeException> sinkError;
+
+		ReplayTask(final List<PgnGame> games,
+				   final PgnSink sink,
+				   final Semaphore pendingBatches,
+				   final AtomicReference<RuntimeException> sinkError){
+			this.games = games;
+			this.sink = sink;
+			this.pendingBatches = pendingBatches;
+			this.sinkError = sinkError;
+		}
+
+		@Override
+		public void run(){
+			try {
+				for(final PgnGame game : this.games){
+					if(this.sinkError.get() != null)
+						return;
+					final List<MoveTransition> transitions;
+					try {
+						transitions = game.replay();
+					} catch(final RuntimeException e){
+						gamesRejected.incrementAndGet();
+						this.sink.reject(game, e);
+						continue;
+					}
+					movesPlayed.addAndGet(transitions.size());
+					gamesImported.incrementAndGet();
+					this.sink.accept(game, transitions);
+				}
+			} catch(final RuntimeException e){
+				this.sinkError.compareAndSet(null, e);
+			} finally {
+				this.pendingBatches.release();
+			}
+		}
+	}
+
+}
@@ -0,0 +1,343 @@
+package chess.engine.pgn;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.charset.CharsetDecoder;
+import java.nio.charset.CodingErrorAction;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/*****************************************************************************************
+ * Reads the games of a PGN file one at a time. The file is read through a channel into
+ * one buffer of a fixed size that is refilled as it is used up, so a file of any size can
+ * be read while only the game being read is held in memory.
+ * The tag pairs and the moves of the main line are kept. Comments, variations, numeric
+ * annotation glyphs, move numbers and lines escaped with a % in their first column are
+ * skipped. A game ends at its result, or where the tags of the next game start when it has
+ * no result. The tags of a game end at its first movetext or the blank line after them, so
+ * a game without moves or a result doesn't take the tags of the next one.
+ * The moves are kept as written, PgnGame.replay() finds them on the board.
+ * @author Aaron Teague
+ * I was helped by the sites www.stackoverflow.com, www.stackexchange.com,
+ * and chessprogramming.wikispaces.com
+ *****************************************************************************************/
+public final class PgnReader implements Closeable {
+
+	private static final int BUFFER_SIZE = 64 * 1024;
+	//No move or tag is near this long, a longer one means the file isn't PGN
+	private static final int MAX_TOKEN_LENGTH = 4096;
+	private static final int END_OF_INPUT = -1;
+	private static final int NO_CHAR = -2;
+
+	private final ReadableByteChannel channel;
+	private final ByteBuffer byteBuffer;
+	private final CharBuffer charBuffer;
+	private final CharsetDecoder decoder;
+	private boolean isEndOfInput;
+	private boolean isFlushed;
+	//A character read one too far, read again first
+	private int pushedBack;
+	private boolean isPushedBackLineStart;
+	//If the character read last is the first of its line, the start of the input counts as one
+	private boolean isLineStart;
+	private int previousChar = '\n';
+	//If the whitespace read last held a blank line
+	private boolean isBlankLineSkipped;
+	private long gamesRead;
+
+	/*****************************************
+	 * Opens the PGN file at the path
+	 * @param path
+	 * @throws IOException
+	 *****************************************/
+	public PgnReader(final Path path) throws IOException {
+		this(FileChannel.open(path, StandardOpenOption.READ));
+	}
+
+	/*****************************************
+	 * Reads PGN from the channel, closing the
+	 * reader closes the channel
+	 * @param channel
+	 *****************************************/
+	public PgnReader(final ReadableByteChannel channel){
+		this.channel = channel;
+		this.byteBuffer = ByteBuffer.allocate(BUFFER_SIZE);
+		this.charBuffer = CharBuffer.allocate(BUFFER_SIZE);
+		this.charBuffer.flip();
+		//Tags of old files aren't always UTF-8, their odd characters are replaced instead of failing the game
+		this.decoder = StandardCharsets.UTF_8.newDecoder()
+						.onMalformedInput(CodingErrorAction.REPLACE)
+						.onUnmappableCharacter(CodingErrorAction.REPLACE);
+		this.pushedBack = NO_CHAR;
+	}
+
+	/*****************************************************************
+	 * Reads the next game
+	 * @return PgnGame the game, or null at the end of the file
+	 * @throws IOException
+	 *****************************************************************/
+	public PgnGame readGame() throws IOException {
+		final Map<String, String> tags = new LinkedHashMap<>();
+		final List<String> moves = new ArrayList<>();
+		String result = null;
+		//If the tags of this game are done, the next [ starts another game
+		boolean isTagSectionOver = false;
+		while(result == null){
+			final int c = nextNonWhitespace();
+			if(c == END_OF_INPUT)
+				break;
+			final boolean isEscape = c == '%' && this.isLineStart;
+			//Movetext or a blank line ends the tags
+			if(!tags.isEmpty() && (c != '[' && !isEscape || this.isBlankLineSkipped))
+				isTagSectionOver = true;
+			switch(c){
+				case '[':
+					//The tags of the next game, this one ended without a result
+					if(!moves.isEmpty() || isTagSectionOver){
+						pushBack(c);
+						result = PgnGame.UNKNOWN_RESULT;
+					} else {
+						readTag(tags);
+					}
+					break;
+				case '{':
+					skipComment();
+					break;
+				case ';':
+					skipLine();
+					break;
+				case '(':
+					skipVariation();
+					break;
+				case ')':
+				case '}':
+				case ']':
+					break;
+				case '$':
+					readToken(c);
+					break;
+				case '%':
+					//Only escapes a line from its first column, elsewhere it is read like any symbol
+					if(isEscape){
+						skipLine();
+						break;
+					}
+					//Falls through
+				default:
+					final String token = readToken(c);
+					if(isResult(token)){
+						result = token;
+					} else {
+						final String move = stripMoveNumber(token);
+						if(!move.isEmpty())
+							moves.add(move);
+					}
+					break;
+			}
+		}
+		if(tags.isEmpty() && moves.isEmpty() && result == null)
+			return null;
+		this.gamesRead++;
+		return new PgnGame(tags, moves, result == null ? PgnGame.UNKNOWN_RESULT : result);
+	}
+
+	/***************************************************
+	 * Returns the number of games read so far
+	 * @return long gamesRead
+	 ***************************************************/
+	public long getGamesRead(){
+		return this.gamesRead;
+	}
+
+	@Override
+	public void close() throws IOException {
+		this.channel.close();
+	}
+
+	/*******************************************************************
+	 * Reads a tag pair after its [, the name and the quoted value with
+	 * backslash escapes, up to the closing ]
+	 *******************************************************************/
+	private void readTag(final Map<String, String> tags) throws IOException {
+		final StringBuilder name = new StringBuilder();
+		int c = nextNonWhitespace();
+		while(c != END_OF_INPUT && !isWhitespace(c) && c != '"' && c != ']'){
+			append(name, c);
+			c = nextChar();
+		}
+		while(isWhitespace(c))
+			c = nextChar();
+		final StringBuilder value = new StringBuilder();
+		if(c == '"'){
+			c = nextChar();
+			while(c != END_OF_INPUT && c != '"'){
+				if(c == '\\')
+					c = nextChar();
+				if(c != END_OF_INPUT)
+					append(value, c);
+				c = nextChar();
+			}
+			c = nextChar();
+		}
+		while(c != END_OF_INPUT && c != ']')
+			c = nextChar();
+		if(name.length() > 0)
+			tags.put(name.toString(), value.toString());
+	}
+
+	/**********************************************************
+	 * Reads a symbol from its first character up to the next
+	 * space or character that starts something else
+	 **********************************************************/
+	private String readToken(final int first) throws IOException {
+		final StringBuilder token = new StringBuilder();
+		append(token, first);
+		int c = nextChar();
+		while(c != END_OF_INPUT && !isWhitespace(c) && !isDelimiter(c)){
+			append(token, c);
+			c = nextChar();
+		}
+		if(c != END_OF_INPUT && !isWhitespace(c))
+			pushBack(c);
+		return token.toString();
+	}
+
+	private void skipComment() throws IOException {
+		int c = nextChar();
+		while(c != END_OF_INPUT && c != '}')
+			c = nextChar();
+	}
+
+	private void skipLine() throws IOException {
+		int c = nextChar();
+		while(c != END_OF_INPUT && c != '\n')
+			c = nextChar();
+	}
+
+	/*****************************************************************
+	 * Skips a variation after its (, variations can hold variations
+	 * and comments, which may have parentheses of their own
+	 *****************************************************************/
+	private void skipVariation() throws IOException {
+		int depth = 1;
+		while(depth > 0){
+			final int c = nextChar();
+			if(c == END_OF_INPUT)
+				return;
+			if(c == '(')
+				depth++;
+			else if(c == ')')
+				depth--;
+			else if(c == '{')
+				skipComment();
+			else if(c == ';')
+				skipLine();
+		}
+	}
+
+	/*****************************************************************
+	 * Takes a move number like 12. or 12... off the front of a token,
+	 * a token that is only a move number is left empty
+	 *****************************************************************/
+	private static String stripMoveNumber(final String token){
+		int i = 0;
+		while(i < token.length() && Character.isDigit(token.charAt(i)))
+			i++;
+		if(i == token.length())
+			return "";
+		//Castles may be written with zeros, 0-0, which aren't move numbers
+		if(token.charAt(i) != '.')
+			return token;
+		while(i < token.length() && token.charAt(i) == '.')
+			i++;
+		return token.substring(i);
+	}
+
+	private static boolean isResult(final String token){
+		return token.equals("1-0") || token.equals("0-1") || token.equals("1/2-1/2") || token.equals(PgnGame.UNKNOWN_RESULT);
+	}
+
+	private static boolean isDelimiter(final int c){
+		return c == '{' || c == '}' || c == '(' || c == ')' || c == '[' || c == ']' || c == ';' || c == '$';
+	}
+
+	private static boolean isWhitespace(final int c){
+		//A byte order mark at the start of the file counts as a space
+		return c == ' ' || c == '\n' || c == '\r' || c == '\t' || c == '\f' || c == '\uFEFF';
+	}
+
+	private static void append(final StringBuilder builder, final int c){
+		if(builder.length() == MAX_TOKEN_LENGTH)
+			throw new RuntimeException("PGN token longer than " + MAX_TOKEN_LENGTH + " characters: " +
+									   builder.substring(0, 32) + "...");
+		builder.append((char) c);
+	}
+
+	/*****************************************************************
+	 * Skips whitespace, noting if it held a blank line
+	 *****************************************************************/
+	private int nextNonWhitespace() throws IOException {
+		int newLines = 0;
+		int c = nextChar();
+		while(isWhitespace(c)){
+			if(c == '\n')
+				newLines++;
+			c = nextChar();
+		}
+		this.isBlankLineSkipped = newLines > 1;
+		return c;
+	}
+
+	private void pushBack(final int c){
+		this.pushedBack = c;
+		this.isPushedBackLineStart = this.isLineStart;
+	}
+
+	private int nextChar() throws IOException {
+		if(this.pushedBack != NO_CHAR){
+			final int c = this.pushedBack;
+			this.pushedBack = NO_CHAR;
+			this.isLineStart = this.isPushedBackLineStart;
+			return c;
+		}
+		if(!this.charBuffer.hasRemaining() && !fill())
+			return END_OF_INPUT;
+		final char c = this.charBuffer.get();
+		this.isLineStart = this.previousChar == '\n';
+		this.previousChar = c;
+		return c;
+	}
+
+	/*********************************************************************
+	 * Refills the characters from the channel. The character buffer is
+	 * as large as the byte buffer and is empty when bytes are decoded
+	 * into it, so the decoded bytes always fit.
+	 * @return true if there are characters to read
+	 *********************************************************************/
+	private boolean fill() throws IOException {
+		this.charBuffer.clear();
+		while(this.charBuffer.position() == 0 && !this.isFlushed){
+			if(!this.isEndOfInput && this.channel.read(this.byteBuffer) < 0)
+				this.isEndOfInput = true;
+			this.byteBuffer.flip();
+			this.decoder.decode(this.byteBuffer, this.charBuffer, this.isEndOfInput);
+			this.byteBuffer.compact();
+			if(this.isEndOfInput){
+				this.decoder.flush(this.charBuffer);
+				this.isFlushed = true;
+			}
+		}
+		this.charBuffer.flip();
+		return this.charBuffer.hasRemaining();
+	}
+
+}
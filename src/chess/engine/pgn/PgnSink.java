@@ -0,0 +1,33 @@
+package chess.engine.pgn;
+
+import java.util.List;
+
+import chess.engine.player.MoveTransition;
+
+/*****************************************************************************************
+ * Receives the games a PgnImporter has replayed. The importer replays games on several
+ * threads and calls the sink from all of them, so a sink has to be safe to call from
+ * more than one thread at once. Games reach the sink in the order they are finished,
+ * not the order they are in the file.
+ * @author Aaron Teague
+ * I was helped by the sites www.stackoverflow.com, www.stackexchange.com,
+ * and chessprogramming.wikispaces.com
+ *****************************************************************************************/
+public interface PgnSink {
+
+	/*****************************************************************
+	 * Takes a game that was replayed to its end
+	 * @param game
+	 * @param transitions one for every move, the last one holds the
+	 * board at the end of the game
+	 *****************************************************************/
+	void accept(PgnGame game, List<MoveTransition> transitions);
+
+	/*****************************************************************
+	 * Takes a game with a move that couldn't be played
+	 * @param game
+	 * @param error
+	 *****************************************************************/
+	void reject(PgnGame game, RuntimeException error);
+
+}
@@ -6,10 +6,9 @@ import java.util.List;
 
 import com.google.common.collect.ImmutableList;
 
+import chess.engine.board.BitBoards;
 import chess.engine.board.Board;
-import chess.engine.board.BoardUtils;
 import chess.engine.board.Move;
-import chess.engine.board.Tile;
 /****************************************************************************
  * Defines the behavior and values of a King Piece.
  * Most importantly this class will define how the King
@@ -20,8 +19,6 @@ import chess.engine.board.Tile;
  *****************************************************************************/
 public class King extends Piece{
 
-	//Array which holds the all the possible coordinate offsets that a King can move to. 
-	private final static int[] CANDIDATE_MOVE_COORDINATES = {-9, -8, -7, -1, 1, 7, 8, 9};
 	private final boolean isCastled;
     private final boolean kingSideCastleCapable;
     private final boolean queenSideCastleCapable;
@@ -55,8 +52,8 @@ public class King extends Piece{
 
 	/******************************************************************
 	 * Calculates all the legal moves that a King can perform by
-	 * looping through CANDIDATE_MOVE_COORDINATES and returns a List of
-	 * legal moves.
+	 * looping through the destinations the BitBoards keep for its
+	 * tile and returns a List of legal moves.
 	 * @param Board board
 	 * @return List<Move> legalMoves
 	 *****************************************************************/
@@ -66,39 +63,21 @@ public class King extends Piece{
 		final List<Move> legalMoves = new ArrayList<>();
 		
 		
-		for(final int currentCandidateOffset : CANDIDATE_MOVE_COORDINATES){
+		//The edges of the board are already left out of the destinations
+		for(final int candidateDestinationCoordinate : BitBoards.kingDestinations(this.piecePosition)){
+			//If the tile is not occupied it is legal move and can be add to legalMoves.
+			if(!board.isTileOccupied(candidateDestinationCoordinate))
+				//Add the move to legalMoves
+				legalMoves.add(new Move.MajorMove(board, this, candidateDestinationCoordinate));
 			
-			final int candidateDestinationCoordinate = this.piecePosition + currentCandidateOffset;
-			
-			//Checks if it's an edge exception on the First and Eighth columns
-			if(isFirstColumnExclusion(this.piecePosition, currentCandidateOffset) ||  
-			   isEighthColumnExclusion(this.piecePosition, currentCandidateOffset))
-						continue;
-			
-			
-			if(BoardUtils.isValidTileCoordinate(candidateDestinationCoordinate)) {
-				final Tile candidateDestinationTile = board.getTile(candidateDestinationCoordinate);
-				
-				//If the tile is not occupied it is legal move and can be add to legalMoves.
-				if(!candidateDestinationTile.isTileOccupied())
-					//Add the move to legalMoves
-					legalMoves.add(new Move.MajorMove(board, this, candidateDestinationCoordinate));
-				
-				else{
-					//Retrieve the piece at that coordinate.
-					final Piece pieceAtDestination = candidateDestinationTile.getPiece();
-					//Retrieve what team the piece belongs to.
-					final Team pieceTeam = pieceAtDestination.getPieceTeam();
-					
-					//Check if the piece belongs to the same team as the King.
-					if(this.pieceTeam != pieceTeam)
-						//The pieces are not on the same Team so we add an Attack Move to legal moves.
-						legalMoves.add(new Move.MajorAttackMove(board, this, candidateDestinationCoordinate, pieceAtDestination));	
-					
-				}
+			else{
+				//Check the bitboards to see if the piece belongs to the same team as the King.
+				if(!board.isTileOccupiedBy(candidateDestinationCoordinate, this.pieceTeam))
+					//The pieces are not on the same Team so we retrieve the piece and add an Attack Move to legal moves.
+					legalMoves.add(new Move.MajorAttackMove(board, this, candidateDestinationCoordinate,
+							board.getTile(candidateDestinationCoordinate).getPiece()));	
 				
 			}
-			
 		}
 		
 		return ImmutableList.copyOf(legalMoves);
@@ -113,17 +92,6 @@ public class King extends Piece{
 		return PieceType.KING.toString();
 	}
 	
-	/***************************************************************************************************
-	 * Checks if the move is invalid edge case in the first column
-	 * @param currentPosition
-	 * @param candidateOffset
-	 * @return boolean true or false
-	 ***************************************************************************************************/
-	private static boolean isFirstColumnExclusion(final int currentPosition, final int candidateOffset){
-		
-		return BoardUtils.FILE_A[currentPosition] && ((candidateOffset == -9) || (candidateOffset == -1) ||
-				(candidateOffset == 7));
-	}
 	
 	 public boolean isCastled() {
 	        return this.isCastled;
@@ -137,18 +105,6 @@ public class King extends Piece{
 	        return this.queenSideCastleCapable;
 	}
 	
-	/***************************************************************************************************
-	 * Checks if the move is invalid edge case in the second column
-	 * @param currentPosition
-	 * @param candidateOffset
-	 * @return boolean true or false
-	 ***************************************************************************************************/
-	private static boolean isEighthColumnExclusion(final int currentPosition, final int candidateOffset){
-		return BoardUtils.FILE_H[currentPosition] && ((candidateOffset == -7) || (candidateOffset == 1) || 
-				(candidateOffset == 9));
-		
-	}
-
 	/*****************************************************************
 	 * Creates and returns a new King with an updated coordinate to
 	 * reflect the move
@@ -6,10 +6,9 @@ import java.util.List;
 
 import com.google.common.collect.ImmutableList;
 
+import chess.engine.board.BitBoards;
 import chess.engine.board.Board;
-import chess.engine.board.BoardUtils;
 import chess.engine.board.Move;
-import chess.engine.board.Tile;
 
 
 /**********************************************************
@@ -22,9 +21,6 @@ import chess.engine.board.Tile;
  **********************************************************/
 public class Knight extends Piece {
 
-	//Array which holds the all the possible coordinate offsets that a Knight can move to. 
-	private final static int[] CANDIDATE_MOVE_COORDINATES = {-17, -15, -10, -6, 6, 10, 15, 17};
-	
 	/****************************************************************
 	 * Convenience Constructor for when it's the Bishop's first move.
 	 * first move is automatically set to true.
@@ -41,8 +37,8 @@ public class Knight extends Piece {
 	
 	/******************************************************************
 	 * Calculates all the legal moves that a Knight can perform by
-	 * looping through CANDIDATE_MOVE_COORDINATES and returns a List of
-	 * legal moves.
+	 * looping through the destinations the BitBoards keep for its
+	 * tile and returns a List of legal moves.
 	 * @param Board board
 	 * @return List<Move> legalMoves
 	 *****************************************************************/
@@ -52,41 +48,20 @@ public class Knight extends Piece {
 		//Array list that will hold all of the legal moves a Knight can perform.
 		final List<Move> legalMoves = new ArrayList<>();
 		
-		//Loop through all possible candidate offsets
-		for(final int currentCandidateOffset : CANDIDATE_MOVE_COORDINATES){
-			
-			//Apply the offset to the piece's position
-			final int candidateDestinationCoordinate = this.piecePosition + currentCandidateOffset;
+		//Loop through the tiles a Knight can jump to from its tile, the edges of the board are already left out
+		for(final int candidateDestinationCoordinate : BitBoards.knightDestinations(this.piecePosition)){
+			//If the tile is not occupied it is legal move and can be add to legalMoves.
+			if(!board.isTileOccupied(candidateDestinationCoordinate))
+				//Add the move to legalMoves
+				legalMoves.add(new Move.MajorMove(board, this, candidateDestinationCoordinate));
 			
-			if(BoardUtils.isValidTileCoordinate(candidateDestinationCoordinate)){
-				
-				//Checks to see if the Offset is an edge case exclusion
-				if(isFirstColumnExclusion(this.piecePosition, currentCandidateOffset) || 
-				   isSecondColumnExclusion(this.piecePosition, currentCandidateOffset) ||
-				   isSeventhColumnExclusion(this.piecePosition, currentCandidateOffset) ||
-				   isEighthColumnExclusion(this.piecePosition, currentCandidateOffset))
-					continue;
-				
-				
-				final Tile candidateDestinationTile = board.getTile(candidateDestinationCoordinate);
-				
-				//If the tile is not occupied it is legal move and can be add to legalMoves.
-				if(!candidateDestinationTile.isTileOccupied())
-					//Add the move to legalMoves
-					legalMoves.add(new Move.MajorMove(board, this, candidateDestinationCoordinate));
-				
-				else{
-					//Retrieve the piece at that coordinate.
-					final Piece pieceAtDestination = candidateDestinationTile.getPiece();
-					//Retrieve what team the piece belongs to.
-					final Team pieceTeam = pieceAtDestination.getPieceTeam();
-					
-					//Check if the piece belongs to the same team as the Knight.
-					if(this.pieceTeam != pieceTeam)
-						//The pieces are not on the same Team so we add an Attack Move to legal moves.
-						legalMoves.add(new Move.MajorAttackMove(board, this, candidateDestinationCoordinate, pieceAtDestination));					
-				}				
-			}	
+			else{
+				//Check the bitboards to see if the piece belongs to the same team as the Knight.
+				if(!board.isTileOccupiedBy(candidateDestinationCoordinate, this.pieceTeam))
+					//The pieces are not on the same Team so we retrieve the piece and add an Attack Move to legal moves.
+					legalMoves.add(new Move.MajorAttackMove(board, this, candidateDestinationCoordinate,
+							board.getTile(candidateDestinationCoordinate).getPiece()));					
+			}				
 		}
 		
 		return ImmutableList.copyOf(legalMoves);
@@ -100,52 +75,9 @@ public class Knight extends Piece {
 		return PieceType.KNIGHT.toString();
 	}
 	
-	/***************************************************************************************************
-	 * Checks if the move is invalid edge case in the first column
-	 * @param currentPosition
-	 * @param candidateOffset
-	 * @return boolean true or false
-	 ***************************************************************************************************/
-	private static boolean isFirstColumnExclusion(final int currentPosition, final int candidateOffset){
-		
-		return BoardUtils.FILE_A[currentPosition] && ((candidateOffset == -17) || (candidateOffset == -10) ||
-				(candidateOffset == 6) || (candidateOffset == 15));
-	}
 	
-	/***************************************************************************************************
-	 * Checks if the move is invalid edge case in the second column
-	 * @param currentPosition
-	 * @param candidateOffset
-	 * @return boolean true or false
-	 ***************************************************************************************************/
-	private static boolean isSecondColumnExclusion(final int currentPosition, final int candidateOffset){
-		return BoardUtils.FILE_B[currentPosition] && ((candidateOffset == -10) || (candidateOffset == 6));
-		
-	}
 	
-	/***************************************************************************************************
-	 * Checks if the move is invalid edge case in the seventh column
-	 * @param currentPosition
-	 * @param candidateOffset
-	 * @return boolean true or false
-	 ***************************************************************************************************/
-	private static boolean isSeventhColumnExclusion(final int currentPosition, final int candidateOffset){
-		return BoardUtils.FILE_G[currentPosition] && ((candidateOffset == -6) || (candidateOffset == 10));
-		
-	}
 	
-	/***************************************************************************************************
-	 * Checks if the move is invalid edge case in the eighth column
-	 * @param currentPosition
-	 * @param candidateOffset
-	 * @return boolean true or false
-	 ***************************************************************************************************/
-	private static boolean isEighthColumnExclusion(final int currentPosition, final int candidateOffset){
-		return BoardUtils.FILE_H[currentPosition] && ((candidateOffset == -15) || (candidateOffset == -6) || 
-				(candidateOffset == 10) || (candidateOffset == 17));
-		
-	}
-
 	/*****************************************************************
 	 * Creates and returns a new Knight with an updated coordinate to
 	 * reflect the move
@@ -153,7 +85,7 @@ public class Knight extends Piece {
 	 ******************************************************************/
 	@Override
 	public Knight movePiece(Move move) {
-		return new Knight(move.getMovedPiece().getPieceTeam(), move.getDestinationCoordinate());
+		return new Knight(move.getMovedPiece().getPieceTeam(), move.getDestinationCoordinate(), false);
 	}
 
 }
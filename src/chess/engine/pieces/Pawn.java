@@ -6,6 +6,7 @@ import java.util.List;
 
 import com.google.common.collect.ImmutableList;
 
+import chess.engine.board.BitBoards;
 import chess.engine.board.Board;
 import chess.engine.board.BoardUtils;
 import chess.engine.board.Move;
@@ -22,8 +23,8 @@ import chess.engine.board.Move;
  ******************************************************************************/
 public class Pawn extends Piece{
 
-	//Array which holds the all the possible coordinate offsets that a Pawn can move to. 
-	private final static int[] CANDIDATE_MOVE_COORDINATES = {7, 8, 9, 16};
+	//Array which holds the coordinate offsets that a Pawn can move forward to, the captures come from the BitBoards
+	private final static int[] CANDIDATE_MOVE_COORDINATES = {8, 16};
 	
 	
 	/****************************************************************
@@ -43,7 +44,7 @@ public class Pawn extends Piece{
 	/********************************************************************
 	 * Calculates by the legal moves of a Pawn by looping through all
 	 * of the pawns possible CANDIDATE_MOVE_COORDINATES and adding them
-	 * to the Pawn's current position.
+	 * to the Pawn's current position, then through the tiles it attacks.
 	 * @return List legalMoves
 	 ********************************************************************/
 	@Override
@@ -63,7 +64,7 @@ public class Pawn extends Piece{
 				continue;
 			}
 			//Checks if this tile is occupied
-			if(currentCandidateOffset == 8 && !board.getTile(candidateDestinationCoordinate).isTileOccupied()){
+			if(currentCandidateOffset == 8 && !board.isTileOccupied(candidateDestinationCoordinate)){
 				if(this.pieceTeam.isPawnPromotionSquare(candidateDestinationCoordinate))
 					legalMoves.add(new Move.PawnPromotion(new Move.PawnMove(board, this, candidateDestinationCoordinate)));
 				else
@@ -77,62 +78,35 @@ public class Pawn extends Piece{
 				final int behindCandidateDestinationCoordinate = this.piecePosition + (this.pieceTeam.getDirection() * 8);
 				
 				//Checks if the tile behind the candidate destination is NOT occupied & if the Tile at the Candidate Destination is NOT occupied
-				if(!board.getTile(behindCandidateDestinationCoordinate).isTileOccupied() && 
-			       !board.getTile(candidateDestinationCoordinate).isTileOccupied())
+				if(!board.isTileOccupied(behindCandidateDestinationCoordinate) && 
+			       !board.isTileOccupied(candidateDestinationCoordinate))
 						legalMoves.add(new Move.PawnJump(board, this, candidateDestinationCoordinate));
-					
-				
+			}
+		}
+		
+		//Loop through the tiles the Pawn attacks, the edges of the board are already left out
+		for(final int candidateDestinationCoordinate : BitBoards.pawnAttackDestinations(this.pieceTeam, this.piecePosition)){
 			
-			//Checks for edge cases in the 7 direction	
-			} else if(currentCandidateOffset == 7 &&
-					!((BoardUtils.FILE_H[this.piecePosition] && this.getPieceTeam().isWhite() ||
-					(BoardUtils.FILE_A[this.piecePosition] && this.getPieceTeam().isBlack())))){
-				
-				if(board.getTile(candidateDestinationCoordinate).isTileOccupied()){
+			if(board.isTileOccupied(candidateDestinationCoordinate)){
+				//If the pieces are not on the same team an Attack move is added to legal moves.
+				if(!board.isTileOccupiedBy(candidateDestinationCoordinate, this.pieceTeam)){
 					final Piece pieceOnCandidate = board.getTile(candidateDestinationCoordinate).getPiece();
-					//If the pieces are not on the same team an Attack move is added to legal moves.
-					if(this.getPieceTeam() != pieceOnCandidate.getPieceTeam())
-						if(this.pieceTeam.isPawnPromotionSquare(candidateDestinationCoordinate))
-							legalMoves.add(new Move.PawnPromotion(new Move.PawnAttackMove(board, this, candidateDestinationCoordinate, pieceOnCandidate)));
-						else 
-							legalMoves.add(new Move.PawnAttackMove(board, this, candidateDestinationCoordinate, pieceOnCandidate));
-						
-				//This basically checks if En Passant Pawn is next to Player's pawn	
-				} else if(board.getEnPassantPawn() != null){
-					if(board.getEnPassantPawn().getPiecePosition() == (this.piecePosition + (this.pieceTeam.getOppositeDirection()))){
-						final Piece pieceOnCandidate = board.getEnPassantPawn();
-						if(this.pieceTeam != pieceOnCandidate.getPieceTeam()){
-							legalMoves.add(new Move.PawnEnPassantAttackMove(board, this, candidateDestinationCoordinate, pieceOnCandidate));
-						}
-					}
-					
+					if(this.pieceTeam.isPawnPromotionSquare(candidateDestinationCoordinate))
+						legalMoves.add(new Move.PawnPromotion(new Move.PawnAttackMove(board, this, candidateDestinationCoordinate, pieceOnCandidate)));
+					else 
+						legalMoves.add(new Move.PawnAttackMove(board, this, candidateDestinationCoordinate, pieceOnCandidate));
 				}
-				
-			//Checks for edge cases in the 9 direction	
-			} else if(currentCandidateOffset == 9 && 
-					!((BoardUtils.FILE_A[this.piecePosition] && this.getPieceTeam().isWhite() ||
-					(BoardUtils.FILE_H[this.piecePosition] && this.getPieceTeam().isBlack())))){
-				
-				if(board.getTile(candidateDestinationCoordinate).isTileOccupied()){
-					final Piece pieceOnCandidate = board.getTile(candidateDestinationCoordinate).getPiece();
-					//If the pieces are not on the same team an Attack move is added to legal moves.
-					if(this.getPieceTeam() != pieceOnCandidate.getPieceTeam())
-						if(this.pieceTeam.isPawnPromotionSquare(candidateDestinationCoordinate))
-							legalMoves.add(new Move.PawnPromotion(new Move.PawnAttackMove(board, this, candidateDestinationCoordinate, pieceOnCandidate)));
-						else
-							legalMoves.add(new Move.PawnAttackMove(board, this, candidateDestinationCoordinate, pieceOnCandidate));
-				} else if(board.getEnPassantPawn() != null){
-					if(board.getEnPassantPawn().getPiecePosition() == (this.piecePosition - (this.pieceTeam.getOppositeDirection()))){
-						final Piece pieceOnCandidate = board.getEnPassantPawn();
-						if(this.pieceTeam != pieceOnCandidate.getPieceTeam()){
-							legalMoves.add(new Move.PawnEnPassantAttackMove(board, this, candidateDestinationCoordinate, pieceOnCandidate));
-						}
-					}
 					
+			//This basically checks if En Passant Pawn is right behind the tile, next to Player's pawn
+			} else if(board.getEnPassantPawn() != null){
+				if(board.getEnPassantPawn().getPiecePosition() == (candidateDestinationCoordinate + (this.pieceTeam.getOppositeDirection() * 8))){
+					final Piece pieceOnCandidate = board.getEnPassantPawn();
+					if(this.pieceTeam != pieceOnCandidate.getPieceTeam()){
+						legalMoves.add(new Move.PawnEnPassantAttackMove(board, this, candidateDestinationCoordinate, pieceOnCandidate));
+					}
 				}
 				
 			}
-							
 		}
 		
 		return ImmutableList.copyOf(legalMoves);
@@ -153,7 +127,7 @@ public class Pawn extends Piece{
 	 ******************************************************************/
 	@Override
 	public Pawn movePiece(Move move) {
-		return new Pawn(move.getMovedPiece().getPieceTeam(), move.getDestinationCoordinate());
+		return new Pawn(move.getMovedPiece().getPieceTeam(), move.getDestinationCoordinate(), false);
 	}
 	
 	/***********************************************************************************************************
@@ -1,7 +1,12 @@
 package chess.engine.pieces;
 
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.List;
 
+import com.google.common.collect.ImmutableList;
+
+import chess.engine.board.BitBoards;
 import chess.engine.board.Board;
 import chess.engine.board.Move;
 
@@ -122,6 +127,28 @@ public abstract class Piece {
 	 * @return Piece
 	 ****************************************************/
 	public abstract Piece movePiece(Move move);
+
+	/***********************************************************************
+	 * Turns the attacks of a Rook, Bishop or Queen into its moves, a
+	 * MajorMove to every empty tile and a MajorAttackMove to every tile
+	 * of the other Team. The tiles of its own Team are taken out first.
+	 * @param board
+	 * @param attacks the tiles the piece attacks from the BitBoards
+	 * @return Collection<Move> legalMoves
+	 ***********************************************************************/
+	protected Collection<Move> calculateSlidingMoves(final Board board, final long attacks){
+		final List<Move> legalMoves = new ArrayList<>();
+		final long enemies = board.getTeamBitBoard(this.pieceTeam.opposite());
+		for(long destinations = attacks & ~board.getTeamBitBoard(this.pieceTeam); destinations != 0;
+			destinations = BitBoards.clearFirstTile(destinations)){
+			final int destination = BitBoards.firstTile(destinations);
+			if(BitBoards.isSet(enemies, destination))
+				legalMoves.add(new Move.MajorAttackMove(board, this, destination, board.getTile(destination).getPiece()));
+			else
+				legalMoves.add(new Move.MajorMove(board, this, destination));
+		}
+		return ImmutableList.copyOf(legalMoves);
+	}
 	
 //<--------------------------------------------------------------------------------------------------------------------------------------------------------->	
 	public enum PieceType{
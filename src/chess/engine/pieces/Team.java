@@ -44,6 +44,11 @@ public enum Team {
 		public boolean isPawnPromotionSquare(int position) {
 			return BoardUtils.EIGHTH_RANK[position];
 		}
+
+		@Override
+		public Team opposite() {
+			return BLACK;
+		}
 	},
 	BLACK {
 		@Override
@@ -83,6 +88,11 @@ public enum Team {
 		public boolean isPawnPromotionSquare(int position) {
 			return BoardUtils.FIRST_RANK[position];
 		}
+
+		@Override
+		public Team opposite() {
+			return WHITE;
+		}
 	};	
 	
 	public abstract int getDirection();
@@ -91,5 +101,6 @@ public enum Team {
 	public abstract boolean isBlack();
 	public abstract Player choosePlayer(WhitePlayer whitePlayer, BlackPlayer blackPlayer);
 	public abstract boolean isPawnPromotionSquare(int position);
+	public abstract Team opposite();
 
 }
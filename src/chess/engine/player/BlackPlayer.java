@@ -6,7 +6,9 @@ import java.util.List;
 
 import com.google.common.collect.ImmutableList;
 
+import chess.engine.board.BitBoards;
 import chess.engine.board.Board;
+import chess.engine.board.BoardUtils;
 import chess.engine.board.Move;
 import chess.engine.board.Tile;
 import chess.engine.pieces.Piece;
@@ -25,14 +27,10 @@ public class BlackPlayer extends Player{
 	/******************************************
 	 * Creates the BlackPlayer object
 	 * @param board
-	 * @param whiteStandardLegalMoves
-	 * @param blackStandardLegalMoves
 	 ******************************************/
-	public BlackPlayer(final Board board,
-					   final Collection<Move> whiteStandardLegalMoves,
-					   final Collection<Move> blackStandardLegalMoves) {
+	public BlackPlayer(final Board board) {
 		
-		super(board, blackStandardLegalMoves, whiteStandardLegalMoves);
+		super(board);
 		
 	}
 	
@@ -69,22 +67,19 @@ public class BlackPlayer extends Player{
 	 * the moves as a list
 	 * @return List<Move> kingCastles
 	 * @param Collection<Move> playerLegals
-	 * @param Collection<Move> opponentsLegals
 	 **************************************************/
 	@Override
-	protected Collection<Move> calculateKingCastles(final Collection<Move> playerLegals, final Collection<Move> opponentsLegals) {
+	protected Collection<Move> calculateKingCastles(final Collection<Move> playerLegals) {
 		
 		final List<Move> kingCastles = new ArrayList<>();
 		
-		if(this.playerKing.isFirstMove() && !this.isInCheck()){
+		if(this.board.isCastlingAllowed(BoardUtils.BLACK_KING_SIDE | BoardUtils.BLACK_QUEEN_SIDE) && !this.isInCheck()){
 			if(!this.board.getTile(5).isTileOccupied() && !this.board.getTile(6).isTileOccupied()){
 				final Tile rookTile = this.board.getTile(7);
 				
-				if(rookTile.isTileOccupied() && rookTile.getPiece().isFirstMove()){
+				if(this.board.isCastlingAllowed(BoardUtils.BLACK_KING_SIDE)){
 					
-					if(Player.calculateAttacksOnTile(5, opponentsLegals).isEmpty() &&
-					   Player.calculateAttacksOnTile(6, opponentsLegals).isEmpty() &&
-					   rookTile.getPiece().getPieceType().isRook()){
+					if(!areTilesAttacked(BitBoards.tileMask(5) | BitBoards.tileMask(6))){
 						kingCastles.add(new Move.KingSideCastleMove(this.board,
 															   this.playerKing,
 															   6,
@@ -101,10 +96,8 @@ public class BlackPlayer extends Player{
 				
 				final Tile rookTile = this.board.getTile(0);
 				
-				if(rookTile.isTileOccupied() && rookTile.getPiece().isFirstMove() &&
-					Player.calculateAttacksOnTile(2, opponentsLegals).isEmpty() &&
-					Player.calculateAttacksOnTile(3, opponentsLegals).isEmpty() &&
-					rookTile.getPiece().getPieceType().isRook())
+				if(this.board.isCastlingAllowed(BoardUtils.BLACK_QUEEN_SIDE) &&
+					!areTilesAttacked(BitBoards.tileMask(2) | BitBoards.tileMask(3)))
 					kingCastles.add(new Move.QueenSideCastleMove(this.board,
 							   									 this.playerKing,
 							   									 2,
@@ -7,10 +7,12 @@ import java.util.List;
 import com.google.common.collect.ImmutableList;
 import com.google.common.collect.Iterables;
 
+import chess.engine.board.BitBoards;
 import chess.engine.board.Board;
 import chess.engine.board.Move;
 import chess.engine.pieces.King;
 import chess.engine.pieces.Piece;
+import chess.engine.pieces.Piece.PieceType;
 import chess.engine.pieces.Team;
 
 /*************************************************************
@@ -27,28 +29,32 @@ public abstract class Player {
 	protected final Board board;
 	//Represents the player's king
 	protected final King playerKing;
+	
+	/****************************************************************************
+	 * The moves and check status are only calculated the first time they are
+	 * asked for, most boards are only displayed or thrown away after checking
+	 * a single move. If two threads ask at the same time both calculate the
+	 * same immutable result, so no locking is needed.
+	 ****************************************************************************/
+	//Represents the moves of the player's pieces without the castle moves, some may leave the King in check
+	private volatile Collection<Move> pseudoLegalMoves;
 	//Represents the player's legal moves
-	protected final Collection<Move> legalMoves;
-	private final boolean isInCheck;
+	private volatile Collection<Move> legalMoves;
+	private volatile Boolean isInCheck;
 	
 	
 	/*********************************************************
 	 * Creates the Player object
 	 * @param board
-	 * @param legalMoves
-	 * @param opponetMoves
 	 *********************************************************/
-	Player(final Board board, final Collection<Move> legalMoves, final Collection<Move> opponetMoves){
+	Player(final Board board){
 		
 		this.board = board;
 		this.playerKing = establishKing();
-		//Calculates the King Castle Moves and concatenates them with the player's legal moves and the opponet's moves
-		this.legalMoves = ImmutableList.copyOf(Iterables.concat(legalMoves, calculateKingCastles(legalMoves, opponetMoves)));
-		this.isInCheck = !Player.calculateAttacksOnTile(this.playerKing.getPiecePosition(), opponetMoves).isEmpty();
 		
 	}
 	
-	protected abstract Collection<Move> calculateKingCastles(Collection<Move> playerLegals, Collection<Move> opponentsLegals);
+	protected abstract Collection<Move> calculateKingCastles(Collection<Move> playerLegals);
 	
 	/***********************************
 	 * Returns the player's King piece
@@ -70,31 +76,160 @@ public abstract class Player {
         return this.playerKing.isQueenSideCastleCapable();
 }
 	
-	/******************************************
-	 * Returns the player's legal moves
+	/**************************************************************
+	 * Returns the player's legal moves, none of them leave the
+	 * player's King in check.
 	 * @return Collection<Move> legalMoves
-	 ******************************************/
+	 **************************************************************/
 	public Collection<Move> getLegalMoves(){
-		return this.legalMoves;
+		Collection<Move> moves = this.legalMoves;
+		if(moves == null){
+			//Calculates the King Castle Moves and concatenates them with the player's legal moves
+			final Collection<Move> standardMoves = calculateLegalMoves(getPseudoLegalMoves());
+			moves = ImmutableList.copyOf(Iterables.concat(standardMoves, calculateKingCastles(standardMoves)));
+			this.legalMoves = moves;
+		}
+		return moves;
+	}
+	
+	/*****************************************************************
+	 * Returns the moves of the player's pieces, leaving out the castle
+	 * moves. Some of the moves may leave the King in check.
+	 * @return Collection<Move> pseudoLegalMoves
+	 *****************************************************************/
+	private Collection<Move> getPseudoLegalMoves(){
+		Collection<Move> moves = this.pseudoLegalMoves;
+		if(moves == null){
+			moves = calculatePseudoLegalMoves();
+			this.pseudoLegalMoves = moves;
+		}
+		return moves;
+	}
+	
+	/****************************************************************************
+	 * Calculates all the moves of the player's pieces.
+	 * @return List<move> pseudoLegalMoves
+	 ****************************************************************************/
+	private Collection<Move> calculatePseudoLegalMoves() {
+		
+		//A list that holds all of the legal in moves for the player
+		final List<Move> legalMoves = new ArrayList<>(35);
+		
+		//Loops through all the pieces of the player
+		for(final Piece piece : getActivePieces()){
+			//Calculates the legal moves and adds them to the list
+			legalMoves.addAll(piece.calculateLegalMoves(this.board));
+		}
+		
+		return ImmutableList.copyOf(legalMoves);
 	}
 
+	/******************************************************************************
+	 * Keeps only the moves that don't leave the King in check. Instead of making
+	 * every move on a new board, the pieces checking the King and the pieces
+	 * pinned to the King are worked out once:
+	 * - with two pieces giving check only the King can move
+	 * - with one piece giving check the other pieces have to take it or block it,
+	 *   the check mask holds the tiles that do that
+	 * - a pinned piece can only move along the line through it and the King
+	 * - the King can't move to an attacked tile, checked with the King taken off
+	 *   the board so it can't hide behind itself on the attacker's ray
+	 * En Passant takes two pieces off the same row, so it also checks that no
+	 * Rook, Bishop or Queen sees the King once both pawns are gone.
+	 * @param pseudoLegalMoves
+	 * @return Collection<Move> legalMoves
+	 ******************************************************************************/
+	private Collection<Move> calculateLegalMoves(final Collection<Move> pseudoLegalMoves){
+		final int kingTile = this.playerKing.getPiecePosition();
+		final Team opponentTeam = getOpponent().getTeam();
+		final long checkers = this.board.getAttackersOf(kingTile, opponentTeam);
+		final long checkMask = calculateCheckMask(kingTile, checkers);
+		final long pinned = calculatePinnedPieces(kingTile, opponentTeam);
+		final long occupiedWithoutKing = this.board.getOccupiedBitBoard() & ~BitBoards.tileMask(kingTile);
+		
+		final List<Move> legalMoves = new ArrayList<>(pseudoLegalMoves.size());
+		for(final Move move : pseudoLegalMoves){
+			final int from = move.getCurrentCoordinate();
+			final int to = move.getDestinationCoordinate();
+			final boolean isLegal;
+			if(from == kingTile){
+				isLegal = !this.board.isTileAttacked(to, opponentTeam, occupiedWithoutKing);
+			} else if(BitBoards.isSet(pinned, from) && !BitBoards.isSet(BitBoards.line(kingTile, from), to)){
+				isLegal = false;
+			} else if(move instanceof Move.PawnEnPassantAttackMove){
+				isLegal = isEnPassantLegal(move, kingTile, opponentTeam, checkMask);
+			} else{
+				isLegal = BitBoards.isSet(checkMask, to);
+			}
+			
+			if(isLegal)
+				legalMoves.add(move);
+		}
+		
+		return ImmutableList.copyOf(legalMoves);
+	}
+	
+	/***********************************************************************
+	 * Returns the tiles a piece other than the King can move to while the
+	 * King is in check: the checking piece and the tiles between it and
+	 * the King. Every tile when there is no check and none with two.
+	 * @param kingTile
+	 * @param checkers
+	 * @return long checkMask
+	 ***********************************************************************/
+	private static long calculateCheckMask(final int kingTile, final long checkers){
+		if(checkers == BitBoards.EMPTY)
+			return ~BitBoards.EMPTY;
+		if(BitBoards.count(checkers) > 1)
+			return BitBoards.EMPTY;
+		return checkers | BitBoards.between(kingTile, BitBoards.firstTile(checkers));
+	}
+	
+	/***************************************************************************
+	 * Finds the player's pieces that are the only piece between the King and
+	 * an opponent's Rook, Bishop or Queen on the same line.
+	 * @param kingTile
+	 * @param opponentTeam
+	 * @return long pinned
+	 ***************************************************************************/
+	private long calculatePinnedPieces(final int kingTile, final Team opponentTeam){
+		final long opponentPieces = this.board.getTeamBitBoard(opponentTeam);
+		final long queens = this.board.getPieceBitBoard(opponentTeam, PieceType.QUEEN);
+		final long rooks = this.board.getPieceBitBoard(opponentTeam, PieceType.ROOK) | queens;
+		final long bishops = this.board.getPieceBitBoard(opponentTeam, PieceType.BISHOP) | queens;
+		
+		//The rays from the King only stop at opponent's pieces, so they reach past the player's own pieces
+		long pinners = (BitBoards.rookAttacks(kingTile, opponentPieces) & rooks) |
+					   (BitBoards.bishopAttacks(kingTile, opponentPieces) & bishops);
+		long pinned = BitBoards.EMPTY;
+		for(; pinners != BitBoards.EMPTY; pinners = BitBoards.clearFirstTile(pinners)){
+			final long blockers = BitBoards.between(kingTile, BitBoards.firstTile(pinners)) & this.board.getOccupiedBitBoard();
+			if(BitBoards.count(blockers) == 1)
+				pinned |= blockers;
+		}
+		return pinned;
+	}
+	
+	private boolean isEnPassantLegal(final Move move, final int kingTile, final Team opponentTeam, final long checkMask){
+		final int capturedTile = move.getAttackedPiece().getPiecePosition();
+		if((checkMask & (BitBoards.tileMask(move.getDestinationCoordinate()) | BitBoards.tileMask(capturedTile))) == BitBoards.EMPTY)
+			return false;
+		
+		final long occupied = (this.board.getOccupiedBitBoard() | BitBoards.tileMask(move.getDestinationCoordinate())) &
+							  ~(BitBoards.tileMask(move.getCurrentCoordinate()) | BitBoards.tileMask(capturedTile));
+		final long queens = this.board.getPieceBitBoard(opponentTeam, PieceType.QUEEN);
+		return (BitBoards.rookAttacks(kingTile, occupied) & (this.board.getPieceBitBoard(opponentTeam, PieceType.ROOK) | queens)) == BitBoards.EMPTY &&
+			   (BitBoards.bishopAttacks(kingTile, occupied) & (this.board.getPieceBitBoard(opponentTeam, PieceType.BISHOP) | queens)) == BitBoards.EMPTY;
+	}
+	
 	/************************************************************************
-	 * Calculates and then returns the moves that attack the piece position
-	 * that is passed in.
-	 * @param piecePostion
-	 * @param moves
-	 * @return List<Move> attackMoves
+	 * Checks the opponent's attack map for any of the tiles on the bitboard
+	 * passed in, used to see if the King would pass through check.
+	 * @param tiles
+	 * @return true or false
 	 ************************************************************************/
-	protected static Collection<Move> calculateAttacksOnTile(int piecePostion,
-			Collection<Move> moves) {
-
-		final List<Move> attackMoves = new ArrayList<>();
-		for(final Move move: moves){
-			if(piecePostion == move.getDestinationCoordinate())
-				attackMoves.add(move);
-		}
-	    
-	    return ImmutableList.copyOf(attackMoves);
+	protected boolean areTilesAttacked(final long tiles){
+		return (this.board.getAttackMap(getOpponent().getTeam()) & tiles) != 0;
 	}
 
 	/****************************************
@@ -123,7 +258,7 @@ public abstract class Player {
 	 * @return true or false
 	 *********************************************************/
 	public boolean isMoveLegal(final Move move){
-		return this.legalMoves.contains(move);
+		return getLegalMoves().contains(move);
 	}
 	
 	/***************************************
@@ -132,7 +267,12 @@ public abstract class Player {
 	 * @return true or false
 	 ***************************************/
 	public boolean isInCheck(){
-		return this.isInCheck;
+		Boolean inCheck = this.isInCheck;
+		if(inCheck == null){
+			inCheck = this.board.isTileAttacked(this.playerKing.getPiecePosition(), getOpponent().getTeam());
+			this.isInCheck = inCheck;
+		}
+		return inCheck;
 	}
 	
 	/********************************************
@@ -140,7 +280,7 @@ public abstract class Player {
 	 * @return true or false
 	 ********************************************/
 	public boolean isInCheckMate(){
-		return this.isInCheck && !hasEscapeMoves();
+		return isInCheck() && !hasEscapeMoves();
 	}
 	
 	/***********************************************
@@ -148,25 +288,17 @@ public abstract class Player {
 	 * @return true or false
 	 ***********************************************/
 	public boolean isInStaleMate(){
-		return !this.isInCheck && !hasEscapeMoves();
+		return !isInCheck() && !hasEscapeMoves();
 	}
 	
 	
 	/*************************************************************************************
-	 * Determines if the player can escape by theoretically making the move on a pretend
-	 * board. Should the move be successful we then know that an escape is possible.
-	 * in check
+	 * Determines if the player has a move. The legal moves never leave the King in check
+	 * so the player can escape if there is any legal move at all.
 	 * @return true or false
 	 *************************************************************************************/
 	protected boolean hasEscapeMoves(){
-		for(final Move move: this.legalMoves){
-			final MoveTransition transition = makeMove(move);
-			
-			if(transition.getMoveStatus().isDone())
-				return true;
-		}
-			
-		return false;
+		return !getLegalMoves().isEmpty();
 	}
 	
 	/********************************************************
@@ -184,16 +316,11 @@ public abstract class Player {
 		* transition.
 		**********************************************************/
 		if (!isMoveLegal(move)) {
-            return new MoveTransition(this.board, this.board, move, MoveStatus.ILLEGAL_MOVE);
-        }
-        final Board transitionedBoard = move.execute();
-        final Collection<Move> kingAttacks = Player.calculateAttacksOnTile(
-                transitionedBoard.currentPlayer().getOpponent().getPlayerKing().getPiecePosition(),
-                transitionedBoard.currentPlayer().getLegalMoves());
-        if (!kingAttacks.isEmpty()) {
-            return new MoveTransition(this.board, this.board, move, MoveStatus.LEAVES_PLAYER_IN_CHECK);
+            //A move of the player's pieces that isn't legal must leave the King in check
+            return new MoveTransition(this.board, this.board, move, getPseudoLegalMoves().contains(move) ?
+                    MoveStatus.LEAVES_PLAYER_IN_CHECK : MoveStatus.ILLEGAL_MOVE);
         }
-        return new MoveTransition(this.board, transitionedBoard, move, MoveStatus.DONE);
+        return new MoveTransition(this.board, move.execute(), move, MoveStatus.DONE);
 }
 	
 	/****************************************************
@@ -6,7 +6,9 @@ import java.util.List;
 
 import com.google.common.collect.ImmutableList;
 
+import chess.engine.board.BitBoards;
 import chess.engine.board.Board;
+import chess.engine.board.BoardUtils;
 import chess.engine.board.Move;
 import chess.engine.board.Tile;
 import chess.engine.pieces.Piece;
@@ -25,14 +27,10 @@ public class WhitePlayer extends Player{
 	/*************************************
 	 * Creates the WhitePlayer object
 	 * @param board
-	 * @param whiteStandardLegalMoves
-	 * @param blackStandardLegalMoves
 	 *************************************/
-	public WhitePlayer(final Board board,
-					   final Collection<Move> whiteStandardLegalMoves,
-					   final Collection<Move> blackStandardLegalMoves) {
+	public WhitePlayer(final Board board) {
 		
-		super(board, whiteStandardLegalMoves, blackStandardLegalMoves);
+		super(board);
 	}
 	
 	@Override
@@ -73,22 +71,19 @@ public class WhitePlayer extends Player{
 	 * the moves as a list
 	 * @return List<Move> kingCastles
 	 * @param Collection<Move> playerLegals
-	 * @param Collection<Move> opponentsLegals
 	 **************************************************/
 	@Override
-	protected Collection<Move> calculateKingCastles(final Collection<Move> playerLegals, final Collection<Move> opponentsLegals) {
+	protected Collection<Move> calculateKingCastles(final Collection<Move> playerLegals) {
 		
 		final List<Move> kingCastles = new ArrayList<>();
 		
-		if(this.playerKing.isFirstMove() && !this.isInCheck()){
+		if(this.board.isCastlingAllowed(BoardUtils.WHITE_KING_SIDE | BoardUtils.WHITE_QUEEN_SIDE) && !this.isInCheck()){
 			if(!this.board.getTile(61).isTileOccupied() && !this.board.getTile(62).isTileOccupied()){
 				final Tile rookTile = this.board.getTile(63);
 				
-				if(rookTile.isTileOccupied() && rookTile.getPiece().isFirstMove()){
+				if(this.board.isCastlingAllowed(BoardUtils.WHITE_KING_SIDE)){
 					
-					if(Player.calculateAttacksOnTile(61, opponentsLegals).isEmpty() &&
-					   Player.calculateAttacksOnTile(62, opponentsLegals).isEmpty() &&
-					   rookTile.getPiece().getPieceType().isRook()){
+					if(!areTilesAttacked(BitBoards.tileMask(61) | BitBoards.tileMask(62))){
 						kingCastles.add(new Move.KingSideCastleMove(this.board, 
 																	this.playerKing, 
 																	62,
@@ -105,10 +100,8 @@ public class WhitePlayer extends Player{
 				
 				final Tile rookTile = this.board.getTile(56);
 				
-				if(rookTile.isTileOccupied() && rookTile.getPiece().isFirstMove() &&
-				   Player.calculateAttacksOnTile(58, opponentsLegals).isEmpty() &&
-				   Player.calculateAttacksOnTile(59, opponentsLegals).isEmpty() &&
-				   rookTile.getPiece().getPieceType().isRook()){
+				if(this.board.isCastlingAllowed(BoardUtils.WHITE_QUEEN_SIDE) &&
+				   !areTilesAttacked(BitBoards.tileMask(58) | BitBoards.tileMask(59))){
 					kingCastles.add(new Move.QueenSideCastleMove(this.board, 
 							this.playerKing, 
 							58,
@@ -0,0 +1,454 @@
+package chess.engine.search;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+
+import chess.engine.board.Board;
+import chess.engine.board.Move;
+import chess.engine.board.MoveGenerator;
+import chess.engine.board.MoveList;
+import chess.engine.board.PackedMove;
+import chess.engine.board.SearchBoard;
+import chess.engine.evaluation.BoardEvaluator;
+import chess.engine.evaluation.StandardBoardEvaluator;
+import chess.engine.pieces.Piece.PieceType;
+
+/*****************************************************************************************
+ * Chooses a move for the player to move with a negamax alpha-beta search. Negamax scores
+ * every position for the player to move, so the score of a move is minus the score of
+ * the position it leads to, and alpha-beta stops looking at a position as soon as one
+ * move shows the opponent would never allow it.
+ * The search is run with iterative deepening, first to depth 1, then 2 and so on until
+ * a limit is reached. Every iteration starts with the principal variation of the last
+ * one, which makes the cut offs come early, and if the time runs out the result of the
+ * last finished iteration is used. What the search finds out about each position is kept
+ * in a TranspositionTable, which can be shared with other searches.
+ * When the depth runs out the search goes on with a quiescence search of the captures
+ * and promotions only, so a position isn't scored in the middle of an exchange. The moves
+ * are handed out by a MovePicker, which tries the likely best ones first. The positions
+ * are scored by a BoardEvaluator, the StandardBoardEvaluator unless another is passed in.
+ * The tree is walked on one SearchBoard, the moves are made and unmade in place and are
+ * generated as PackedMoves into a MoveList and MovePicker kept for every ply, so once a
+ * search has started the nodes don't allocate anything. Only the results handed out at
+ * the end of an iteration are turned back into Boards and Moves.
+ * @author Aaron Teague
+ * I was helped by the sites www.stackoverflow.com, www.stackexchange.com,
+ * and chessprogramming.wikispaces.com
+ *****************************************************************************************/
+public class AlphaBetaSearch {
+
+	//The score of being checkmated at the root, mates further away score a little less
+	public static final int MATE_SCORE = 100000;
+	//Larger than any score the search can return
+	public static final int INFINITY = MATE_SCORE + 1;
+	//The deepest ply a search can reach
+	static final int MAX_PLY = 128;
+	//The time and the stop flag are checked every this many nodes
+	private static final int CHECK_INTERVAL_MASK = 1023;
+	//A capture that can't raise the score to alpha with this much to spare isn't searched
+	private static final int DELTA_MARGIN = 200;
+	//The most a promotion adds, a Queen for a Pawn
+	private static final int PROMOTION_GAIN = PieceType.QUEEN.getPieceValue() - PieceType.PAWN.getPieceValue();
+
+	private final List<SearchListener> listeners = new CopyOnWriteArrayList<>();
+	private final TranspositionTable transpositionTable;
+	private final BoardEvaluator evaluator;
+	//The killer moves and history of the MovePicker, kept between searches
+	private final SearchHistory history = new SearchHistory();
+	//The legal moves and the picker of every ply, reused by every position searched at that ply
+	private final MoveList[] moveLists = MoveList.createPlyBuffers(MAX_PLY);
+	private final MovePicker[] movePickers = new MovePicker[MAX_PLY];
+	//The board the tree is walked on, set up from the root board by every search
+	private SearchBoard board;
+
+	//Set by stop() from another thread
+	private volatile boolean stopRequested;
+	//Set once any limit is reached, the search then unwinds without a result
+	private boolean aborted;
+	private long nodes;
+	private long quiescenceNodes;
+	private long startTime;
+	private long timeLimitNanos;
+	private long nodeLimit;
+
+	//The triangular table the principal variation is built in as PackedMoves, row ply holds the line from that ply
+	private final int[][] pvTable = new int[MAX_PLY][MAX_PLY];
+	private final int[] pvLength = new int[MAX_PLY];
+	//The principal variation of the last finished iteration, tried first in the next one
+	private final int[] previousPrincipalVariation = new int[MAX_PLY];
+	private int previousPrincipalVariationLength;
+
+	/*****************************************************************
+	 * Creates a search that stores the positions it searched in the
+	 * table passed in and scores the leaves with the evaluator
+	 * @param transpositionTable
+	 * @param evaluator
+	 *****************************************************************/
+	public AlphaBetaSearch(final TranspositionTable transpositionTable, final BoardEvaluator evaluator){
+		this.transpositionTable = transpositionTable;
+		this.evaluator = evaluator;
+		for(int ply = 0; ply < MAX_PLY; ply++){
+			this.movePickers[ply] = new MovePicker(this.history);
+		}
+	}
+
+	public AlphaBetaSearch(final TranspositionTable transpositionTable){
+		this(transpositionTable, StandardBoardEvaluator.get());
+	}
+
+	public AlphaBetaSearch(){
+		this(new TranspositionTable());
+	}
+
+	public TranspositionTable getTranspositionTable(){
+		return this.transpositionTable;
+	}
+
+	/**********************************************************
+	 * Adds a listener told about every finished iteration
+	 * @param listener
+	 **********************************************************/
+	public void addListener(final SearchListener listener){
+		this.listeners.add(listener);
+	}
+
+	public void removeListener(final SearchListener listener){
+		this.listeners.remove(listener);
+	}
+
+	/*******************************************************************
+	 * Forgets the killer moves and history of the searches before, for
+	 * a new game
+	 *******************************************************************/
+	public void clearHistory(){
+		this.history.clear();
+	}
+
+	/*******************************************************************
+	 * Asks a running search to stop, it returns the result of the last
+	 * finished iteration. Can be called from any thread.
+	 *******************************************************************/
+	public void stop(){
+		this.stopRequested = true;
+	}
+
+	/***********************************************
+	 * Returns the nodes searched by the last search
+	 * @return long nodes
+	 ***********************************************/
+	public long getNodes(){
+		return this.nodes + this.quiescenceNodes;
+	}
+
+	/*******************************************************************
+	 * Returns the nodes of the last search that were searched by the
+	 * quiescence search
+	 * @return long quiescenceNodes
+	 *******************************************************************/
+	public long getQuiescenceNodes(){
+		return this.quiescenceNodes;
+	}
+
+	/*****************************************************************
+	 * Checks if the score is a mate found by the search rather than
+	 * an evaluation.
+	 * @param score
+	 * @return true or false
+	 *****************************************************************/
+	public static boolean isMateScore(final int score){
+		return Math.abs(score) >= MATE_SCORE - MAX_PLY;
+	}
+
+	/*****************************************************************************
+	 * Searches the board until one of the limits is reached or stop() is called
+	 * and returns the result of the deepest finished iteration. The first
+	 * iteration always finishes so there is always a move to play, unless the
+	 * player has no legal moves.
+	 * @param board
+	 * @param limits
+	 * @return SearchResult
+	 *****************************************************************************/
+	public SearchResult search(final Board board, final SearchLimits limits){
+		return search(board, limits, true);
+	}
+
+	/*****************************************************************************
+	 * Searches the board like search(board, limits). When several searches share
+	 * a table only one of them may start a new search of the table, the others
+	 * pass false so the entries they all store have the same age.
+	 * @param board
+	 * @param limits
+	 * @param isNewTableSearch if the table's age is advanced for this search
+	 * @return SearchResult
+	 *****************************************************************************/
+	public SearchResult search(final Board board, final SearchLimits limits, final boolean isNewTableSearch){
+		this.stopRequested = false;
+		this.aborted = false;
+		this.nodes = 0;
+		this.quiescenceNodes = 0;
+		this.startTime = System.nanoTime();
+		this.timeLimitNanos = limits.isTimeLimited() ? TimeUnit.MILLISECONDS.toNanos(limits.getMoveTimeMillis()) : Long.MAX_VALUE;
+		this.nodeLimit = limits.getNodes();
+		this.previousPrincipalVariationLength = 0;
+		if(isNewTableSearch)
+			this.transpositionTable.newSearch();
+		this.history.age();
+		this.history.clearKillers();
+		this.board = new SearchBoard(board);
+
+		SearchResult result = null;
+		for(int depth = 1; depth <= limits.getDepth(); depth++){
+			final int score = alphaBeta(depth, -INFINITY, INFINITY, 0, true, depth > 1);
+			if(this.aborted)
+				break;
+
+			this.previousPrincipalVariationLength = this.pvLength[0];
+			System.arraycopy(this.pvTable[0], 0, this.previousPrincipalVariation, 0, this.previousPrincipalVariationLength);
+			result = new SearchResult(depth, score, decodePrincipalVariation(board), this.nodes, this.quiescenceNodes,
+					System.nanoTime() - this.startTime);
+			for(final SearchListener listener : this.listeners){
+				listener.iterationFinished(result);
+			}
+
+			//A found mate won't get any better and there is no time to finish another iteration
+			if(isMateScore(score) || this.previousPrincipalVariationLength == 0 ||
+			   System.nanoTime() - this.startTime > this.timeLimitNanos / 2)
+				break;
+		}
+		return result;
+	}
+
+	/***********************************************************************************
+	 * Searches the position of the SearchBoard to the depth left and returns its score
+	 * for the player to move. Scores at or below alpha mean the opponent has something
+	 * better earlier on, scores at or above beta mean this position would never be
+	 * allowed. The board is back in the same position when it returns.
+	 * @param depth the plies left to search
+	 * @param alpha the score the player to move is already sure of
+	 * @param beta the score the opponent is already sure of
+	 * @param ply how far the board is from the root
+	 * @param isPrincipalVariation if the board is on the last iteration's variation
+	 * @param canAbort if a limit may stop the search here, false for the first iteration
+	 * @return int score
+	 ***********************************************************************************/
+	private int alphaBeta(final int depth,
+						  int alpha,
+						  final int beta,
+						  final int ply,
+						  final boolean isPrincipalVariation,
+						  final boolean canAbort){
+		if(depth <= 0)
+			return quiescence(alpha, beta, ply, canAbort);
+
+		this.pvLength[ply] = 0;
+		if(canAbort && shouldAbort())
+			return 0;
+		this.nodes++;
+
+		final MoveList legalMoves = this.moveLists[ply];
+		MoveGenerator.generateLegalMoves(this.board, legalMoves);
+		if(legalMoves.isEmpty())
+			return this.board.isInCheck() ? -MATE_SCORE + ply : 0;
+
+		if(ply >= MAX_PLY - 1)
+			return evaluate();
+
+		//Only a stored bound that proves a cut off is used, an exact score inside the window would cut the variation short
+		final long zobristKey = this.board.getZobristKey();
+		final long entry = this.transpositionTable.probe(zobristKey);
+		if(entry != TranspositionTable.NO_ENTRY && ply > 0 && TranspositionTable.getDepth(entry) >= depth){
+			final int storedScore = scoreFromTable(TranspositionTable.getScore(entry), ply);
+			final int bound = TranspositionTable.getBound(entry);
+			if(((bound & TranspositionTable.LOWER_BOUND) != 0 && storedScore >= beta) ||
+			   ((bound & TranspositionTable.UPPER_BOUND) != 0 && storedScore <= alpha))
+				return storedScore;
+		}
+
+		final int principalMove = isPrincipalVariation && ply < this.previousPrincipalVariationLength ?
+				this.previousPrincipalVariation[ply] : PackedMove.NONE;
+		final int hashMove = entry == TranspositionTable.NO_ENTRY ? TranspositionTable.NO_MOVE : TranspositionTable.getMove(entry);
+
+		final int originalAlpha = alpha;
+		int bestScore = -INFINITY;
+		int bestMove = PackedMove.NONE;
+		final MovePicker movePicker = this.movePickers[ply];
+		movePicker.reset(this.board, legalMoves, principalMove, hashMove, ply, false);
+		for(int packedMove = movePicker.nextMove(); packedMove != PackedMove.NONE; packedMove = movePicker.nextMove()){
+			this.board.makeMove(packedMove);
+			final int score = -alphaBeta(depth - 1, -beta, -alpha, ply + 1, packedMove == principalMove, canAbort);
+			this.board.unmakeMove();
+			if(this.aborted)
+				return 0;
+
+			if(score > bestScore){
+				bestScore = score;
+				bestMove = packedMove;
+				if(score > alpha){
+					alpha = score;
+					updatePrincipalVariation(ply, packedMove);
+					if(alpha >= beta){
+						if(PackedMove.isQuiet(packedMove)){
+							this.history.addKiller(ply, packedMove);
+							this.history.addCutOff(this.board.getMoveMaker(), packedMove, depth);
+						}
+						break;
+					}
+				}
+			}
+		}
+
+		final int bound = bestScore >= beta ? TranspositionTable.LOWER_BOUND :
+						  bestScore > originalAlpha ? TranspositionTable.EXACT : TranspositionTable.UPPER_BOUND;
+		this.transpositionTable.store(zobristKey, bestMove,
+				scoreToTable(bestScore, ply), depth, bound);
+		return bestScore;
+	}
+
+	/***********************************************************************************
+	 * Searches only the captures and promotions until the position is quiet. The
+	 * player to move doesn't have to capture, so the evaluation of the board is a
+	 * score it can always stand pat on. Captures that couldn't raise the score to
+	 * alpha even winning the piece for free are pruned. In check every move is
+	 * searched, as standing pat isn't possible.
+	 * @param alpha
+	 * @param beta
+	 * @param ply
+	 * @param canAbort
+	 * @return int score
+	 ***********************************************************************************/
+	private int quiescence(int alpha,
+						   final int beta,
+						   final int ply,
+						   final boolean canAbort){
+		this.pvLength[ply] = 0;
+		if(canAbort && shouldAbort())
+			return 0;
+		this.quiescenceNodes++;
+
+		final MoveList legalMoves = this.moveLists[ply];
+		MoveGenerator.generateLegalMoves(this.board, legalMoves);
+		final boolean isInCheck = this.board.isInCheck();
+		if(legalMoves.isEmpty())
+			return isInCheck ? -MATE_SCORE + ply : 0;
+
+		final int standPat = evaluate();
+		if(ply >= MAX_PLY - 1)
+			return standPat;
+
+		int bestScore = -INFINITY;
+		if(!isInCheck){
+			if(standPat >= beta)
+				return standPat;
+			//Not even winning a Queen would be enough
+			if(standPat + PieceType.QUEEN.getPieceValue() + PROMOTION_GAIN + DELTA_MARGIN <= alpha)
+				return standPat;
+			bestScore = standPat;
+			alpha = Math.max(alpha, standPat);
+		}
+
+		//Out of check the picker leaves out the quiet moves and the captures that lose material
+		final MovePicker movePicker = this.movePickers[ply];
+		movePicker.reset(this.board, legalMoves, PackedMove.NONE, PackedMove.NONE, ply, !isInCheck);
+		for(int packedMove = movePicker.nextMove(); packedMove != PackedMove.NONE; packedMove = movePicker.nextMove()){
+			if(!isInCheck){
+				final PieceType captured = PackedMove.getCapturedPieceType(packedMove);
+				final int gain = (captured == null ? 0 : captured.getPieceValue()) +
+								 (PackedMove.isPromotion(packedMove) ? PROMOTION_GAIN : 0);
+				if(standPat + gain + DELTA_MARGIN <= alpha)
+					continue;
+			}
+
+			this.board.makeMove(packedMove);
+			final int score = -quiescence(-beta, -alpha, ply + 1, canAbort);
+			this.board.unmakeMove();
+			if(this.aborted)
+				return 0;
+
+			if(score > bestScore){
+				bestScore = score;
+				if(score > alpha){
+					alpha = score;
+					if(alpha >= beta)
+						break;
+				}
+			}
+		}
+		return bestScore;
+	}
+
+	/*************************************************************************
+	 * Mate scores count the plies from the root, the table keeps them as
+	 * plies from the stored position so they are right wherever it is found
+	 * @param score
+	 * @param ply
+	 * @return int score
+	 *************************************************************************/
+	private static int scoreToTable(final int score, final int ply){
+		if(!isMateScore(score))
+			return score;
+		return score > 0 ? score + ply : score - ply;
+	}
+
+	private static int scoreFromTable(final int score, final int ply){
+		if(!isMateScore(score))
+			return score;
+		return score > 0 ? score - ply : score + ply;
+	}
+
+	/*****************************************************************
+	 * Puts the move in front of the variation of the next ply
+	 * @param ply
+	 * @param move the PackedMove
+	 *****************************************************************/
+	private void updatePrincipalVariation(final int ply, final int move){
+		this.pvTable[ply][0] = move;
+		final int childLength = this.pvLength[ply + 1];
+		System.arraycopy(this.pvTable[ply + 1], 0, this.pvTable[ply], 1, childLength);
+		this.pvLength[ply] = childLength + 1;
+	}
+
+	/*****************************************************************
+	 * Turns the PackedMoves of the principal variation back into the
+	 * Moves of the boards they are played on
+	 * @param board the root board
+	 * @return List<Move> principalVariation
+	 *****************************************************************/
+	private List<Move> decodePrincipalVariation(final Board board){
+		final List<Move> principalVariation = new ArrayList<>(this.previousPrincipalVariationLength);
+		Board current = board;
+		for(int i = 0; i < this.previousPrincipalVariationLength; i++){
+			final Move move = PackedMove.decode(current, this.previousPrincipalVariation[i]);
+			if(move == Move.NULL_MOVE)
+				break;
+			principalVariation.add(move);
+			current = current.currentPlayer().makeMove(move).getToBoard();
+		}
+		return principalVariation;
+	}
+
+	/******************************************************************
+	 * Checks the limits every few nodes and remembers when one is hit
+	 * @return true if the search has to stop
+	 ******************************************************************/
+	private boolean shouldAbort(){
+		if(this.aborted)
+			return true;
+		final long totalNodes = this.nodes + this.quiescenceNodes;
+		if(this.stopRequested || totalNodes >= this.nodeLimit ||
+		   ((totalNodes & CHECK_INTERVAL_MASK) == 0 && System.nanoTime() - this.startTime >= this.timeLimitNanos))
+			this.aborted = true;
+		return this.aborted;
+	}
+
+	/********************************************************************
+	 * Scores the SearchBoard with the evaluator for the player to move
+	 * @return int score
+	 ********************************************************************/
+	private int evaluate(){
+		final int score = this.evaluator.evaluate(this.board);
+		return this.board.getMoveMaker().isWhite() ? score : -score;
+	}
+
+}
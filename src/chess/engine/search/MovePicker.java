@@ -0,0 +1,236 @@
+package chess.engine.search;
+
+import chess.engine.board.MoveList;
+import chess.engine.board.PackedMove;
+import chess.engine.board.SearchBoard;
+import chess.engine.board.StaticExchange;
+import chess.engine.pieces.Piece.PieceType;
+import chess.engine.pieces.Team;
+
+/*****************************************************************************************
+ * Hands the moves of a position to the search one at a time, in the order they are
+ * most likely to cause a cut off. The moves come in stages:
+ * 1. the move of the principal variation and the best move stored in the table,
+ * 2. the captures and promotions, the most valuable piece taken by the least valuable
+ *    one first (MVV-LVA),
+ * 3. the killer moves of the ply,
+ * 4. the other quiet moves, the ones with the most history first,
+ * 5. the captures the StaticExchange shows to lose material.
+ * Each stage is only sorted as far as the search takes moves from it, most nodes cut
+ * off after a move or two and never pay for sorting the rest.
+ * The search keeps one picker for every ply and resets it for each position, the stages
+ * are int arrays of PackedMoves big enough for any position, so picking moves doesn't
+ * allocate anything.
+ * @author Aaron Teague
+ * I was helped by the sites www.stackoverflow.com, www.stackexchange.com,
+ * and chessprogramming.wikispaces.com
+ *****************************************************************************************/
+public final class MovePicker {
+
+	private enum Stage {
+		FIRST_MOVES,
+		GOOD_CAPTURES,
+		KILLERS,
+		QUIET_MOVES,
+		BAD_CAPTURES,
+		DONE
+	}
+
+	private static final int PROMOTION_GAIN = PieceType.QUEEN.getPieceValue() - PieceType.PAWN.getPieceValue();
+
+	private final SearchHistory history;
+	//The array the static exchange is worked out in
+	private final int[] exchangeGains = new int[StaticExchange.MAX_EXCHANGE];
+
+	private final int[] firstMoves = new int[2];
+	private int numFirstMoves;
+	private final int[] captures = new int[MoveList.MAX_MOVES];
+	private final int[] captureScores = new int[MoveList.MAX_MOVES];
+	private int numCaptures;
+	private final int[] badCaptures = new int[MoveList.MAX_MOVES];
+	private int numBadCaptures;
+	private final int[] quietMoves = new int[MoveList.MAX_MOVES];
+	private final int[] quietScores = new int[MoveList.MAX_MOVES];
+	private int numQuietMoves;
+
+	private SearchBoard board;
+	private Team team;
+	private int ply;
+	//Only captures and promotions that don't lose material are picked, for the quiescence search
+	private boolean isCapturesOnly;
+	private Stage stage;
+	private int index;
+
+	/**************************************************
+	 * Creates the picker of a ply of the search
+	 * @param history the killers and history of the search
+	 **************************************************/
+	public MovePicker(final SearchHistory history){
+		this.history = history;
+	}
+
+	/**************************************************************************
+	 * Starts picking the moves of a position, the moves are only split into
+	 * the stages here. The board has to be in the same position every time
+	 * nextMove is called.
+	 * @param board
+	 * @param legalMoves
+	 * @param principalMove the PackedMove of the principal variation, or NONE
+	 * @param hashMove the PackedMove stored in the table, or NONE
+	 * @param ply
+	 * @param isCapturesOnly if the quiet and losing moves are left out
+	 **************************************************************************/
+	public void reset(final SearchBoard board,
+			   final MoveList legalMoves,
+			   final int principalMove,
+			   final int hashMove,
+			   final int ply,
+			   final boolean isCapturesOnly){
+		this.board = board;
+		this.team = board.getMoveMaker();
+		this.ply = ply;
+		this.isCapturesOnly = isCapturesOnly;
+		this.numFirstMoves = 0;
+		this.numCaptures = 0;
+		this.numBadCaptures = 0;
+		this.numQuietMoves = 0;
+		this.stage = Stage.FIRST_MOVES;
+		this.index = 0;
+
+		int hashMoveFound = PackedMove.NONE;
+		for(int i = 0; i < legalMoves.size(); i++){
+			final int packedMove = legalMoves.get(i);
+			if(principalMove != PackedMove.NONE && PackedMove.isSameMove(packedMove, principalMove)){
+				this.firstMoves[this.numFirstMoves++] = packedMove;
+			} else if(hashMove != PackedMove.NONE && PackedMove.isSameMove(packedMove, hashMove)){
+				hashMoveFound = packedMove;
+			} else if(!PackedMove.isQuiet(packedMove)){
+				this.captures[this.numCaptures] = packedMove;
+				this.captureScores[this.numCaptures++] = mvvLva(packedMove);
+			} else{
+				this.quietMoves[this.numQuietMoves++] = packedMove;
+			}
+		}
+		if(hashMoveFound != PackedMove.NONE)
+			this.firstMoves[this.numFirstMoves++] = hashMoveFound;
+	}
+
+	/********************************************************************
+	 * Returns the next move to search
+	 * @return int the next PackedMove, or NONE once every move was picked
+	 ********************************************************************/
+	public int nextMove(){
+		while(true){
+			switch(this.stage){
+				case FIRST_MOVES:
+					if(this.index < this.numFirstMoves){
+						final int packedMove = this.firstMoves[this.index++];
+						if(!this.isCapturesOnly || !PackedMove.isQuiet(packedMove))
+							return packedMove;
+						continue;
+					}
+					nextStage(Stage.GOOD_CAPTURES);
+					continue;
+				case GOOD_CAPTURES:
+					if(this.index < this.numCaptures){
+						selectBest(this.captures, this.captureScores, this.index, this.numCaptures);
+						final int packedMove = this.captures[this.index++];
+						if(StaticExchange.isWinningOrEqual(this.board, packedMove, this.exchangeGains))
+							return packedMove;
+						this.badCaptures[this.numBadCaptures++] = packedMove;
+						continue;
+					}
+					nextStage(this.isCapturesOnly ? Stage.DONE : Stage.KILLERS);
+					continue;
+				case KILLERS:
+					if(this.index < SearchHistory.NUM_KILLERS){
+						final int killer = takeQuietMove(this.history.getKiller(this.ply, this.index++));
+						if(killer != PackedMove.NONE)
+							return killer;
+						continue;
+					}
+					for(int i = 0; i < this.numQuietMoves; i++){
+						this.quietScores[i] = this.history.getHistory(this.team, this.quietMoves[i]);
+					}
+					nextStage(Stage.QUIET_MOVES);
+					continue;
+				case QUIET_MOVES:
+					if(this.index < this.numQuietMoves){
+						selectBest(this.quietMoves, this.quietScores, this.index, this.numQuietMoves);
+						return this.quietMoves[this.index++];
+					}
+					nextStage(Stage.BAD_CAPTURES);
+					continue;
+				case BAD_CAPTURES:
+					if(this.index < this.numBadCaptures)
+						return this.badCaptures[this.index++];
+					nextStage(Stage.DONE);
+					continue;
+				default:
+					return PackedMove.NONE;
+			}
+		}
+	}
+
+	private void nextStage(final Stage nextStage){
+		this.stage = nextStage;
+		this.index = 0;
+	}
+
+	/*******************************************************************
+	 * Takes the killer out of the quiet moves if it is one of them,
+	 * a killer from another position may not be legal in this one
+	 * @param killer
+	 * @return int the killer, or NONE
+	 *******************************************************************/
+	private int takeQuietMove(final int killer){
+		if(killer == PackedMove.NONE)
+			return PackedMove.NONE;
+		for(int i = 0; i < this.numQuietMoves; i++){
+			final int packedMove = this.quietMoves[i];
+			if(PackedMove.isSameMove(packedMove, killer)){
+				this.quietMoves[i] = this.quietMoves[--this.numQuietMoves];
+				return packedMove;
+			}
+		}
+		return PackedMove.NONE;
+	}
+
+	/*******************************************************************
+	 * Swaps the move with the highest score left to the start index,
+	 * one step of a selection sort
+	 * @param packedMoves
+	 * @param scores
+	 * @param start
+	 * @param end
+	 *******************************************************************/
+	private static void selectBest(final int[] packedMoves, final int[] scores, final int start, final int end){
+		int best = start;
+		for(int i = start + 1; i < end; i++){
+			if(scores[i] > scores[best])
+				best = i;
+		}
+		if(best == start)
+			return;
+		final int packedMove = packedMoves[best];
+		packedMoves[best] = packedMoves[start];
+		packedMoves[start] = packedMove;
+		final int score = scores[best];
+		scores[best] = scores[start];
+		scores[start] = score;
+	}
+
+	/*******************************************************************
+	 * Scores a capture by the value of the piece taken, then by the
+	 * value of the piece taking it the other way round
+	 * @param packedMove
+	 * @return int score
+	 *******************************************************************/
+	private static int mvvLva(final int packedMove){
+		final PieceType captured = PackedMove.getCapturedPieceType(packedMove);
+		final int victimValue = (captured == null ? 0 : captured.getPieceValue()) +
+								(PackedMove.isPromotion(packedMove) ? PROMOTION_GAIN : 0);
+		return victimValue * 100 - PackedMove.getMovedPieceType(packedMove).ordinal();
+	}
+
+}
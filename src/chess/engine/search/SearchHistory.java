@@ -0,0 +1,95 @@
+package chess.engine.search;
+
+import chess.engine.board.PackedMove;
+import chess.engine.pieces.Team;
+
+/*****************************************************************************************
+ * Remembers which quiet moves caused cut offs so the MovePicker can try them early in
+ * other positions. The killer moves are the last two quiet moves that caused a cut off
+ * at a ply, a move that refutes one move of the opponent often refutes its siblings as
+ * well. The history counts how deep the cut offs of every quiet move were, by Team and
+ * the tiles the move goes from and to, over the whole search.
+ * Moves are kept as PackedMoves so nothing is allocated.
+ * @author Aaron Teague
+ * I was helped by the sites www.stackoverflow.com, www.stackexchange.com,
+ * and chessprogramming.wikispaces.com
+ *****************************************************************************************/
+public final class SearchHistory {
+
+	public static final int NUM_KILLERS = 2;
+	//The history is halved once any score reaches this, so new cut offs still count
+	private static final int MAX_HISTORY = 1 << 20;
+
+	private final int[][] killers = new int[AlphaBetaSearch.MAX_PLY][NUM_KILLERS];
+	//Indexed by the from and to tiles of the move
+	private final int[][] history = new int[Team.values().length][64 * 64];
+
+	/*************************************************************
+	 * Adds the move as the newest killer of the ply, the oldest
+	 * killer is dropped
+	 * @param ply
+	 * @param move
+	 *************************************************************/
+	public void addKiller(final int ply, final int move){
+		final int[] plyKillers = this.killers[ply];
+		if(PackedMove.isSameMove(plyKillers[0], move))
+			return;
+		plyKillers[1] = plyKillers[0];
+		plyKillers[0] = move;
+	}
+
+	public int getKiller(final int ply, final int slot){
+		return this.killers[ply][slot];
+	}
+
+	/*************************************************************
+	 * Adds the cut off of a quiet move at the depth left
+	 * @param team
+	 * @param move
+	 * @param depth
+	 *************************************************************/
+	public void addCutOff(final Team team, final int move, final int depth){
+		final int[] teamHistory = this.history[team.ordinal()];
+		final int index = PackedMove.getFromToIndex(move);
+		teamHistory[index] += depth * depth;
+		if(teamHistory[index] >= MAX_HISTORY)
+			age();
+	}
+
+	public int getHistory(final Team team, final int move){
+		return this.history[team.ordinal()][PackedMove.getFromToIndex(move)];
+	}
+
+	/*******************************************************************
+	 * Halves the history, done when a new search starts so what the
+	 * last one learnt counts for less than what this one learns
+	 *******************************************************************/
+	public void age(){
+		for(final int[] teamHistory : this.history){
+			for(int i = 0; i < teamHistory.length; i++){
+				teamHistory[i] >>= 1;
+			}
+		}
+	}
+
+	/*******************************************
+	 * Forgets the killers and the whole history
+	 *******************************************/
+	public void clear(){
+		clearKillers();
+		for(final int[] teamHistory : this.history){
+			for(int i = 0; i < teamHistory.length; i++){
+				teamHistory[i] = 0;
+			}
+		}
+	}
+
+	public void clearKillers(){
+		for(final int[] plyKillers : this.killers){
+			for(int i = 0; i < plyKillers.length; i++){
+				plyKillers[i] = PackedMove.NONE;
+			}
+		}
+	}
+
+}
@@ -0,0 +1,102 @@
+package chess.engine.search;
+
+/**********************************************************************************
+ * Holds how far a search may go: a depth, a time in milliseconds and a number of
+ * nodes. The search stops at whichever limit it reaches first, a limit that isn't
+ * set never stops it. Created with the Builder.
+ * @author Aaron Teague
+ * I was helped by the sites www.stackoverflow.com, www.stackexchange.com,
+ * and chessprogramming.wikispaces.com
+ **********************************************************************************/
+public class SearchLimits {
+
+	//The deepest the search will ever go
+	public static final int MAX_DEPTH = 64;
+	//Marks a time or node limit that isn't set
+	public static final long UNLIMITED = Long.MAX_VALUE;
+
+	private final int depth;
+	private final long moveTimeMillis;
+	private final long nodes;
+
+	private SearchLimits(final Builder builder){
+		this.depth = builder.depth;
+		this.moveTimeMillis = builder.moveTimeMillis;
+		this.nodes = builder.nodes;
+	}
+
+	/***************************************************
+	 * Creates the limits of a search to a fixed depth
+	 * @param depth
+	 * @return SearchLimits
+	 ***************************************************/
+	public static SearchLimits depth(final int depth){
+		return new Builder().setDepth(depth).build();
+	}
+
+	public static SearchLimits moveTime(final long moveTimeMillis){
+		return new Builder().setMoveTime(moveTimeMillis).build();
+	}
+
+	public int getDepth(){
+		return this.depth;
+	}
+
+	public long getMoveTimeMillis(){
+		return this.moveTimeMillis;
+	}
+
+	public long getNodes(){
+		return this.nodes;
+	}
+
+	public boolean isTimeLimited(){
+		return this.moveTimeMillis != UNLIMITED;
+	}
+
+	@Override
+	public String toString(){
+		return "depth " + this.depth +
+			   (isTimeLimited() ? " movetime " + this.moveTimeMillis : "") +
+			   (this.nodes != UNLIMITED ? " nodes " + this.nodes : "");
+	}
+
+//<----------------------------------------------------------------------------------------------------------------------------------------------------------->
+	/*********************************************************************
+	 * Builder for the SearchLimits, every limit starts out as not set.
+	 * @author Aaron Teague
+	 *********************************************************************/
+	public static class Builder {
+
+		int depth = MAX_DEPTH;
+		long moveTimeMillis = UNLIMITED;
+		long nodes = UNLIMITED;
+
+		public Builder setDepth(final int depth){
+			if(depth < 1 || depth > MAX_DEPTH)
+				throw new RuntimeException("The depth has to be between 1 and " + MAX_DEPTH + "!");
+			this.depth = depth;
+			return this;
+		}
+
+		public Builder setMoveTime(final long moveTimeMillis){
+			if(moveTimeMillis < 0)
+				throw new RuntimeException("The move time can't be negative!");
+			this.moveTimeMillis = moveTimeMillis;
+			return this;
+		}
+
+		public Builder setNodes(final long nodes){
+			if(nodes < 1)
+				throw new RuntimeException("The node limit has to be at least 1!");
+			this.nodes = nodes;
+			return this;
+		}
+
+		public SearchLimits build(){
+			return new SearchLimits(this);
+		}
+	}
+//<----------------------------------------------------------------------------------------------------------------------------------------------------------->
+
+}
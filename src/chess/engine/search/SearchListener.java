@@ -0,0 +1,12 @@
+package chess.engine.search;
+
+/*******************************************************************
+ * Is told about every finished iteration of a search, so a GUI or
+ * a protocol can show the progress while the search goes on.
+ * @author Aaron Teague
+ *******************************************************************/
+public interface SearchListener {
+
+	void iterationFinished(SearchResult result);
+
+}
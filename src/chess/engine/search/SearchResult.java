@@ -0,0 +1,112 @@
+package chess.engine.search;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import com.google.common.collect.ImmutableList;
+
+import chess.engine.board.BoardUtils;
+import chess.engine.board.Move;
+
+/*********************************************************************************
+ * The result of one iteration of the search: the depth it finished, the score of
+ * the position for the player to move, the principal variation (the line both
+ * players are expected to play) and how many nodes were searched how fast. The nodes
+ * of the main search and of the quiescence search are counted apart.
+ * @author Aaron Teague
+ * I was helped by the sites www.stackoverflow.com, www.stackexchange.com,
+ * and chessprogramming.wikispaces.com
+ *********************************************************************************/
+public class SearchResult {
+
+	private final int depth;
+	private final int score;
+	private final List<Move> principalVariation;
+	private final long nodes;
+	private final long quiescenceNodes;
+	private final long elapsedNanos;
+
+	public SearchResult(final int depth,
+						final int score,
+						final List<Move> principalVariation,
+						final long nodes,
+						final long quiescenceNodes,
+						final long elapsedNanos){
+		this.depth = depth;
+		this.score = score;
+		this.principalVariation = ImmutableList.copyOf(principalVariation);
+		this.nodes = nodes;
+		this.quiescenceNodes = quiescenceNodes;
+		this.elapsedNanos = elapsedNanos;
+	}
+
+	public int getDepth(){
+		return this.depth;
+	}
+
+	/*************************************************************
+	 * Returns the score in centipawns for the player to move, or
+	 * a mate score, see AlphaBetaSearch.isMateScore
+	 * @return int score
+	 *************************************************************/
+	public int getScore(){
+		return this.score;
+	}
+
+	/***********************************************
+	 * Returns the first move of the variation
+	 * @return Move bestMove
+	 ***********************************************/
+	public Move getBestMove(){
+		return this.principalVariation.isEmpty() ? Move.NULL_MOVE : this.principalVariation.get(0);
+	}
+
+	public List<Move> getPrincipalVariation(){
+		return this.principalVariation;
+	}
+
+	/*****************************************************
+	 * Returns the nodes of the main and quiescence search
+	 * @return long nodes
+	 *****************************************************/
+	public long getNodes(){
+		return this.nodes + this.quiescenceNodes;
+	}
+
+	public long getMainNodes(){
+		return this.nodes;
+	}
+
+	public long getQuiescenceNodes(){
+		return this.quiescenceNodes;
+	}
+
+	public long getElapsedMillis(){
+		return TimeUnit.NANOSECONDS.toMillis(this.elapsedNanos);
+	}
+
+	/****************************************************
+	 * Returns the nodes searched every second
+	 * @return long nodesPerSecond
+	 ****************************************************/
+	public long getNodesPerSecond(){
+		return this.elapsedNanos == 0 ? 0L : getNodes() * TimeUnit.SECONDS.toNanos(1) / this.elapsedNanos;
+	}
+
+	@Override
+	public String toString(){
+		final StringBuilder builder = new StringBuilder();
+		builder.append("depth ").append(this.depth)
+			   .append(" score ").append(this.score)
+			   .append(" nodes ").append(getNodes())
+			   .append(" qnodes ").append(this.quiescenceNodes)
+			   .append(" time ").append(getElapsedMillis())
+			   .append(" nps ").append(getNodesPerSecond())
+			   .append(" pv");
+		for(final Move move : this.principalVariation){
+			builder.append(' ').append(BoardUtils.getCoordinateNotation(move));
+		}
+		return builder.toString();
+	}
+
+}
@@ -0,0 +1,195 @@
+package chess.engine.search;
+
+import chess.engine.board.PackedMove;
+
+/*****************************************************************************************
+ * Remembers what the search found out about a position so it doesn't have to be searched
+ * again when another move order reaches it. The table has a fixed power of two number of
+ * entries, so it never grows past the megabytes it was created with, and a position is
+ * found by the low bits of its Zobrist key.
+ * Every entry is two longs: the key XOR'd with the data, then the data. The data packs
+ * the low 16 bits of the best PackedMove, the score, the depth, the bound and the age of
+ * the search that stored it. Several search threads share one table without locks, a
+ * store that another thread overwrites halfway through no longer XORs back to the key
+ * and is read as a miss.
+ * @author Aaron Teague
+ * I was helped by the sites www.stackoverflow.com, www.stackexchange.com,
+ * and chessprogramming.wikispaces.com
+ *****************************************************************************************/
+public final class TranspositionTable {
+
+	public static final int DEFAULT_SIZE_MB = 16;
+	//2^29 entries of two longs, the JVM can't allocate a long[] of 2^31 elements
+	public static final int MAX_SIZE_MB = 8192;
+
+	//The score is at most beta, the real score may be lower
+	public static final int UPPER_BOUND = 1;
+	//The score is at least alpha, a move caused a cut off
+	public static final int LOWER_BOUND = 2;
+	//The score is exact, both bits set
+	public static final int EXACT = 3;
+
+	//Returned by probe when the position isn't in the table, no stored entry has a bound of 0
+	public static final long NO_ENTRY = 0L;
+	//The move of an entry without one
+	public static final int NO_MOVE = PackedMove.NONE;
+
+	private static final int BYTES_PER_ENTRY = 16;
+	private static final int LONGS_PER_ENTRY = 2;
+
+	//The layout of the data: move 16 bits, score 32 bits, depth 8 bits, bound 2 bits, age 6 bits
+	private static final int SCORE_SHIFT = 16;
+	private static final int DEPTH_SHIFT = 48;
+	private static final int BOUND_SHIFT = 56;
+	private static final int AGE_SHIFT = 58;
+	private static final long MOVE_MASK = 0xFFFFL;
+	private static final long DEPTH_MASK = 0xFFL;
+	private static final long BOUND_MASK = 0x3L;
+	private static final int AGE_MASK = 0x3F;
+
+	private final long[] entries;
+	private final long indexMask;
+	//Bumped by every new search so entries of old searches are replaced first
+	private volatile int age;
+
+	/**************************************************************************
+	 * Creates a table of the largest power of two number of entries that fits
+	 * in the megabytes passed in
+	 * @param sizeMb
+	 **************************************************************************/
+	public TranspositionTable(final int sizeMb){
+		this.entries = new long[getCapacity(sizeMb) * LONGS_PER_ENTRY];
+		this.indexMask = this.entries.length / LONGS_PER_ENTRY - 1;
+	}
+
+	public TranspositionTable(){
+		this(DEFAULT_SIZE_MB);
+	}
+
+	/**********************************************
+	 * Returns the number of entries in the table
+	 * @return int capacity
+	 **********************************************/
+	public int getCapacity(){
+		return this.entries.length / LONGS_PER_ENTRY;
+	}
+
+	/*******************************************************************
+	 * Returns the number of entries a table of the megabytes passed in
+	 * has, without creating it
+	 * @param sizeMb
+	 * @return int capacity
+	 *******************************************************************/
+	public static int getCapacity(final int sizeMb){
+		if(sizeMb < 1 || sizeMb > MAX_SIZE_MB)
+			throw new RuntimeException("The table size has to be between 1 and " + MAX_SIZE_MB + " MB!");
+		return (int)Long.highestOneBit(sizeMb * 1024L * 1024L / BYTES_PER_ENTRY);
+	}
+
+	/*******************************************************************
+	 * Starts a new search, entries stored before are now from an older
+	 * search and are the first to be replaced.
+	 *******************************************************************/
+	public void newSearch(){
+		this.age = (this.age + 1) & AGE_MASK;
+	}
+
+	/*******************************************************************
+	 * Returns the age of the current search, it wraps around after 63
+	 * @return int age
+	 *******************************************************************/
+	public int getAge(){
+		return this.age;
+	}
+
+	/*********************************
+	 * Empties the table
+	 *********************************/
+	public void clear(){
+		for(int i = 0; i < this.entries.length; i++){
+			this.entries[i] = 0L;
+		}
+		this.age = 0;
+	}
+
+	/******************************************************************
+	 * Looks the position up in the table
+	 * @param zobristKey
+	 * @return long the packed data of the entry, or NO_ENTRY
+	 ******************************************************************/
+	public long probe(final long zobristKey){
+		final int index = index(zobristKey);
+		final long data = this.entries[index + 1];
+		final long checkedKey = this.entries[index];
+		return (checkedKey ^ data) == zobristKey ? data : NO_ENTRY;
+	}
+
+	/*************************************************************************************
+	 * Stores what the search found out about a position. An entry already in the slot
+	 * is kept if it is from this search, searched deeper and for another position,
+	 * otherwise it is replaced.
+	 * @param zobristKey
+	 * @param move the best move as a PackedMove, or NO_MOVE
+	 * @param score
+	 * @param depth
+	 * @param bound UPPER_BOUND, LOWER_BOUND or EXACT
+	 *************************************************************************************/
+	public void store(final long zobristKey, final int move, final int score, final int depth, final int bound){
+		final int index = index(zobristKey);
+		final long storedData = this.entries[index + 1];
+		final boolean isSamePosition = (this.entries[index] ^ storedData) == zobristKey;
+		if(storedData != NO_ENTRY && !isSamePosition && getAge(storedData) == this.age && getDepth(storedData) > depth)
+			return;
+
+		//Keep the move already known for the position if this search didn't find one
+		final int bestMove = move == NO_MOVE && isSamePosition ? getMove(storedData) : move;
+		final long data = (bestMove & MOVE_MASK) |
+						  ((score & 0xFFFFFFFFL) << SCORE_SHIFT) |
+						  ((long)Math.min(Math.max(depth, 0), (int)DEPTH_MASK) << DEPTH_SHIFT) |
+						  ((bound & BOUND_MASK) << BOUND_SHIFT) |
+						  ((long)this.age << AGE_SHIFT);
+		this.entries[index] = zobristKey ^ data;
+		this.entries[index + 1] = data;
+	}
+
+	/*********************************************************************
+	 * Returns how many of the first thousand entries are from the current
+	 * search, as UCI reports it
+	 * @return int permill
+	 *********************************************************************/
+	public int getPermillFull(){
+		final int sample = Math.min(1000, getCapacity());
+		int used = 0;
+		for(int i = 0; i < sample; i++){
+			final long data = this.entries[i * LONGS_PER_ENTRY + 1];
+			if(data != NO_ENTRY && getAge(data) == this.age)
+				used++;
+		}
+		return used * 1000 / sample;
+	}
+
+	private int index(final long zobristKey){
+		return (int)(zobristKey & this.indexMask) * LONGS_PER_ENTRY;
+	}
+
+	public static int getMove(final long entry){
+		return (int)(entry & MOVE_MASK);
+	}
+
+	public static int getScore(final long entry){
+		return (int)(entry >>> SCORE_SHIFT);
+	}
+
+	public static int getDepth(final long entry){
+		return (int)((entry >>> DEPTH_SHIFT) & DEPTH_MASK);
+	}
+
+	public static int getBound(final long entry){
+		return (int)((entry >>> BOUND_SHIFT) & BOUND_MASK);
+	}
+
+	static int getAge(final long entry){
+		return (int)(entry >>> AGE_SHIFT) & AGE_MASK;
+	}
+
+}
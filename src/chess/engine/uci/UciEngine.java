@@ -0,0 +1,522 @@
+package chess.engine.uci;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.PrintStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import chess.engine.board.Board;
+import chess.engine.board.BoardUtils;
+import chess.engine.board.FenUtilities;
+import chess.engine.board.Move;
+import chess.engine.pieces.Team;
+import chess.engine.search.AlphaBetaSearch;
+import chess.engine.search.SearchLimits;
+import chess.engine.search.SearchListener;
+import chess.engine.search.SearchResult;
+import chess.engine.search.TranspositionTable;
+
+/*****************************************************************************************
+ * Runs the engine without the GUI over the Universal Chess Interface, the text protocol
+ * tournament managers use. Commands are read a line at a time from the input and the
+ * answers are written to the output, so the engine is driven over stdin and stdout.
+ * A go command starts the search on its own thread, so the commands that follow, like
+ * stop and isready, are answered while it runs. Every finished iteration is written as
+ * an info line and the move found as bestmove. A new go, position or setoption stops the
+ * search that is running first.
+ * The Hash option sets the megabytes of the TranspositionTable. The Threads option sets
+ * how many searches run at once: the helper searches search the same position and share
+ * the table with the main one, what they store cuts the main search short, and only the
+ * main search's result is played (Lazy SMP). Moves are read and written in coordinate
+ * notation like e2e4 and e7e8q.
+ * @author Aaron Teague
+ * I was helped by the sites www.stackoverflow.com, www.stackexchange.com,
+ * and chessprogramming.wikispaces.com
+ *****************************************************************************************/
+public final class UciEngine {
+
+	public static final String NAME = "Chess";
+	public static final String AUTHOR = "Aaron Teague";
+	public static final int MAX_THREADS = 64;
+	//Moves the remaining clock time is shared out over when the GUI doesn't say
+	private static final int DEFAULT_MOVES_TO_GO = 30;
+	//Kept off the clock for the time it takes the move to reach the GUI
+	private static final long MOVE_OVERHEAD_MILLIS = 50L;
+	//How often a search that has been asked to stop is asked again while it is waited for
+	private static final long STOP_POLL_MILLIS = 10L;
+
+	private final BufferedReader input;
+	private final PrintStream output;
+
+	private int hashSizeMb = TranspositionTable.DEFAULT_SIZE_MB;
+	private int threads = 1;
+	private TranspositionTable transpositionTable;
+	private AlphaBetaSearch mainSearch;
+	private List<AlphaBetaSearch> helperSearches;
+	private Board board = Board.createStandardBoard();
+
+	private Thread searchThread;
+	private boolean isInfinite;
+	//Guarded by this, set by stop and waited for by an infinite search before it answers
+	private boolean stopRequested;
+
+	/*****************************************************************
+	 * Creates the UciEngine object reading commands from the input
+	 * and writing the answers to the output
+	 * @param input
+	 * @param output
+	 *****************************************************************/
+	public UciEngine(final InputStream input, final PrintStream output){
+		this.input = new BufferedReader(new InputStreamReader(input, StandardCharsets.UTF_8));
+		this.output = output;
+		createSearches();
+	}
+
+	/*************************************************
+	 * Runs the engine over stdin and stdout
+	 * @param args
+	 * @throws IOException
+	 * @throws InterruptedException
+	 *************************************************/
+	public static void main(final String[] args) throws IOException, InterruptedException {
+		new UciEngine(System.in, System.out).run();
+	}
+
+	public TranspositionTable getTranspositionTable(){
+		return this.transpositionTable;
+	}
+
+	/*******************************************************************************
+	 * Reads and answers commands until quit or the end of the input. At the end
+	 * of the input a running search is allowed to finish and write its move, so
+	 * commands can be piped in from a file. An infinite search is stopped.
+	 * @throws IOException
+	 * @throws InterruptedException
+	 *******************************************************************************/
+	public void run() throws IOException, InterruptedException {
+		try {
+			for(String line = this.input.readLine(); line != null; line = this.input.readLine()){
+				if(!handleCommand(line.trim()))
+					return;
+			}
+			if(this.isInfinite)
+				stopSearch();
+			else if(this.searchThread != null)
+				this.searchThread.join();
+		} finally {
+			stopSearch();
+		}
+	}
+
+	/*****************************************************************
+	 * Answers one command, commands the engine doesn't know are
+	 * ignored as the protocol asks
+	 * @param line
+	 * @return false once quit is read
+	 * @throws InterruptedException
+	 *****************************************************************/
+	private boolean handleCommand(final String line) throws InterruptedException {
+		final String[] tokens = line.split("\\s+");
+		switch(tokens[0]){
+			case "uci":
+				send("id name " + NAME);
+				send("id author " + AUTHOR);
+				send("option name Hash type spin default " + TranspositionTable.DEFAULT_SIZE_MB +
+					 " min 1 max " + TranspositionTable.MAX_SIZE_MB);
+				send("option name Threads type spin default 1 min 1 max " + MAX_THREADS);
+				send("uciok");
+				break;
+			case "isready":
+				send("readyok");
+				break;
+			case "setoption":
+				stopSearch();
+				setOption(tokens);
+				break;
+			case "ucinewgame":
+				stopSearch();
+				newGame();
+				this.board = Board.createStandardBoard();
+				break;
+			case "position":
+				stopSearch();
+				setPosition(tokens);
+				break;
+			case "go":
+				stopSearch();
+				go(tokens);
+				break;
+			case "stop":
+				stopSearch();
+				break;
+			case "quit":
+				return false;
+			default:
+				break;
+		}
+		return true;
+	}
+
+	/************************************************************************
+	 * Reads setoption name <name> value <value>, the name can have spaces
+	 ************************************************************************/
+	private void setOption(final String[] tokens){
+		final int valueIndex = Arrays.asList(tokens).indexOf("value");
+		if(tokens.length < 3 || !tokens[1].equals("name") || valueIndex < 0 || valueIndex == tokens.length - 1){
+			sendInfoString("setoption needs a name and a value");
+			return;
+		}
+		final String name = join(tokens, 2, valueIndex);
+		final int value;
+		try {
+			value = Integer.parseInt(tokens[valueIndex + 1]);
+		} catch(final NumberFormatException e){
+			sendInfoString("the value of " + name + " has to be a number");
+			return;
+		}
+		if(name.equalsIgnoreCase("Hash")){
+			if(value < 1 || value > TranspositionTable.MAX_SIZE_MB){
+				sendInfoString("Hash has to be between 1 and " + TranspositionTable.MAX_SIZE_MB);
+				return;
+			}
+			final int previousSizeMb = this.hashSizeMb;
+			this.hashSizeMb = value;
+			try {
+				createSearches();
+			} catch(final OutOfMemoryError e){
+				//The old table was let go of first, one of its size fits again
+				this.hashSizeMb = previousSizeMb;
+				createSearches();
+				sendInfoString("not enough memory for a Hash of " + value + " MB, it stays " + previousSizeMb + " MB");
+			}
+		} else if(name.equalsIgnoreCase("Threads")){
+			if(value < 1 || value > MAX_THREADS){
+				sendInfoString("Threads has to be between 1 and " + MAX_THREADS);
+				return;
+			}
+			this.threads = value;
+			createHelperSearches();
+		} else {
+			sendInfoString("unknown option " + name);
+		}
+	}
+
+	/*****************************************************************
+	 * Creates the table and the searches sharing it, the searches
+	 * start without the killer moves and history of the old ones
+	 *****************************************************************/
+	private void createSearches(){
+		//The old table has to be let go of before the new one is made or both would be in memory
+		this.transpositionTable = null;
+		this.mainSearch = null;
+		this.helperSearches = null;
+		this.transpositionTable = new TranspositionTable(this.hashSizeMb);
+		this.mainSearch = new AlphaBetaSearch(this.transpositionTable);
+		this.mainSearch.addListener(new SearchListener(){
+			@Override
+			public void iterationFinished(final SearchResult result){
+				sendInfo(result);
+			}
+		});
+		createHelperSearches();
+	}
+
+	/*****************************************************************
+	 * Empties the table and forgets the killers and history, the
+	 * table is kept so a large Hash isn't allocated every game
+	 *****************************************************************/
+	private void newGame(){
+		this.transpositionTable.clear();
+		this.mainSearch.clearHistory();
+		for(final AlphaBetaSearch helper : this.helperSearches){
+			helper.clearHistory();
+		}
+	}
+
+	/*****************************************************************
+	 * Creates the helper searches of the Threads option, sharing the
+	 * table of the main search
+	 *****************************************************************/
+	private void createHelperSearches(){
+		this.helperSearches = new ArrayList<>();
+		for(int i = 1; i < this.threads; i++){
+			this.helperSearches.add(new AlphaBetaSearch(this.transpositionTable));
+		}
+	}
+
+	/*****************************************************************************
+	 * Reads position startpos or position fen <fen> followed by moves and the
+	 * moves played from it. An illegal move leaves the moves before it played.
+	 *****************************************************************************/
+	private void setPosition(final String[] tokens){
+		final int movesIndex = Arrays.asList(tokens).indexOf("moves");
+		final int end = movesIndex < 0 ? tokens.length : movesIndex;
+		Board position;
+		if(tokens.length > 1 && tokens[1].equals("startpos")){
+			position = Board.createStandardBoard();
+		} else if(tokens.length > 2 && tokens[1].equals("fen")){
+			try {
+				position = FenUtilities.createBoard(join(tokens, 2, end));
+			} catch(final RuntimeException e){
+				sendInfoString(e.getMessage());
+				return;
+			}
+		} else {
+			sendInfoString("position needs startpos or a fen");
+			return;
+		}
+		for(int i = end + 1; i < tokens.length; i++){
+			final Move move = findMove(position, tokens[i]);
+			if(move == Move.NULL_MOVE){
+				sendInfoString("illegal move " + tokens[i]);
+				break;
+			}
+			position = position.currentPlayer().makeMove(move).getToBoard();
+		}
+		this.board = position;
+	}
+
+	/*****************************************************************
+	 * Finds the legal move written in coordinate notation
+	 * @param board
+	 * @param notation
+	 * @return Move the move, or the NULL_MOVE if it isn't legal
+	 *****************************************************************/
+	private static Move findMove(final Board board, final String notation){
+		for(final Move move : board.currentPlayer().getLegalMoves()){
+			if(BoardUtils.getCoordinateNotation(move).equals(notation))
+				return move;
+		}
+		return Move.NULL_MOVE;
+	}
+
+	/*********************************************************************************
+	 * Reads the limits of the go command and starts the search on its own thread.
+	 * The clock times are turned into a time for this move, a go with no limits
+	 * or with infinite runs until stop.
+	 *********************************************************************************/
+	private void go(final String[] tokens){
+		final SearchLimits.Builder builder = new SearchLimits.Builder();
+		final boolean isWhite = this.board.currentPlayer().getTeam() == Team.WHITE;
+		long remaining = SearchLimits.UNLIMITED;
+		long increment = 0L;
+		int movesToGo = DEFAULT_MOVES_TO_GO;
+		boolean isLimited = false;
+		boolean infinite = false;
+		try {
+			for(int i = 1; i < tokens.length; i++){
+				final String token = tokens[i];
+				if(token.equals("infinite")){
+					infinite = true;
+					continue;
+				}
+				if(i == tokens.length - 1)
+					break;
+				switch(token){
+					case "depth":
+						builder.setDepth(Math.min(Integer.parseInt(tokens[++i]), SearchLimits.MAX_DEPTH));
+						isLimited = true;
+						break;
+					case "movetime":
+						builder.setMoveTime(Long.parseLong(tokens[++i]));
+						isLimited = true;
+						break;
+					case "nodes":
+						builder.setNodes(Long.parseLong(tokens[++i]));
+						isLimited = true;
+						break;
+					case "wtime":
+					case "btime":
+						if(token.equals("wtime") == isWhite)
+							remaining = Long.parseLong(tokens[i + 1]);
+						i++;
+						break;
+					case "winc":
+					case "binc":
+						if(token.equals("winc") == isWhite)
+							increment = Long.parseLong(tokens[i + 1]);
+						i++;
+						break;
+					case "movestogo":
+						movesToGo = Math.max(1, Integer.parseInt(tokens[++i]));
+						break;
+					default:
+						break;
+				}
+			}
+			if(remaining != SearchLimits.UNLIMITED){
+				builder.setMoveTime(allocateTime(remaining, increment, movesToGo));
+				isLimited = true;
+			}
+		} catch(final RuntimeException e){
+			sendInfoString("bad go command: " + e.getMessage());
+			return;
+		}
+		startSearch(this.board, builder.build(), infinite || !isLimited);
+	}
+
+	/*****************************************************************************
+	 * Shares the time on the clock out over the moves to go and adds most of the
+	 * increment, never using more than is on the clock
+	 * @param remaining milliseconds on the clock
+	 * @param increment milliseconds added every move
+	 * @param movesToGo moves until the next time control
+	 * @return long milliseconds for this move
+	 *****************************************************************************/
+	private static long allocateTime(final long remaining, final long increment, final int movesToGo){
+		final long share = remaining / movesToGo + increment * 3 / 4;
+		return Math.max(1L, Math.min(share, remaining - MOVE_OVERHEAD_MILLIS));
+	}
+
+	/*****************************************************************************
+	 * Starts the main search and the helpers. The table's age is advanced once
+	 * here, the searches don't advance it themselves so every thread's entries
+	 * are from the same search. When the main search is done the helpers are
+	 * stopped and bestmove is written, an infinite search waits for stop first
+	 * as the protocol asks.
+	 *****************************************************************************/
+	private void startSearch(final Board position, final SearchLimits limits, final boolean infinite){
+		final AlphaBetaSearch search = this.mainSearch;
+		final List<AlphaBetaSearch> helpers = this.helperSearches;
+		synchronized(this){
+			this.stopRequested = false;
+		}
+		this.isInfinite = infinite;
+		this.transpositionTable.newSearch();
+		this.searchThread = new Thread(new Runnable(){
+			@Override
+			public void run(){
+				final List<Thread> helperThreads = new ArrayList<>();
+				for(final AlphaBetaSearch helper : helpers){
+					final Thread helperThread = new Thread(new Runnable(){
+						@Override
+						public void run(){
+							helper.search(position, limits, false);
+						}
+					}, "UCI helper search");
+					helperThread.start();
+					helperThreads.add(helperThread);
+				}
+				try {
+					final SearchResult result = search.search(position, limits, false);
+					for(int i = 0; i < helperThreads.size(); i++){
+						stopAndJoin(helpers.get(i), helperThreads.get(i));
+					}
+					if(infinite)
+						waitForStop();
+					sendBestMove(result);
+				} catch(final InterruptedException e){
+					Thread.currentThread().interrupt();
+				}
+			}
+		}, "UCI search");
+		this.searchThread.start();
+	}
+
+	/*****************************************************************
+	 * Stops the running search and waits for it to write bestmove
+	 * @throws InterruptedException
+	 *****************************************************************/
+	private void stopSearch() throws InterruptedException {
+		if(this.searchThread == null)
+			return;
+		synchronized(this){
+			this.stopRequested = true;
+			notifyAll();
+		}
+		stopAndJoin(this.mainSearch, this.searchThread);
+		this.searchThread = null;
+		this.isInfinite = false;
+	}
+
+	private synchronized void waitForStop() throws InterruptedException {
+		while(!this.stopRequested){
+			wait();
+		}
+	}
+
+	/*****************************************************************************
+	 * Stops a search and waits for its thread. A search clears its stop flag
+	 * when it starts, so the thread may not have seen the first stop and it is
+	 * asked again until it is done.
+	 *****************************************************************************/
+	private static void stopAndJoin(final AlphaBetaSearch search, final Thread thread) throws InterruptedException {
+		while(thread.isAlive()){
+			search.stop();
+			thread.join(STOP_POLL_MILLIS);
+		}
+	}
+
+	/*****************************************************************************
+	 * Writes the info line of a finished iteration. The nodes are those of the
+	 * main search, the helpers' nodes can't be read while they run.
+	 *****************************************************************************/
+	private void sendInfo(final SearchResult result){
+		final StringBuilder info = new StringBuilder("info depth ").append(result.getDepth());
+		final int score = result.getScore();
+		if(AlphaBetaSearch.isMateScore(score)){
+			//Plies to mate turned into moves, negative when the engine is the one mated
+			final int plies = AlphaBetaSearch.MATE_SCORE - Math.abs(score);
+			info.append(" score mate ").append(Integer.signum(score) * ((plies + 1) / 2));
+		} else {
+			info.append(" score cp ").append(score);
+		}
+		info.append(" nodes ").append(result.getNodes())
+			.append(" nps ").append(result.getNodesPerSecond())
+			.append(" time ").append(result.getElapsedMillis())
+			.append(" hashfull ").append(this.transpositionTable.getPermillFull());
+		if(!result.getPrincipalVariation().isEmpty())
+			info.append(" pv");
+		for(final Move move : result.getPrincipalVariation()){
+			info.append(' ').append(BoardUtils.getCoordinateNotation(move));
+		}
+		send(info.toString());
+	}
+
+	/*****************************************************************
+	 * Writes the move to play and the reply expected to it, 0000 if
+	 * there is no legal move
+	 *****************************************************************/
+	private void sendBestMove(final SearchResult result){
+		final List<Move> principalVariation = result == null ? new ArrayList<Move>() : result.getPrincipalVariation();
+		if(principalVariation.isEmpty()){
+			send("bestmove 0000");
+			return;
+		}
+		final StringBuilder bestMove = new StringBuilder("bestmove ").append(BoardUtils.getCoordinateNotation(principalVariation.get(0)));
+		if(principalVariation.size() > 1)
+			bestMove.append(" ponder ").append(BoardUtils.getCoordinateNotation(principalVariation.get(1)));
+		send(bestMove.toString());
+	}
+
+	private void sendInfoString(final String message){
+		send("info string " + message);
+	}
+
+	/*****************************************************************
+	 * Writes a line and flushes it, the GUI waits for whole lines.
+	 * Lines come from the command and the search threads.
+	 *****************************************************************/
+	private void send(final String line){
+		synchronized(this.output){
+			this.output.println(line);
+			this.output.flush();
+		}
+	}
+
+	private static String join(final String[] tokens, final int from, final int to){
+		final StringBuilder joined = new StringBuilder();
+		for(int i = from; i < to; i++){
+			if(i > from)
+				joined.append(' ');
+			joined.append(tokens[i]);
+		}
+		return joined.toString();
+	}
+
+}
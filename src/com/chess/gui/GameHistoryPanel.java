@@ -11,7 +11,6 @@ import javax.swing.JScrollPane;
 import javax.swing.JTable;
 import javax.swing.table.DefaultTableModel;
 
-import chess.engine.board.Board;
 import chess.engine.board.Move;
 
 
@@ -42,53 +41,30 @@ public class GameHistoryPanel extends JPanel{
 	}
 	
 	/*******************************************************************
-	 * Updates/draws the Game History Panel
-	 * @param board
+	 * Updates/draws the Game History Panel. The SAN of every move was
+	 * written once when it was added to the log, with its check or
+	 * mate marker, so nothing is worked out again here.
 	 * @param moveHistory
 	 ********************************************************************/
-	void redo(final Board board, final Table.MoveLog moveHistory){
+	void redo(final Table.MoveLog moveHistory){
 		int currentRow = 0;
 		this.model.clear();
-		for(final Move move : moveHistory.getMoves()){
-			final String moveText = move.toString();
-			if(move.getMovedPiece().getPieceTeam().isWhite()){
-				this.model.setValueAt(moveText, currentRow, 0);
-			} else if(move.getMovedPiece().getPieceTeam().isBlack()){
-				this.model.setValueAt(moveText, currentRow, 1);
+		final List<Move> moves = moveHistory.getMoves();
+		final List<String> sanMoves = moveHistory.getSanMoves();
+		for(int i = 0; i < moves.size(); i++){
+			if(moves.get(i).getMovedPiece().getPieceTeam().isWhite()){
+				this.model.setValueAt(sanMoves.get(i), currentRow, 0);
+			} else {
+				this.model.setValueAt(sanMoves.get(i), currentRow, 1);
 				currentRow++;
 			}
 		}
 		
-		if(moveHistory.getMoves().size() > 0){
-			final Move lastMove = moveHistory.getMoves().get(moveHistory.size() - 1);
-			final String moveText = lastMove.toString();
-			
-			if(lastMove.getMovedPiece().getPieceTeam().isWhite()){
-				this.model.setValueAt(moveText + calculateCheckAndCheckMateHash(board), currentRow, 0);
-			}else if(lastMove.getMovedPiece().getPieceTeam().isBlack()){
-				this.model.setValueAt(moveText + calculateCheckAndCheckMateHash(board), currentRow -1, 1);
-				
-			}
-			
+		if(moves.size() > 0){
 			final JScrollBar vertical = scrollPane.getVerticalScrollBar();
 			vertical.setValue(vertical.getMaximum());
-			
 		}
 	}
-	
-	/*******************************************************************
-	 * Checks if the Current player is either check mate or check and
-	 * returns the correct symbol
-	 * @param board
-	 * @return String
-	 *******************************************************************/
-	private String calculateCheckAndCheckMateHash(final Board board) {
-		if(board.currentPlayer().isInCheckMate())
-			return "#";
-		else if(board.currentPlayer().isInCheck())
-			return "+";
-		return "";
-	}
 
 //<------------------------------------------------------------------------------------------------------------------------------------------------------------>
 	
@@ -13,17 +13,22 @@ import java.awt.image.BufferedImage;
 import java.io.File;
 import java.io.IOException;
 import java.util.*;
+import java.util.concurrent.ExecutionException;
 
 import javax.imageio.ImageIO;
 import javax.swing.ImageIcon;
 import javax.swing.JCheckBoxMenuItem;
+import javax.swing.JFileChooser;
 import javax.swing.JFrame;
 import javax.swing.JLabel;
 import javax.swing.JMenu;
 import javax.swing.JMenuBar;
 import javax.swing.JMenuItem;
+import javax.swing.JOptionPane;
 import javax.swing.JPanel;
 import javax.swing.SwingUtilities;
+import javax.swing.SwingWorker;
+import javax.swing.filechooser.FileNameExtensionFilter;
 
 
 
@@ -35,7 +40,10 @@ import com.google.common.collect.Lists;
 import chess.engine.board.Board;
 import chess.engine.board.BoardUtils;
 import chess.engine.board.Move;
+import chess.engine.board.SanUtilities;
 import chess.engine.board.Tile;
+import chess.engine.pgn.PgnGame;
+import chess.engine.pgn.PgnReader;
 import chess.engine.pieces.Piece;
 import chess.engine.player.MoveTransition;
 
@@ -105,7 +113,10 @@ public class Table {
 			
 			@Override
 			public void actionPerformed(ActionEvent e){
-				System.out.println("Open PGN File");
+				final JFileChooser chooser = new JFileChooser();
+				chooser.setFileFilter(new FileNameExtensionFilter("PGN Files", "pgn"));
+				if(chooser.showOpenDialog(gameFrame) == JFileChooser.APPROVE_OPTION)
+					loadPGNFile(chooser.getSelectedFile());
 			}
 			
 		});
@@ -124,6 +135,56 @@ public class Table {
 		return fileMenu;
 	}
 	
+	/************************************************************************
+	 * Loads the first game of a PGN file onto the board. The file is read
+	 * and the game replayed off the event thread, only the first game is
+	 * read however large the file is.
+	 * @param pgnFile
+	 ************************************************************************/
+	private void loadPGNFile(final File pgnFile){
+		final List<MoveTransition> loadedTransitions = new ArrayList<>();
+		new SwingWorker<Board, Void>() {
+
+			@Override
+			protected Board doInBackground() throws IOException {
+				try(final PgnReader reader = new PgnReader(pgnFile.toPath())){
+					final PgnGame game = reader.readGame();
+					if(game == null)
+						throw new RuntimeException("There are no games in " + pgnFile.getName());
+					Board board = game.createStartBoard();
+					for(final MoveTransition transition : game.replay()){
+						loadedTransitions.add(transition);
+						board = transition.getToBoard();
+					}
+					return board;
+				}
+			}
+
+			@Override
+			protected void done() {
+				try {
+					chessBoard = get();
+				} catch (final InterruptedException | ExecutionException e) {
+					final Throwable cause = e.getCause() == null ? e : e.getCause();
+					JOptionPane.showMessageDialog(gameFrame, "Can't load " + pgnFile.getName() + ": " + cause.getMessage(),
+												  "Load PGN File", JOptionPane.ERROR_MESSAGE);
+					return;
+				}
+				moveLog.clear();
+				for(final MoveTransition transition : loadedTransitions){
+					moveLog.addMove(transition.getTransitionMove(), transition.getToBoard());
+				}
+				sourceTile = null;
+				destinationTile = null;
+				humanMovedPiece = null;
+				gameHistoryPanel.redo(moveLog);
+				graveyardPanel.redo(moveLog);
+				boardPanel.drawBoard(chessBoard);
+			}
+
+		}.execute();
+	}
+	
 	private JMenu createPreferencesMenu(){
 		
 		final JMenu preferencesMenu = new JMenu("Preferences");
@@ -254,17 +315,31 @@ public class Table {
 	
 	public static class MoveLog {
 		private final List<Move> moves;
+		//The SAN of each move, in the same order as the moves
+		private final List<String> sanMoves;
 		
 		MoveLog(){
 			this.moves = new ArrayList<>();
+			this.sanMoves = new ArrayList<>();
 		}
 		
 		public List<Move> getMoves(){
 			return this.moves;
 		}
 		
-		public void addMove(final Move move){
+		public List<String> getSanMoves(){
+			return this.sanMoves;
+		}
+		
+		/*************************************************************
+		 * Adds a move and writes its SAN once, from the legal moves
+		 * the boards before and after it have calculated already
+		 * @param move
+		 * @param toBoard the board after the move
+		 *************************************************************/
+		public void addMove(final Move move, final Board toBoard){
 			this.moves.add(move);
+			this.sanMoves.add(SanUtilities.createSan(move, toBoard));
 		}
 		
 		public int size(){
@@ -273,14 +348,20 @@ public class Table {
 		
 		public void clear(){
 			this.moves.clear();
+			this.sanMoves.clear();
 		}
 		
 		public Move removeMove(int index){
+			this.sanMoves.remove(index);
 			return this.moves.remove(index);
 		}
 		
 		public boolean removeMove(final Move move){
-			return this.moves.remove(move);
+			final int index = this.moves.indexOf(move);
+			if(index < 0)
+				return false;
+			removeMove(index);
+			return true;
 		}
 	}
 	
@@ -337,7 +418,7 @@ public class Table {
 								//If the transition's move status is done then we know we can execute the move
 								if(transition.getMoveStatus().isDone()){
 									chessBoard = transition.getToBoard();
-									moveLog.addMove(move);
+									moveLog.addMove(move, chessBoard);
 								}
 								
 								//Clear the state of the board
@@ -350,7 +431,7 @@ public class Table {
 
 								@Override
 								public void run() {
-									gameHistoryPanel.redo(chessBoard, moveLog);
+									gameHistoryPanel.redo(moveLog);
 									graveyardPanel.redo(moveLog);
 									boardPanel.drawBoard(chessBoard);
 								}